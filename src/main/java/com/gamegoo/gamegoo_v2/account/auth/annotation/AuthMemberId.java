@@ -0,0 +1,19 @@
+package com.gamegoo.gamegoo_v2.account.auth.annotation;
+
+import io.swagger.v3.oas.annotations.Parameter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * access token의 회원 id를 주입하는 어노테이션
+ * Member 엔티티가 필요 없는 API에서 사용하며, 회원 조회 쿼리가 발생하지 않는다
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Parameter(hidden = true)
+public @interface AuthMemberId {
+
+}
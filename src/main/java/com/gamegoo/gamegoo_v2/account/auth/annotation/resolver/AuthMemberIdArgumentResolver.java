@@ -0,0 +1,52 @@
+package com.gamegoo.gamegoo_v2.account.auth.annotation.resolver;
+
+import com.gamegoo.gamegoo_v2.account.auth.annotation.AuthMemberId;
+import com.gamegoo.gamegoo_v2.account.member.service.MemberExistenceCache;
+import com.gamegoo.gamegoo_v2.core.exception.JwtAuthException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+@RequiredArgsConstructor
+public class AuthMemberIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final MemberExistenceCache memberExistenceCache;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        // @AuthMemberId 어노테이션이 붙어 있는지 여부
+        boolean hasParameterAnnotation = parameter.hasParameterAnnotation(AuthMemberId.class);
+
+        // 파라미터 타입이 Long 클래스인지 여부
+        boolean hasLongClass = Long.class.isAssignableFrom(parameter.getParameterType());
+
+        return hasParameterAnnotation && hasLongClass;
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
+
+        // JwtInterceptor에서 검증 후 저장한 memberId 사용
+        Long memberId = (Long) request.getAttribute("memberId");
+        if (memberId == null) {
+            throw new JwtAuthException(ErrorCode.MEMBER_EXTRACTION_FAILED);
+        }
+
+        // Member 엔티티는 로딩하지 않고, 탈퇴 후 삭제된 회원의 토큰인지만 캐시를 통해 확인
+        if (!memberExistenceCache.exists(memberId)) {
+            throw new JwtAuthException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+
+        return memberId;
+    }
+
+}
@@ -3,6 +3,7 @@ package com.gamegoo.gamegoo_v2.account.auth.jwt;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gamegoo.gamegoo_v2.core.common.ApiResponse;
 import com.gamegoo.gamegoo_v2.core.exception.JwtAuthException;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -24,11 +25,11 @@ public class JwtInterceptor implements HandlerInterceptor {
             // request에서 access token 추출
             String accessToken = jwtProvider.resolveToken(request);
 
-            // access token 값 검증
-            jwtProvider.validateToken(accessToken);
+            // access token 값 검증 및 claims 추출
+            Claims claims = jwtProvider.validateAndGetClaims(accessToken);
 
-            // access token에서 memberId 추출
-            Long memberId = jwtProvider.getMemberId(accessToken);
+            // claims에서 memberId 추출
+            Long memberId = jwtProvider.getMemberId(claims);
 
             // request 객체에 값 저장
             request.setAttribute("memberId", memberId);
@@ -4,6 +4,7 @@ import com.gamegoo.gamegoo_v2.core.exception.JwtAuthException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -21,6 +22,7 @@ import java.util.Date;
 public class JwtProvider {
 
     private final SecretKey key;
+    private final JwtParser jwtParser;
     private final long accessTokenExpTime;
 
     @Value("${jwt.refresh_expiration_day}")
@@ -34,6 +36,10 @@ public class JwtProvider {
             @Value("${jwt.access_expiration_time}") long accessTokenExpTime) {
         key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm());
+        // parser는 thread-safe 하므로 한 번만 생성해 재사용
+        jwtParser = Jwts.parser()
+                .verifyWith(key) // 서명 키 설정
+                .build();
         this.accessTokenExpTime = accessTokenExpTime;
     }
 
@@ -77,7 +83,17 @@ public class JwtProvider {
      * @return
      */
     public Long getMemberId(String token) {
-        return parseClaims(token).get("memberId", Long.class);
+        return getMemberId(parseClaims(token));
+    }
+
+    /**
+     * 검증된 claims에서 memberId 추출 메소드
+     *
+     * @param claims
+     * @return
+     */
+    public Long getMemberId(Claims claims) {
+        return claims.get("memberId", Long.class);
     }
 
     /**
@@ -109,12 +125,20 @@ public class JwtProvider {
      * @return IsValidate
      */
     public boolean validateToken(String token) {
+        validateAndGetClaims(token);
+        return true;
+    }
+
+    /**
+     * JWT 검증 후 Claims 반환 메소드
+     * 서명 검증을 한 번만 수행하므로, 검증과 claim 추출이 모두 필요한 경우 사용
+     *
+     * @param token
+     * @return JWT Claims
+     */
+    public Claims validateAndGetClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key) // 서명 키 설정
-                    .build()
-                    .parse(token);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (io.jsonwebtoken.security.SecurityException e) {
             throw new JwtAuthException(ErrorCode.INVALID_SIGNATURE);
         } catch (MalformedJwtException e) {
@@ -156,11 +180,7 @@ public class JwtProvider {
      */
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parser()
-                    .verifyWith(key) // 서명 키 설정
-                    .build()
-                    .parseSignedClaims(accessToken)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(accessToken).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -3,6 +3,7 @@ package com.gamegoo.gamegoo_v2.account.member.domain;
 import com.gamegoo.gamegoo_v2.core.common.BaseDateTimeEntity;
 import com.gamegoo.gamegoo_v2.notification.domain.Notification;
 import com.gamegoo.gamegoo_v2.social.friend.domain.Friend;
+import com.gamegoo.gamegoo_v2.utils.SortKeyUtil;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -57,6 +58,14 @@ public class Member extends BaseDateTimeEntity {
     @Column(nullable = false, length = 100)
     private String gameName;
 
+    // 소환사명 정렬 키 (한글 -> 영문자 -> 숫자 순)
+    @Column(length = 500)
+    private String gameNameSortKey;
+
+    // 안읽은 알림 개수, 알림 생성/읽음/삭제 시 update 쿼리로만 변경된다
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    private int unreadNotificationCount;
+
     @Column(nullable = false, length = 100)
     private String tag;
 
@@ -129,6 +138,7 @@ public class Member extends BaseDateTimeEntity {
         this.profileImage = profileImage;
         this.loginType = loginType;
         this.gameName = gameName;
+        this.gameNameSortKey = SortKeyUtil.gameNameSortKey(gameName);
         this.tag = tag;
         this.tier = tier;
         this.gameRank = gameRank;
@@ -2,6 +2,9 @@ package com.gamegoo.gamegoo_v2.account.member.repository;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -11,4 +14,29 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmail(String email);
 
+    @Query("SELECT m.unreadNotificationCount FROM Member m WHERE m.id = :memberId")
+    Integer findUnreadNotificationCount(@Param("memberId") Long memberId);
+
+    // 엔티티 flush 시 덮어쓰지 않도록 insertable, updatable = false로 매핑된 컬럼이므로 native 쿼리로 변경
+    @Modifying
+    @Query(value = """
+            UPDATE member SET unread_notification_count = unread_notification_count + 1
+            WHERE member_id = :memberId
+            """, nativeQuery = true)
+    int increaseUnreadNotificationCount(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = """
+            UPDATE member SET unread_notification_count = unread_notification_count - 1
+            WHERE member_id = :memberId AND unread_notification_count > 0
+            """, nativeQuery = true)
+    int decreaseUnreadNotificationCount(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = """
+            UPDATE member SET unread_notification_count = GREATEST(unread_notification_count - :count, 0)
+            WHERE member_id = :memberId
+            """, nativeQuery = true)
+    int decreaseUnreadNotificationCount(@Param("memberId") Long memberId, @Param("count") long count);
+
 }
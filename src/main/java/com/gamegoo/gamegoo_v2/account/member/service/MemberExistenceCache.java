@@ -0,0 +1,69 @@
+package com.gamegoo.gamegoo_v2.account.member.service;
+
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 회원 존재 여부 캐시
+ * 인증된 요청마다 탈퇴 후 삭제된 회원의 토큰인지 db 조회 없이 확인하기 위해, 존재하는 것으로 확인된 회원 id를 메모리에 유지한다
+ * 존재하지 않는 회원은 캐시하지 않으며, 회원 삭제 시 evict로 제거해야 한다
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberExistenceCache {
+
+    private final MemberRepository memberRepository;
+
+    // 캐시를 유지할 최대 회원 수, 초과 시 가장 오래 사용되지 않은 회원부터 제거
+    private static final int MAX_CACHED_MEMBERS = 10_000;
+
+    // 다른 서버에서 삭제된 회원이 반영되도록 일정 시간이 지난 캐시는 다시 확인
+    private static final long TTL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    // 회원 id, 존재를 확인한 시각
+    private final Map<Long, Long> verifiedAt = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                    return size() > MAX_CACHED_MEMBERS;
+                }
+            });
+
+    /**
+     * 회원 존재 여부 반환
+     *
+     * @param memberId 회원 id
+     * @return 존재 여부
+     */
+    public boolean exists(Long memberId) {
+        Long cachedAt = verifiedAt.get(memberId);
+        if (cachedAt != null && System.nanoTime() - cachedAt <= TTL_NANOS) {
+            return true;
+        }
+
+        // Member 엔티티는 로딩하지 않고 pk 조회로 확인
+        if (!memberRepository.existsById(memberId)) {
+            verifiedAt.remove(memberId);
+            return false;
+        }
+
+        verifiedAt.put(memberId, System.nanoTime());
+        return true;
+    }
+
+    /**
+     * 회원의 캐시 제거
+     *
+     * @param memberId 회원 id
+     */
+    public void evict(Long memberId) {
+        verifiedAt.remove(memberId);
+    }
+
+}
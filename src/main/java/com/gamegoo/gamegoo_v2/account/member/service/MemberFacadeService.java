@@ -9,7 +9,7 @@ import com.gamegoo.gamegoo_v2.account.member.dto.request.ProfileImageRequest;
 import com.gamegoo.gamegoo_v2.account.member.dto.response.MyProfileResponse;
 import com.gamegoo.gamegoo_v2.account.member.dto.response.OtherProfileResponse;
 import com.gamegoo.gamegoo_v2.game.domain.GameStyle;
-import com.gamegoo.gamegoo_v2.social.block.service.BlockService;
+import com.gamegoo.gamegoo_v2.social.friend.domain.RelationshipStatus;
 import com.gamegoo.gamegoo_v2.social.friend.service.FriendService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,7 +24,6 @@ public class MemberFacadeService {
 
     private final MemberService memberService;
     private final FriendService friendService;
-    private final BlockService blockService;
 
     /**
      * 내 프로필 조회
@@ -55,15 +54,11 @@ public class MemberFacadeService {
         double mannerRank = 1.0;
         long mannerRatingCount = 1L;
 
-        // 친구 정보 얻기
-        boolean isFriend = friendService.isFriend(member, targetMember);
-        Long friendRequestMemberId = friendService.getFriendRequestMemberId(member, targetMember);
+        // 친구 여부, 친구 요청, 차단 여부 조회
+        RelationshipStatus relationship = friendService.getRelationshipStatus(member, targetMember);
 
-        // 차단된 사용자인지 확인
-        boolean isBlocked = blockService.isBlocked(member, targetMember);
-
-        return OtherProfileResponse.of(targetMember, mannerRank, mannerRatingCount, isFriend, friendRequestMemberId,
-                isBlocked);
+        return OtherProfileResponse.of(targetMember, mannerRank, mannerRatingCount, relationship.isFriend(),
+                relationship.getFriendRequestMemberId(), relationship.isBlocked());
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.gamegoo.gamegoo_v2.chat.controller;
 
 import com.gamegoo.gamegoo_v2.account.auth.annotation.AuthMember;
+import com.gamegoo.gamegoo_v2.account.auth.annotation.AuthMemberId;
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.chat.dto.request.ChatCreateRequest;
 import com.gamegoo.gamegoo_v2.chat.dto.response.ChatCreateResponse;
@@ -91,8 +92,8 @@ public class ChatController {
 
     @Operation(summary = "안읽은 채팅방 uuid 목록 조회 API", description = "안읽은 메시지가 속한 채팅방의 uuid 목록을 조회하는 API 입니다.")
     @GetMapping("/chat/unread")
-    public ApiResponse<List<String>> getUnreadChatroomUuid(@AuthMember Member member) {
-        return ApiResponse.ok(chatFacadeService.getUnreadChatroomUuids(member));
+    public ApiResponse<List<String>> getUnreadChatroomUuid(@AuthMemberId Long memberId) {
+        return ApiResponse.ok(chatFacadeService.getUnreadChatroomUuids(memberId));
     }
 
     @Operation(summary = "채팅 메시지 읽음 처리 API", description = "특정 채팅방의 메시지를 읽음 처리하는 API 입니다.")
@@ -112,10 +113,15 @@ public class ChatController {
         return ApiResponse.ok(chatFacadeService.exitChatroom(member, chatroomUuid));
     }
 
-    @Operation(summary = "채팅방 목록 조회 API", description = "회원이 속한 채팅방 목록을 조회하는 API 입니다.")
+    @Operation(summary = "채팅방 목록 조회 API", description = "회원이 속한 채팅방 목록을 조회하는 API 입니다. 마지막 메시지 최신순으로 정렬해 제공합니다.\n\n" +
+            "한 번에 최대 20개 채팅방을 조회하며, cursor를 보내지 않으면 상위 20개 채팅방 목록을 조회합니다.\n\n" +
+            "hasNext가 true인 경우 응답받은 nextCursor를 cursor로 보내 다음 페이지를 조회해주세요.")
+    @Parameter(name = "cursor", description = "페이징을 위한 커서, 이전 채팅방 목록 조회에서 응답받은 nextCursor 문자열을 그대로 보내주세요.")
     @GetMapping("/chatroom")
-    public ApiResponse<ChatroomListResponse> getChatroom(@AuthMember Member member) {
-        return ApiResponse.ok(chatFacadeService.getChatrooms(member));
+    public ApiResponse<ChatroomListResponse> getChatroom(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @AuthMember Member member) {
+        return ApiResponse.ok(chatFacadeService.getChatrooms(member, cursor));
     }
 
 }
@@ -10,8 +10,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,6 +23,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_chat_chatroom_created_at", columnList = "chatroom_id, created_at"),
+        @Index(name = "idx_chat_chatroom_timestamp", columnList = "chatroom_id, timestamp")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Chat extends BaseDateTimeEntity {
 
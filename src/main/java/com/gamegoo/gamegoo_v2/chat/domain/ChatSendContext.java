@@ -0,0 +1,41 @@
+package com.gamegoo.gamegoo_v2.chat.domain;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 전송에 필요한 채팅방, 두 회원의 MemberChatroom, 서로의 차단 여부를 한 번에 조회한 결과
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChatSendContext {
+
+    private final MemberChatroom memberChatroom;
+    private final MemberChatroom targetMemberChatroom;
+
+    // 회원이 상대 회원을 차단했는지 여부
+    private final boolean targetBlocked;
+
+    // 상대 회원이 회원을 차단했는지 여부
+    private final boolean blockedByTarget;
+
+    public static ChatSendContext of(MemberChatroom memberChatroom, MemberChatroom targetMemberChatroom,
+                                     boolean targetBlocked, boolean blockedByTarget) {
+        return new ChatSendContext(memberChatroom, targetMemberChatroom, targetBlocked, blockedByTarget);
+    }
+
+    public Chatroom getChatroom() {
+        return memberChatroom.getChatroom();
+    }
+
+    public Member getMember() {
+        return memberChatroom.getMember();
+    }
+
+    public Member getTargetMember() {
+        return targetMemberChatroom.getMember();
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.gamegoo.gamegoo_v2.chat.domain;
+
+import com.gamegoo.gamegoo_v2.core.exception.ChatException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 채팅방 목록 keyset 페이징 커서
+ * 이전 페이지 마지막 채팅방의 (정렬 키, 채팅방 id)를 담아, 다음 페이지 조회 시 커서 채팅방을 다시 조회하지 않는다
+ *
+ * @param lastActivityAt 이전 페이지 마지막 채팅방의 정렬 키
+ * @param chatroomId     이전 페이지 마지막 채팅방 id
+ */
+public record ChatroomCursor(LocalDateTime lastActivityAt, Long chatroomId) {
+
+    private static final String DELIMITER = "_";
+
+    public static ChatroomCursor of(LocalDateTime lastActivityAt, Long chatroomId) {
+        return new ChatroomCursor(lastActivityAt, chatroomId);
+    }
+
+    public static ChatroomCursor from(ChatroomSummary summary) {
+        return of(summary.lastActivityAt(), summary.chatroomId());
+    }
+
+    /**
+     * 응답으로 내려준 커서 문자열을 커서 객체로 변환
+     *
+     * @param cursor 커서 문자열, 첫 페이지 조회인 경우 null
+     * @return 커서 객체, cursor가 null인 경우 null
+     */
+    public static ChatroomCursor decode(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        String[] tokens = cursor.split(DELIMITER, -1);
+        if (tokens.length != 2) {
+            throw new ChatException(ErrorCode.CHATROOM_CURSOR_BAD_REQUEST);
+        }
+
+        try {
+            return of(LocalDateTime.parse(tokens[0]), Long.parseLong(tokens[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new ChatException(ErrorCode.CHATROOM_CURSOR_BAD_REQUEST);
+        }
+    }
+
+    /**
+     * 커서 객체를 응답으로 내려줄 문자열로 변환
+     *
+     * @return "{정렬 키 ISO-8601}_{채팅방 id}" 형식의 문자열
+     */
+    public String encode() {
+        return lastActivityAt + DELIMITER + chatroomId;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.gamegoo.gamegoo_v2.chat.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 채팅방 uuid에 해당하는 채팅방 id와 참여 회원 id 목록
+ * 채팅방 참여 회원은 채팅방 생성 이후 변경되지 않으므로 캐시해 사용한다
+ *
+ * @param chatroomId 채팅방 id
+ * @param memberIds  채팅방 참여 회원 id list
+ */
+public record ChatroomMembership(Long chatroomId, List<Long> memberIds) {
+
+    public static ChatroomMembership of(Long chatroomId, List<Long> memberIds) {
+        return new ChatroomMembership(chatroomId, List.copyOf(memberIds));
+    }
+
+    public boolean contains(Long memberId) {
+        return memberIds.contains(memberId);
+    }
+
+    /**
+     * 채팅방의 상대 회원 id 반환
+     *
+     * @param memberId 회원 id
+     * @return 상대 회원 id Optional 객체
+     */
+    public Optional<Long> findTargetMemberId(Long memberId) {
+        return memberIds.stream()
+                .filter(id -> !id.equals(memberId))
+                .findFirst();
+    }
+
+}
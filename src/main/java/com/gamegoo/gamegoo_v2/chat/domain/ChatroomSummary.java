@@ -0,0 +1,26 @@
+package com.gamegoo.gamegoo_v2.chat.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록 한 행에 필요한 값만 담은 조회 모델
+ * 엔티티를 조회하지 않고 채팅방, 상대 회원, 마지막 메시지를 한 번의 쿼리로 projection해 생성한다
+ *
+ * @param chatroomId        채팅방 id
+ * @param uuid              채팅방 uuid
+ * @param unreadCount       안읽은 메시지 개수
+ * @param targetMemberId    상대 회원 id
+ * @param targetMemberImg   상대 회원 프로필 이미지
+ * @param targetMemberName  상대 회원 소환사명
+ * @param targetMemberBlind 상대 회원 탈퇴 여부
+ * @param lastChatContents  마지막 메시지 내용, 메시지가 없는 경우 null
+ * @param lastChatCreatedAt 마지막 메시지 생성 시각, 메시지가 없는 경우 null
+ * @param lastChatTimestamp 마지막 메시지 timestamp, 메시지가 없는 경우 null
+ * @param lastActivityAt    채팅방 목록 정렬 키
+ */
+public record ChatroomSummary(Long chatroomId, String uuid, int unreadCount, Long targetMemberId,
+                              int targetMemberImg, String targetMemberName, boolean targetMemberBlind,
+                              String lastChatContents, LocalDateTime lastChatCreatedAt, Long lastChatTimestamp,
+                              LocalDateTime lastActivityAt) {
+
+}
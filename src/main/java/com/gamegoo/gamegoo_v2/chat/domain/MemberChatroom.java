@@ -8,17 +8,25 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Getter
+@DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_member_chatroom_member_chatroom", columnList = "member_id, chatroom_id"),
+        @Index(name = "idx_member_chatroom_member_last_activity", columnList = "member_id, last_activity_at, chatroom_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MemberChatroom extends BaseDateTimeEntity {
 
@@ -31,6 +39,14 @@ public class MemberChatroom extends BaseDateTimeEntity {
 
     private LocalDateTime lastJoinDate;
 
+    // 채팅방 목록 정렬 키, 채팅방의 마지막 메시지 시각이며 메시지가 없는 경우 입장 시각
+    // 메시지 전송 시에는 MemberChatroomRepository의 update 쿼리로 변경한다
+    private LocalDateTime lastActivityAt;
+
+    // 동시에 발생하는 전송/읽음 처리에서 값이 유실되지 않도록 MemberChatroomRepository의 update 쿼리로 변경한다
+    @Column(nullable = false)
+    private int unreadCount = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
@@ -52,6 +68,9 @@ public class MemberChatroom extends BaseDateTimeEntity {
     private MemberChatroom(LocalDateTime lastViewDate, LocalDateTime lastJoinDate, Member member, Chatroom chatroom) {
         this.lastViewDate = lastViewDate;
         this.lastJoinDate = lastJoinDate;
+        this.lastActivityAt = chatroom != null && chatroom.getLastChatAt() != null
+                ? chatroom.getLastChatAt()
+                : lastJoinDate;
         this.member = member;
         this.chatroom = chatroom;
     }
@@ -66,6 +85,11 @@ public class MemberChatroom extends BaseDateTimeEntity {
 
     public void updateLastJoinDate(LocalDateTime lastJoinDate) {
         this.lastJoinDate = lastJoinDate;
+
+        // 메시지가 없는 채팅방은 입장 시각을 정렬 키로 사용
+        if (lastJoinDate != null && chatroom.getLastChatAt() == null) {
+            this.lastActivityAt = lastJoinDate;
+        }
     }
 
 }
@@ -2,14 +2,14 @@ package com.gamegoo.gamegoo_v2.chat.dto;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
-import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomSummary;
 import com.gamegoo.gamegoo_v2.chat.dto.response.ChatMessageListResponse;
 import com.gamegoo.gamegoo_v2.chat.dto.response.ChatMessageResponse;
 import com.gamegoo.gamegoo_v2.chat.dto.response.ChatroomListResponse;
 import com.gamegoo.gamegoo_v2.chat.dto.response.ChatroomResponse;
 import com.gamegoo.gamegoo_v2.chat.dto.response.EnterChatroomResponse;
 import com.gamegoo.gamegoo_v2.chat.dto.response.SystemMessageResponse;
-import com.gamegoo.gamegoo_v2.social.block.service.BlockService;
+import com.gamegoo.gamegoo_v2.social.friend.domain.RelationshipStatus;
 import com.gamegoo.gamegoo_v2.social.friend.service.FriendService;
 import com.gamegoo.gamegoo_v2.utils.DateTimeUtil;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +24,6 @@ import java.util.List;
 public class ChatResponseFactory {
 
     private final FriendService friendService;
-    private final BlockService blockService;
 
     public ChatMessageListResponse toChatMessageListResponse(Slice<Chat> chatSlice) {
         List<ChatMessageResponse> chatMessageResponseList = chatSlice.stream()
@@ -67,15 +66,18 @@ public class ChatResponseFactory {
         EnterChatroomResponse.SystemFlagResponse systemFlagResponse =
                 EnterChatroomResponse.SystemFlagResponse.of(systemFlag, boardId);
 
+        // 친구 여부, 차단 여부, 친구 요청 한 번에 조회
+        RelationshipStatus relationship = friendService.getRelationshipStatus(member, targetMember);
+
         return EnterChatroomResponse.builder()
                 .uuid(chatroomUuid)
                 .memberId(targetMember.getId())
                 .gameName(gameName)
                 .memberProfileImg(targetMember.getProfileImage())
-                .friend(friendService.isFriend(member, targetMember))
-                .blocked(blockService.isBlocked(member, targetMember))
+                .friend(relationship.isFriend())
+                .blocked(relationship.isBlocked())
                 .blind(targetMember.isBlind())
-                .friendRequestMemberId(friendService.getFriendRequestMemberId(member, targetMember))
+                .friendRequestMemberId(relationship.getFriendRequestMemberId())
                 .system(systemFlagResponse)
                 .chatMessageListResponse(chatMessageListResponse)
                 .build();
@@ -87,15 +89,18 @@ public class ChatResponseFactory {
                 ? "(탈퇴한 사용자)"
                 : targetMember.getGameName();
 
+        // 친구 여부, 차단 여부, 친구 요청 한 번에 조회
+        RelationshipStatus relationship = friendService.getRelationshipStatus(member, targetMember);
+
         return EnterChatroomResponse.builder()
                 .uuid(chatroomUuid)
                 .memberId(targetMember.getId())
                 .gameName(gameName)
                 .memberProfileImg(targetMember.getProfileImage())
-                .friend(friendService.isFriend(member, targetMember))
-                .blocked(blockService.isBlocked(member, targetMember))
+                .friend(relationship.isFriend())
+                .blocked(relationship.isBlocked())
                 .blind(targetMember.isBlind())
-                .friendRequestMemberId(friendService.getFriendRequestMemberId(member, targetMember))
+                .friendRequestMemberId(relationship.getFriendRequestMemberId())
                 .system(null)
                 .chatMessageListResponse(chatMessageListResponse)
                 .build();
@@ -105,47 +110,45 @@ public class ChatResponseFactory {
         return ChatroomListResponse.builder()
                 .chatroomResponseList(new ArrayList<>())
                 .listSize(0)
+                .hasNext(false)
+                .nextCursor(null)
                 .build();
     }
 
-    public ChatroomListResponse toChatroomListResponse(List<ChatroomResponse> chatroomResponseList) {
+    public ChatroomListResponse toChatroomListResponse(List<ChatroomResponse> chatroomResponseList,
+                                                       boolean hasNext, String nextCursor) {
         return ChatroomListResponse.builder()
                 .chatroomResponseList(chatroomResponseList)
                 .listSize(chatroomResponseList.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
                 .build();
     }
 
-    public ChatroomResponse toChatroomResponse(Chatroom chatroom, Member targetMember, boolean isFriend,
-                                               boolean isBlocked, Long friendRequestMemberId, Chat lastChat,
-                                               int unreadCnt) {
-        String gameName = targetMember.isBlind()
+    public ChatroomResponse toChatroomResponse(ChatroomSummary summary, RelationshipStatus relationship) {
+        String gameName = summary.targetMemberBlind()
                 ? "(탈퇴한 사용자)"
-                : targetMember.getGameName();
+                : summary.targetMemberName();
 
-        String lastMsg = null;
-        String lastMsgAt = null;
-        Long lastMsgTimestamp = null;
-
-        if (lastChat != null) {
-            lastMsg = lastChat.getContents();
-            lastMsgAt = DateTimeUtil.toKSTString(lastChat.getCreatedAt());
-            lastMsgTimestamp = lastChat.getTimestamp();
-        }
+        String lastMsgAt = summary.lastChatCreatedAt() == null
+                ? null
+                : DateTimeUtil.toKSTString(summary.lastChatCreatedAt());
 
         return ChatroomResponse.builder()
-                .chatroomId(chatroom.getId())
-                .uuid(chatroom.getUuid())
-                .targetMemberId(targetMember.getId())
-                .targetMemberImg(targetMember.getProfileImage())
+                .chatroomId(summary.chatroomId())
+                .uuid(summary.uuid())
+                .targetMemberId(summary.targetMemberId())
+                .targetMemberImg(summary.targetMemberImg())
                 .targetMemberName(gameName)
-                .friend(isFriend)
-                .blocked(isBlocked)
-                .blind(targetMember.isBlind())
-                .friendRequestMemberId(friendRequestMemberId)
-                .lastMsg(lastMsg)
+                .friend(relationship.isFriend())
+                // 채팅방 목록의 차단 여부는 상대 회원이 나를 차단했는지 여부
+                .blocked(relationship.isBlockedByTarget())
+                .blind(summary.targetMemberBlind())
+                .friendRequestMemberId(relationship.getFriendRequestMemberId())
+                .lastMsg(summary.lastChatContents())
                 .lastMsgAt(lastMsgAt)
-                .notReadMsgCnt(unreadCnt)
-                .lastMsgTimestamp(lastMsgTimestamp)
+                .notReadMsgCnt(summary.unreadCount())
+                .lastMsgTimestamp(summary.lastChatTimestamp())
                 .build();
     }
 
@@ -11,5 +11,7 @@ public class ChatroomListResponse {
 
     List<ChatroomResponse> chatroomResponseList;
     int listSize;
+    boolean hasNext;
+    String nextCursor;
 
 }
@@ -3,8 +3,7 @@ package com.gamegoo.gamegoo_v2.chat.repository;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
 import org.springframework.data.domain.Slice;
 
-import java.util.List;
-import java.util.Map;
+import java.time.LocalDateTime;
 
 public interface ChatRepositoryCustom {
 
@@ -18,6 +17,20 @@ public interface ChatRepositoryCustom {
      */
     Slice<Chat> findRecentChats(Long chatroomId, Long memberId, int pageSize);
 
+    /**
+     * 이미 조회한 lastViewDate, lastJoinDate를 기준으로 최근 메시지 조회
+     * 안읽은 메시지가 pageSize 이상인 경우 안읽은 메시지를 최대 100개까지, 그렇지 않은 경우 최근 메시지 pageSize 개를 반환
+     *
+     * @param chatroomId   채팅방 id
+     * @param memberId     회원 id
+     * @param lastViewDate 회원의 lastViewDate
+     * @param lastJoinDate 회원의 lastJoinDate
+     * @param pageSize     페이지 크기
+     * @return 채팅 Slice 객체
+     */
+    Slice<Chat> findRecentChats(Long chatroomId, Long memberId, LocalDateTime lastViewDate,
+                                LocalDateTime lastJoinDate, int pageSize);
+
     /**
      * 커서 기반 메시지 내역 조회
      *
@@ -38,13 +51,4 @@ public interface ChatRepositoryCustom {
      */
     int countUnreadChats(Long chatroomId, Long memberId);
 
-    /**
-     * 채팅방 각각에 대한 안읽은 메시지 개수 조회
-     *
-     * @param chatroomIds 채팅방 id list
-     * @param memberId    회원 id
-     * @return Map<채팅방 id, 안읽은 메시지 개수>
-     */
-    Map<Long, Integer> countUnreadChatsBatch(List<Long> chatroomIds, Long memberId);
-
 }
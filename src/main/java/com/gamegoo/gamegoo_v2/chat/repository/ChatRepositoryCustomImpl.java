@@ -11,10 +11,9 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import static com.gamegoo.gamegoo_v2.chat.domain.QChat.chat;
 import static com.gamegoo.gamegoo_v2.chat.domain.QMemberChatroom.memberChatroom;
@@ -24,48 +23,60 @@ public class ChatRepositoryCustomImpl implements ChatRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
+    // 최초 진입 시 한 번에 반환하는 안읽은 메시지의 최대 개수
+    private static final int MAX_UNREAD_WINDOW_SIZE = 100;
+
     @Override
     public Slice<Chat> findRecentChats(Long chatroomId, Long memberId, int pageSize) {
-        // 안읽은 메시지 모두 조회
-        List<Chat> unreadChats = queryFactory.selectFrom(chat)
+        // 회원의 lastViewDate, lastJoinDate를 한 번만 조회
+        Tuple dates = queryFactory.select(memberChatroom.lastViewDate, memberChatroom.lastJoinDate)
+                .from(memberChatroom)
+                .where(
+                        memberChatroom.chatroom.id.eq(chatroomId),
+                        memberChatroom.member.id.eq(memberId)
+                )
+                .fetchOne();
+
+        if (dates == null) {
+            return new SliceImpl<>(new ArrayList<>(), Pageable.unpaged(), false);
+        }
+
+        return findRecentChats(chatroomId, memberId, dates.get(memberChatroom.lastViewDate),
+                dates.get(memberChatroom.lastJoinDate), pageSize);
+    }
+
+    @Override
+    public Slice<Chat> findRecentChats(Long chatroomId, Long memberId, LocalDateTime lastViewDate,
+                                       LocalDateTime lastJoinDate, int pageSize) {
+        // 채팅방을 나간 상태인 경우 조회할 메시지 없음
+        if (lastJoinDate == null) {
+            return new SliceImpl<>(new ArrayList<>(), Pageable.unpaged(), false);
+        }
+
+        int windowSize = Math.max(pageSize, MAX_UNREAD_WINDOW_SIZE);
+
+        // 최근 메시지를 windowSize 만큼 한 번에 조회
+        List<Chat> chats = queryFactory.selectFrom(chat)
                 .where(
                         chat.chatroom.id.eq(chatroomId),
-                        createdAtGreaterThanLastViewDateSubQuery(memberId),
-                        createdAtGreaterOrEqualThanLastJoinDateSubQuery(memberId),
+                        chat.createdAt.goe(lastJoinDate),
                         isMemberMessageOrMySystemMessage(memberId)
                 )
                 .orderBy(chat.createdAt.desc())
+                .limit(windowSize + 1) // 다음 페이지가 있는지 확인하기 위해 +1
                 .fetch();
 
-        if (unreadChats.size() >= pageSize) { // 안읽은 메시지 개수가 pageSize 이상인 경우, 안읽은 메시지만 모두 리턴
-            Chat oldestUnreadChat = unreadChats.get(unreadChats.size() - 1);
-            boolean hasNext = hasNextChat(oldestUnreadChat, memberId);
-
-            // createdAt 오름차순으로 정렬
-            Collections.reverse(unreadChats);
-
-            return new SliceImpl<>(unreadChats, Pageable.unpaged(), hasNext);
-        } else { // 안읽은 메시지가 20개 미만인 경우, 최근 메시지 20개를 조회해 리턴
-            List<Chat> chats = queryFactory.selectFrom(chat)
-                    .where(
-                            chat.chatroom.id.eq(chatroomId),
-                            createdAtGreaterOrEqualThanLastJoinDateSubQuery(memberId),
-                            isMemberMessageOrMySystemMessage(memberId)
-                    )
-                    .orderBy(chat.createdAt.desc())
-                    .limit(pageSize + 1) // 다음 페이지가 있는지 확인하기 위해 +1
-                    .fetch();
-
-            boolean hasNext = chats.size() > pageSize;
-            if (hasNext) {
-                chats.remove(chats.size() - 1);
-            }
+        // 안읽은 메시지 개수가 pageSize 이상인 경우 안읽은 메시지만, 그렇지 않은 경우 최근 메시지 pageSize 개를 리턴
+        int unreadCount = countUnreadPrefix(chats, lastViewDate);
+        int resultSize = Math.min(Math.max(unreadCount, pageSize), windowSize);
 
-            // createdAt 오름차순으로 정렬
-            Collections.reverse(chats);
+        boolean hasNext = chats.size() > resultSize;
+        List<Chat> result = new ArrayList<>(chats.subList(0, Math.min(resultSize, chats.size())));
 
-            return new SliceImpl<>(chats, Pageable.unpaged(), hasNext);
-        }
+        // createdAt 오름차순으로 정렬
+        Collections.reverse(result);
+
+        return new SliceImpl<>(result, Pageable.unpaged(), hasNext);
     }
 
     @Override
@@ -112,60 +123,26 @@ public class ChatRepositoryCustomImpl implements ChatRepositoryCustom {
         return result != null ? result.intValue() : 0;
     }
 
-    @Override
-    public Map<Long, Integer> countUnreadChatsBatch(List<Long> chatroomIds, Long memberId) {
-        List<Tuple> results = queryFactory
-                .select(chat.chatroom.id, chat.countDistinct())
-                .from(chat)
-                .join(memberChatroom).on(
-                        memberChatroom.chatroom.id.in(chatroomIds),
-                        memberChatroom.member.id.eq(memberId)
-                )
-                .where(
-                        chat.chatroom.id.in(chatroomIds),
-                        memberChatroom.member.id.eq(memberId),
-                        createdAtGreaterThanLastViewDateSubQuery(memberId),
-                        createdAtGreaterOrEqualThanLastJoinDateSubQuery(memberId),
-                        isMemberMessageOrMySystemMessage(memberId)
-                )
-                .groupBy(chat.chatroom.id)
-                .fetch();
-
-        Map<Long, Integer> unreadMap = new HashMap<>();
-        for (Tuple tuple : results) {
-            Long roomId = tuple.get(chat.chatroom.id);
-            Long countVal = tuple.get(chat.countDistinct());
-
-            unreadMap.put(roomId, countVal != null ? countVal.intValue() : 0);
-        }
-
-        for (Long roomId : chatroomIds) {
-            unreadMap.putIfAbsent(roomId, 0);
-        }
-
-        return unreadMap;
-    }
-
     /**
-     * cursorChat 보다 예전 메시지가 있는지 여부를 반환
+     * createdAt 내림차순으로 정렬된 메시지 list에서 lastViewDate 이후에 생성된 메시지 개수를 반환
      *
-     * @param cursorChat
-     * @param memberId
-     * @return
+     * @param chats        createdAt 내림차순 메시지 list
+     * @param lastViewDate lastViewDate
+     * @return 안읽은 메시지 개수
      */
-    private boolean hasNextChat(Chat cursorChat, Long memberId) {
-        Chat fetch = queryFactory.selectFrom(chat)
-                .where(
-                        chat.chatroom.id.eq(cursorChat.getChatroom().getId()),
-                        createdBefore(cursorChat.getTimestamp()),
-                        createdAtGreaterOrEqualThanLastJoinDateSubQuery(memberId),
-                        isMemberMessageOrMySystemMessage(memberId)
-                )
-                .orderBy(chat.createdAt.desc())
-                .limit(1)
-                .fetchOne();
+    private int countUnreadPrefix(List<Chat> chats, LocalDateTime lastViewDate) {
+        if (lastViewDate == null) {
+            return chats.size();
+        }
 
-        return fetch != null;
+        int count = 0;
+        for (Chat c : chats) {
+            if (!c.getCreatedAt().isAfter(lastViewDate)) {
+                break;
+            }
+            count++;
+        }
+        return count;
     }
 
     //--- BooleanExpression ---//
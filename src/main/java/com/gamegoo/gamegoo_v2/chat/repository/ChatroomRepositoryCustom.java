@@ -1,6 +1,9 @@
 package com.gamegoo.gamegoo_v2.chat.repository;
 
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomCursor;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomSummary;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,4 +27,15 @@ public interface ChatroomRepositoryCustom {
      */
     List<Chatroom> findActiveChatrooms(Long memberId);
 
+    /**
+     * 커서 기반 회원의 입장 상태인 채팅방 목록 조회 (엔티티가 아닌 projection 조회)
+     * memberChatroom의 정렬 키(마지막 메시지 시각, 마지막 메시지가 없는 경우 입장 시각) 기준 최신순으로 정렬
+     *
+     * @param memberId 회원 id
+     * @param cursor   이전 페이지 마지막 채팅방의 (정렬 키, 채팅방 id), 첫 페이지인 경우 null
+     * @param pageSize 페이지 크기
+     * @return 채팅방 목록 Slice
+     */
+    Slice<ChatroomSummary> findChatroomSummariesByCursor(Long memberId, ChatroomCursor cursor, int pageSize);
+
 }
@@ -1,8 +1,19 @@
 package com.gamegoo.gamegoo_v2.chat.repository;
 
+import com.gamegoo.gamegoo_v2.account.member.domain.QMember;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomCursor;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomSummary;
+import com.gamegoo.gamegoo_v2.chat.domain.QChat;
+import com.gamegoo.gamegoo_v2.chat.domain.QMemberChatroom;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +26,10 @@ public class ChatroomRepositoryCustomImpl implements ChatroomRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
+    private static final QMemberChatroom targetMemberChatroom = new QMemberChatroom("targetMemberChatroom");
+    private static final QMember targetMember = new QMember("targetMember");
+    private static final QChat lastChat = new QChat("lastChat");
+
     /**
      * 두 member 사이의 chatroom 엔티티 반환하는 메소드
      *
@@ -49,4 +64,75 @@ public class ChatroomRepositoryCustomImpl implements ChatroomRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public Slice<ChatroomSummary> findChatroomSummariesByCursor(Long memberId, ChatroomCursor cursor, int pageSize) {
+        // 정렬 키, 채팅방 id 기준 keyset 페이징 조회
+        List<ChatroomSummary> summaries = selectChatroomSummaries(memberId)
+                .where(beforeCursor(cursor))
+                .orderBy(memberChatroom.lastActivityAt.desc(), memberChatroom.chatroom.id.desc())
+                .limit(pageSize + 1) // 다음 페이지가 있는지 확인하기 위해 +1
+                .fetch();
+
+        boolean hasNext = summaries.size() > pageSize;
+        if (hasNext) {
+            summaries.remove(summaries.size() - 1); // 다음 페이지가 있으면 마지막 요소를 제거
+        }
+
+        return new SliceImpl<>(summaries, Pageable.unpaged(), hasNext);
+    }
+
+    /**
+     * 회원의 입장 상태인 채팅방 목록 projection 쿼리 생성
+     * 채팅방, 상대 회원, 마지막 메시지를 join해 채팅방 목록 한 행에 필요한 컬럼만 조회한다
+     *
+     * @param memberId 회원 id
+     * @return JPAQuery
+     */
+    private JPAQuery<ChatroomSummary> selectChatroomSummaries(Long memberId) {
+        return queryFactory
+                .select(Projections.constructor(ChatroomSummary.class,
+                        chatroom.id,
+                        chatroom.uuid,
+                        memberChatroom.unreadCount,
+                        targetMember.id,
+                        targetMember.profileImage,
+                        targetMember.gameName,
+                        targetMember.blind,
+                        lastChat.contents,
+                        lastChat.createdAt,
+                        lastChat.timestamp,
+                        memberChatroom.lastActivityAt
+                ))
+                .from(memberChatroom)
+                .join(memberChatroom.chatroom, chatroom)
+                .join(targetMemberChatroom).on(
+                        targetMemberChatroom.chatroom.id.eq(chatroom.id),
+                        targetMemberChatroom.member.id.ne(memberId)
+                )
+                .join(targetMemberChatroom.member, targetMember)
+                .leftJoin(lastChat).on(lastChat.id.eq(chatroom.lastChatId))
+                .where(
+                        memberChatroom.member.id.eq(memberId),
+                        memberChatroom.lastJoinDate.isNotNull()
+                );
+    }
+
+    //--- BooleanExpression ---//
+
+    /**
+     * (정렬 키, 채팅방 id)가 cursor 이전인 경우에만 true를 반환
+     *
+     * @param cursor 이전 페이지 마지막 채팅방의 (정렬 키, 채팅방 id)
+     * @return BooleanExpression
+     */
+    private BooleanExpression beforeCursor(ChatroomCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return memberChatroom.lastActivityAt.lt(cursor.lastActivityAt())
+                .or(memberChatroom.lastActivityAt.eq(cursor.lastActivityAt())
+                        .and(memberChatroom.chatroom.id.lt(cursor.chatroomId())));
+    }
+
 }
@@ -1,11 +1,12 @@
 package com.gamegoo.gamegoo_v2.chat.repository;
 
-import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,23 +14,76 @@ public interface MemberChatroomRepository extends JpaRepository<MemberChatroom,
 
     Optional<MemberChatroom> findByMemberIdAndChatroomId(Long memberId, Long chatroomId);
 
-    @Query("""
-            SELECT mc.member
-            FROM MemberChatroom mc
-            WHERE mc.chatroom.id = :chatroomId
-            AND mc.member.id != :memberId
-            """)
-    Optional<Member> findTargetMemberByChatroomIdAndMemberId(@Param("chatroomId") Long chatroomId,
-                                                             @Param("memberId") Long memberId);
-
     @Query("""
             SELECT mc
             FROM MemberChatroom mc
             JOIN FETCH mc.chatroom c
             WHERE mc.member.id = :memberId
             AND mc.lastJoinDate is not null
-            ORDER BY COALESCE(c.lastChatAt, mc.lastJoinDate) DESC
+            ORDER BY mc.lastActivityAt DESC
             """)
     List<MemberChatroom> findAllActiveMemberChatroomByMemberId(@Param("memberId") Long memberId);
 
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE MemberChatroom mc
+            SET mc.unreadCount = mc.unreadCount + :count
+            WHERE mc.chatroom.id = :chatroomId
+            AND mc.member.id <> :memberId
+            """)
+    int increaseTargetUnreadCount(@Param("chatroomId") Long chatroomId, @Param("memberId") Long memberId,
+                                  @Param("count") int count);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE MemberChatroom mc
+            SET mc.unreadCount = 0
+            WHERE mc.chatroom.id = :chatroomId
+            AND mc.member.id = :memberId
+            """)
+    int resetUnreadCount(@Param("chatroomId") Long chatroomId, @Param("memberId") Long memberId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE MemberChatroom mc
+            SET mc.lastActivityAt = :lastActivityAt
+            WHERE mc.chatroom.id = :chatroomId
+            AND (mc.lastActivityAt IS NULL OR mc.lastActivityAt < :lastActivityAt)
+            """)
+    int updateLastActivityAt(@Param("chatroomId") Long chatroomId,
+                             @Param("lastActivityAt") LocalDateTime lastActivityAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE MemberChatroom mc
+            SET mc.unreadCount = (
+                SELECT CAST(COUNT(c) AS Integer)
+                FROM Chat c
+                WHERE c.chatroom = mc.chatroom
+                AND c.createdAt >= mc.lastJoinDate
+                AND (mc.lastViewDate IS NULL OR c.createdAt > mc.lastViewDate)
+                AND (c.toMember IS NULL OR c.toMember = mc.member)
+            )
+            WHERE mc.id = :id
+            """)
+    int recountUnreadCount(@Param("id") Long id);
+
+    @Query("SELECT COALESCE(MAX(mc.id), 0) FROM MemberChatroom mc")
+    Long findMaxId();
+
+    @Modifying
+    @Query("""
+            UPDATE MemberChatroom mc
+            SET mc.unreadCount = (
+                SELECT CAST(COUNT(c) AS Integer)
+                FROM Chat c
+                WHERE c.chatroom = mc.chatroom
+                AND c.createdAt >= mc.lastJoinDate
+                AND (mc.lastViewDate IS NULL OR c.createdAt > mc.lastViewDate)
+                AND (c.toMember IS NULL OR c.toMember = mc.member)
+            )
+            WHERE mc.id BETWEEN :fromId AND :toId
+            """)
+    int rebuildUnreadCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
 }
@@ -1,19 +1,27 @@
 package com.gamegoo.gamegoo_v2.chat.repository;
 
-import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomMembership;
+import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
 
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public interface MemberChatroomRepositoryCustom {
 
     /**
-     * 채팅방 각각에 대해 상대 회원 조회
+     * uuid에 해당하는 채팅방의 두 MemberChatroom을 채팅방, 회원과 함께 조회하고, 각 회원이 상대 회원을 차단했는지 여부를 함께 조회
      *
-     * @param chatroomIds 채팅방 id list
-     * @param memberId    회원 id
-     * @return Map<채팅방 id, 상대 회원 객체>
+     * @param uuid 채팅방 uuid
+     * @return Map<MemberChatroom, 해당 회원이 상대 회원을 차단했는지 여부>
      */
-    Map<Long, Member> findTargetMembersBatch(List<Long> chatroomIds, Long memberId);
+    Map<MemberChatroom, Boolean> findMemberChatroomsWithBlockedByUuid(String uuid);
+
+    /**
+     * uuid에 해당하는 채팅방의 id와 참여 회원 id 목록 조회
+     *
+     * @param uuid 채팅방 uuid
+     * @return ChatroomMembership, 채팅방이 없거나 참여 회원이 없는 경우 empty
+     */
+    Optional<ChatroomMembership> findChatroomMembershipByUuid(String uuid);
 
 }
@@ -1,15 +1,25 @@
 package com.gamegoo.gamegoo_v2.chat.repository;
 
-import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomMembership;
+import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.QMemberChatroom;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+import static com.gamegoo.gamegoo_v2.account.member.domain.QMember.member;
+import static com.gamegoo.gamegoo_v2.chat.domain.QChatroom.chatroom;
 import static com.gamegoo.gamegoo_v2.chat.domain.QMemberChatroom.memberChatroom;
+import static com.gamegoo.gamegoo_v2.social.block.domain.QBlock.block;
 
 @RequiredArgsConstructor
 public class MemberChatroomRepositoryCustomImpl implements MemberChatroomRepositoryCustom {
@@ -17,24 +27,62 @@ public class MemberChatroomRepositoryCustomImpl implements MemberChatroomReposit
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Map<Long, Member> findTargetMembersBatch(List<Long> chatroomIds, Long memberId) {
-        List<Tuple> results = queryFactory
-                .select(memberChatroom.chatroom.id, memberChatroom.member)
-                .from(memberChatroom)
+    public Map<MemberChatroom, Boolean> findMemberChatroomsWithBlockedByUuid(String uuid) {
+        QMemberChatroom otherMemberChatroom = new QMemberChatroom("otherMemberChatroom");
+
+        // 해당 MemberChatroom의 회원이 같은 채팅방의 상대 회원을 차단했는지 여부
+        BooleanExpression blockedOther = JPAExpressions.selectOne()
+                .from(block)
                 .where(
-                        memberChatroom.chatroom.id.in(chatroomIds),
-                        memberChatroom.member.id.ne(memberId)
+                        block.blockerMember.id.eq(memberChatroom.member.id),
+                        block.blockedMember.id.in(JPAExpressions.select(otherMemberChatroom.member.id)
+                                .from(otherMemberChatroom)
+                                .where(
+                                        otherMemberChatroom.chatroom.id.eq(memberChatroom.chatroom.id),
+                                        otherMemberChatroom.member.id.ne(memberChatroom.member.id)
+                                )),
+                        block.deleted.isFalse()
                 )
+                .exists();
+        Expression<Boolean> blocked = new CaseBuilder()
+                .when(blockedOther).then(true)
+                .otherwise(false);
+
+        List<Tuple> results = queryFactory
+                .select(memberChatroom, blocked)
+                .from(memberChatroom)
+                .join(memberChatroom.chatroom, chatroom).fetchJoin()
+                .join(memberChatroom.member, member).fetchJoin()
+                .where(chatroom.uuid.eq(uuid))
                 .fetch();
 
-        Map<Long, Member> resultMap = new HashMap<>();
+        Map<MemberChatroom, Boolean> resultMap = new LinkedHashMap<>();
         for (Tuple elem : results) {
-            Long chatroomId = elem.get(memberChatroom.chatroom.id);
-            Member targetMember = elem.get(memberChatroom.member);
-            resultMap.put(chatroomId, targetMember);
+            resultMap.put(elem.get(memberChatroom), Boolean.TRUE.equals(elem.get(blocked)));
         }
 
         return resultMap;
     }
 
+    @Override
+    public Optional<ChatroomMembership> findChatroomMembershipByUuid(String uuid) {
+        List<Tuple> results = queryFactory
+                .select(chatroom.id, memberChatroom.member.id)
+                .from(memberChatroom)
+                .join(memberChatroom.chatroom, chatroom)
+                .where(chatroom.uuid.eq(uuid))
+                .fetch();
+
+        if (results.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Long chatroomId = results.get(0).get(chatroom.id);
+        List<Long> memberIds = results.stream()
+                .map(elem -> elem.get(memberChatroom.member.id))
+                .toList();
+
+        return Optional.of(ChatroomMembership.of(chatroomId, memberIds));
+    }
+
 }
@@ -0,0 +1,52 @@
+package com.gamegoo.gamegoo_v2.chat.scheduler;
+
+import com.gamegoo.gamegoo_v2.chat.service.ChatCommandService;
+import com.gamegoo.gamegoo_v2.chat.service.ChatQueryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadChatCountScheduler {
+
+    private final ChatCommandService chatCommandService;
+    private final ChatQueryService chatQueryService;
+
+    private static final long CHUNK_SIZE = 1000L;
+
+    @Value("${chat.unread-count.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    /**
+     * 서버 재시작 시 설정에 따라 안읽은 메시지 개수 재계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuildUnreadCounts();
+        }
+    }
+
+    /**
+     * 모든 memberChatroom의 안읽은 메시지 개수를 chat 테이블 기준으로 재계산
+     * 테이블 잠금 시간을 줄이기 위해 id 범위 단위로 나누어 각각 별도의 트랜잭션에서 실행한다
+     */
+    @Scheduled(cron = "${chat.unread-count.rebuild-cron:0 0 5 * * *}")
+    public void rebuildUnreadCounts() {
+        long maxId = chatQueryService.getMaxMemberChatroomId();
+        int updated = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+            updated += chatCommandService.rebuildUnreadCounts(fromId, fromId + CHUNK_SIZE - 1);
+        }
+
+        log.info("안읽은 메시지 개수 재계산 완료, 업데이트된 memberChatroom 개수: {}", updated);
+    }
+
+}
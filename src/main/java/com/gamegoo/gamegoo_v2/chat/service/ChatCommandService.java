@@ -1,12 +1,12 @@
 package com.gamegoo.gamegoo_v2.chat.service;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
-import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatSendContext;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
 import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
 import com.gamegoo.gamegoo_v2.chat.domain.SystemMessageType;
-import com.gamegoo.gamegoo_v2.chat.dto.request.SystemFlagRequest;
+import com.gamegoo.gamegoo_v2.chat.dto.request.ChatCreateRequest;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.MemberChatroomRepository;
@@ -23,7 +23,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -33,7 +32,7 @@ public class ChatCommandService {
 
     private final MemberValidator memberValidator;
     private final BlockValidator blockValidator;
-    private final MemberRepository memberRepository;
+    private final SystemMemberProvider systemMemberProvider;
     private final ChatRepository chatRepository;
     private final MemberChatroomRepository memberChatroomRepository;
     private final ChatroomRepository chatroomRepository;
@@ -65,8 +64,9 @@ public class ChatCommandService {
                     ErrorCode.CHAT_START_FAILED_TARGET_DEACTIVATED);
         }
 
-        // lastViewDate 업데이트
+        // lastViewDate 업데이트 및 안읽은 메시지 개수 초기화
         memberChatroom.updateLastViewDate(LocalDateTime.now());
+        memberChatroomRepository.resetUnreadCount(chatroom.getId(), member.getId());
 
         return memberChatroom;
     }
@@ -90,45 +90,63 @@ public class ChatCommandService {
     }
 
     /**
-     * 회원 채팅 메시지 생성 및 저장 메소드
+     * 채팅 전송 메소드
+     * 이미 조회한 MemberChatroom으로 채팅 및 시스템 메시지 저장, lastViewDate, lastJoinDate, 채팅방의 마지막 채팅을 갱신하며,
+     * 안읽은 메시지 개수는 동시 전송 시 유실되지 않도록 update 쿼리로 증감한다
      *
-     * @param member   회원
-     * @param chatroom 채팅방
-     * @param content  메시지 내용
-     * @return Chat
+     * @param context 채팅 전송 대상 채팅방 정보
+     * @param request 채팅 등록 요청
+     * @return 회원이 전송한 Chat
      */
-    public Chat createMemberChat(Member member, Chatroom chatroom, String content) {
-        return chatRepository.save(Chat.create(content, null, chatroom, member, null, null));
-    }
+    public Chat createChat(ChatSendContext context, ChatCreateRequest request) {
+        Chatroom chatroom = context.getChatroom();
+        Member member = context.getMember();
+        Member targetMember = context.getTargetMember();
+        MemberChatroom memberChatroom = context.getMemberChatroom();
+        MemberChatroom targetMemberChatroom = context.getTargetMemberChatroom();
+
+        // 상대 회원에게 증가시킬 안읽은 메시지 개수
+        int targetUnreadCount = 1;
+
+        // 등록해야 할 시스템 메시지가 있는 경우 두 회원에게 시스템 메시지 저장 및 lastJoinDate 업데이트
+        if (request.getSystem() != null) {
+            Board board = boardRepository.findById(request.getSystem().getBoardId())
+                    .orElseThrow(() -> new ChatException(ErrorCode.ADD_BOARD_SYSTEM_CHAT_FAILED));
+            Member systemMember = systemMemberProvider.getSystemMember();
+
+            SystemMessageType systemType = SystemMessageType.of(request.getSystem().getFlag());
+            Chat systemChatToMember = chatRepository.save(Chat.create(systemType.getMessage(), systemType.getCode(),
+                    chatroom, systemMember, member, board));
+
+            SystemMessageType targetSystemType = SystemMessageType.INCOMING_CHAT_BY_BOARD_MESSAGE;
+            Chat systemChatToTargetMember = chatRepository.save(Chat.create(targetSystemType.getMessage(),
+                    targetSystemType.getCode(), chatroom, systemMember, targetMember, board));
+            targetUnreadCount++;
+
+            updateLastJoinDate(member, memberChatroom, systemChatToMember.getCreatedAt());
+            updateLastJoinDate(targetMember, targetMemberChatroom, systemChatToTargetMember.getCreatedAt());
+        }
 
-    /**
-     * 시스템 메시지 생성 및 저장 메소드
-     *
-     * @param request      systemFlag 요청
-     * @param member       회원
-     * @param targetMember 상대 회원
-     * @param chatroom     채팅방
-     */
-    public List<Chat> createSystemChat(SystemFlagRequest request, Member member, Member targetMember,
-                                       Chatroom chatroom) {
-        Board board = boardRepository.findById(request.getBoardId())
-                .orElseThrow(() -> new ChatException(ErrorCode.ADD_BOARD_SYSTEM_CHAT_FAILED));
-
-        // member에게 보낼 시스템 메시지 생성 및 저장
-        SystemMessageType systemType = SystemMessageType.of(request.getFlag());
-        String memberMessage = systemType.getMessage();
-        Chat systemChatToMember = createAndSaveSystemChat(chatroom, member, memberMessage, board, systemType.getCode());
-
-        // targetMember에게 보낼 시스템 메시지 생성 및 저장
-        SystemMessageType targetSystemType = SystemMessageType.INCOMING_CHAT_BY_BOARD_MESSAGE;
-        Chat systemChatToTargetMember = createAndSaveSystemChat(chatroom, targetMember, targetSystemType.getMessage(),
-                board, targetSystemType.getCode());
-
-        return List.of(systemChatToMember, systemChatToTargetMember);
+        // 채팅 저장 및 상대 회원의 안읽은 메시지 개수 증가
+        Chat chat = chatRepository.save(Chat.create(request.getMessage(), null, chatroom, member, null, null));
+        memberChatroomRepository.increaseTargetUnreadCount(chatroom.getId(), member.getId(), targetUnreadCount);
+
+        // member의 lastViewDate 업데이트, member에게 저장된 시스템 메시지도 읽음 처리된다
+        memberChatroom.updateLastViewDate(chat.getCreatedAt());
+        memberChatroomRepository.resetUnreadCount(chatroom.getId(), member.getId());
+
+        // 아직 입장하지 않은 회원의 lastJoinDate 업데이트
+        updateLastJoinDate(member, memberChatroom, chat.getCreatedAt());
+        updateLastJoinDate(targetMember, targetMemberChatroom, chat.getCreatedAt());
+
+        updateLastChat(chat, chatroom);
+
+        return chat;
     }
 
     /**
      * 회원의 lastViewDate 업데이트 메소드
+     * lastViewDate가 채팅방의 마지막 메시지 이후인 경우 안읽은 메시지 개수를 초기화하고, 그렇지 않은 경우 다시 계산한다
      *
      * @param member       회원
      * @param chatroom     채팅방
@@ -140,58 +158,31 @@ public class ChatCommandService {
                 .findByMemberIdAndChatroomId(member.getId(), chatroom.getId())
                 .orElseThrow(() -> new ChatException(ErrorCode.CHATROOM_ACCESS_DENIED));
 
-        memberChatroom.updateLastViewDate(lastViewDate);
-
-        return memberChatroom;
+        return updateLastViewDate(member, memberChatroom, lastViewDate);
     }
 
     /**
-     * 회원과 상대 회원의 lastJoinDate 업데이트 및 socket join 이벤트 발생
+     * 이미 조회한 memberChatroom의 lastViewDate 업데이트 메소드
+     * lastViewDate가 채팅방의 마지막 메시지 이후인 경우 안읽은 메시지 개수를 초기화하고, 그렇지 않은 경우 다시 계산한다
      *
      * @param member         회원
-     * @param targetMember   상대 회원
-     * @param memberUpdateTo 회원의 lastJoinDate 업데이트 값
-     * @param targetUpdateTo 상대 회원의 lastJoinDate 업데이트 값
-     * @param chatroom       채팅방
-     */
-    public void updateLastJoinDates(Member member, Member targetMember, LocalDateTime memberUpdateTo,
-                                    LocalDateTime targetUpdateTo, Chatroom chatroom) {
-        MemberChatroom memberChatroom = memberChatroomRepository
-                .findByMemberIdAndChatroomId(member.getId(), chatroom.getId())
-                .orElseThrow(() -> new ChatException(ErrorCode.CHATROOM_ACCESS_DENIED));
-
-        MemberChatroom targetMemberChatroom = memberChatroomRepository
-                .findByMemberIdAndChatroomId(targetMember.getId(), chatroom.getId())
-                .orElseThrow(() -> new ChatException(ErrorCode.CHATROOM_ACCESS_DENIED));
-
-        updateLastJoinDate(member, memberChatroom, memberUpdateTo);
-        updateLastJoinDate(targetMember, targetMemberChatroom, targetUpdateTo);
-    }
-
-    /**
-     * 새로운 채팅 등록 시 member의 lastViewDate, 회원과 상대 회원의 lastJoinDate 업데이트
-     *
-     * @param member       회원
-     * @param targetMember 상대 회원
-     * @param chat         채팅
+     * @param memberChatroom 회원-채팅방
+     * @param lastViewDate   lastViewDate
+     * @return MemberChatroom
      */
-    public void updateMemberChatroomDatesByAddChat(Member member, Member targetMember, Chat chat) {
-        // member의 lastViewDate 업데이트
-        MemberChatroom memberChatroom = memberChatroomRepository
-                .findByMemberIdAndChatroomId(member.getId(), chat.getChatroom().getId())
-                .orElseThrow(() -> new ChatException(ErrorCode.CHATROOM_ACCESS_DENIED));
-
-        memberChatroom.updateLastViewDate(chat.getCreatedAt());
-
-        // member의 lastJoinDate 업데이트
-        updateLastJoinDate(member, memberChatroom, chat.getCreatedAt());
+    public MemberChatroom updateLastViewDate(Member member, MemberChatroom memberChatroom,
+                                             LocalDateTime lastViewDate) {
+        Chatroom chatroom = memberChatroom.getChatroom();
+        memberChatroom.updateLastViewDate(lastViewDate);
 
-        // targetMember의 lastJoinDate 업데이트
-        MemberChatroom targetMemberChatroom = memberChatroomRepository
-                .findByMemberIdAndChatroomId(targetMember.getId(), chat.getChatroom().getId())
-                .orElseThrow(() -> new ChatException(ErrorCode.CHATROOM_ACCESS_DENIED));
+        // 동시에 전송된 채팅의 증가분이 유실되지 않도록 update 쿼리로 초기화 및 재계산
+        if (chatroom.getLastChatAt() == null || !lastViewDate.isBefore(chatroom.getLastChatAt())) {
+            memberChatroomRepository.resetUnreadCount(chatroom.getId(), member.getId());
+        } else {
+            memberChatroomRepository.recountUnreadCount(memberChatroom.getId());
+        }
 
-        updateLastJoinDate(targetMember, targetMemberChatroom, chat.getCreatedAt());
+        return memberChatroom;
     }
 
     /**
@@ -205,26 +196,9 @@ public class ChatCommandService {
         memberChatroomRepository.save(MemberChatroom.create(member, chatroom, lastJoinDate));
     }
 
-    /**
-     * 시스템 메시지 생성 및 저장
-     *
-     * @param chatroom    채팅방
-     * @param toMember    시스템 메시지 대상 회원
-     * @param content     메시지 내용
-     * @param sourceBoard 메시지 관련 게시글
-     * @return Chat
-     */
-    private Chat createAndSaveSystemChat(Chatroom chatroom, Member toMember, String content, Board sourceBoard,
-                                         int systemType) {
-        Member systemMember = memberRepository.findById(0L)
-                .orElseThrow(() -> new ChatException(ErrorCode.SYSTEM_MEMBER_NOT_FOUND));
-
-        return chatRepository.save(Chat.create(content, systemType, chatroom, systemMember, toMember, sourceBoard));
-    }
-
     /**
      * lastJoinDate 업데이트 메소드
-     * 기존 lastJoinDate가 null인 경우 socket join 이벤트 발생
+     * 기존 lastJoinDate가 null인 경우 socket join 이벤트 발생, 퇴장 처리하는 경우 안읽은 메시지 개수 초기화
      *
      * @param member         회원
      * @param memberChatroom 회원-채팅방
@@ -240,11 +214,12 @@ public class ChatCommandService {
 
         if (memberChatroom.getLastJoinDate() != null && date == null) {
             memberChatroom.updateLastJoinDate(date);
+            memberChatroomRepository.resetUnreadCount(memberChatroom.getChatroom().getId(), member.getId());
         }
     }
 
     /**
-     * chatroom 엔티티의 lastChatId와 lastChatAt 업데이트 메소드
+     * chatroom 엔티티의 lastChatId와 lastChatAt, 두 회원의 채팅방 목록 정렬 키 업데이트 메소드
      *
      * @param chat     채팅
      * @param chatroom 채팅방
@@ -252,6 +227,18 @@ public class ChatCommandService {
     public void updateLastChat(Chat chat, Chatroom chatroom) {
         chatroom.updateLastChatId(chat.getId());
         chatroom.updateLastChatAt(chat.getCreatedAt());
+        memberChatroomRepository.updateLastActivityAt(chatroom.getId(), chat.getCreatedAt());
+    }
+
+    /**
+     * id 범위에 해당하는 memberChatroom의 안읽은 메시지 개수를 chat 테이블 기준으로 다시 계산하는 메소드
+     *
+     * @param fromId 시작 memberChatroom id
+     * @param toId   끝 memberChatroom id
+     * @return 업데이트된 memberChatroom 개수
+     */
+    public int rebuildUnreadCounts(Long fromId, Long toId) {
+        return memberChatroomRepository.rebuildUnreadCounts(fromId, toId);
     }
 
 }
@@ -3,7 +3,11 @@ package com.gamegoo.gamegoo_v2.chat.service;
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.account.member.service.MemberService;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatSendContext;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomCursor;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomMembership;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomSummary;
 import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
 import com.gamegoo.gamegoo_v2.chat.domain.SystemMessageType;
 import com.gamegoo.gamegoo_v2.chat.dto.ChatResponseFactory;
@@ -20,7 +24,7 @@ import com.gamegoo.gamegoo_v2.core.common.validator.ChatValidator;
 import com.gamegoo.gamegoo_v2.core.common.validator.MemberValidator;
 import com.gamegoo.gamegoo_v2.core.exception.ChatException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
-import com.gamegoo.gamegoo_v2.social.block.service.BlockService;
+import com.gamegoo.gamegoo_v2.social.friend.domain.RelationshipStatus;
 import com.gamegoo.gamegoo_v2.social.friend.service.FriendService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Slice;
@@ -28,10 +32,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 
 import static com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode.CHAT_ADD_FAILED_BLOCKED_BY_TARGET;
@@ -57,7 +59,6 @@ public class ChatFacadeService {
 
     private final ChatResponseFactory chatResponseFactory;
     private final FriendService friendService;
-    private final BlockService blockService;
 
     /**
      * 대상 회원과 채팅 시작 Facade 메소드
@@ -159,14 +160,14 @@ public class ChatFacadeService {
      */
     @Transactional
     public EnterChatroomResponse enterChatroomByUuid(Member member, String uuid) {
-        // chatroom 엔티티 조회
-        Chatroom chatroom = chatQueryService.getChatroomByUuid(uuid);
-
-        // 해당 채팅방이 회원의 것이 맞는지 검증
-        chatValidator.validateMemberChatroom(member.getId(), chatroom.getId());
+        // 채팅방 참여 회원 조회 및 해당 채팅방이 회원의 것이 맞는지 검증
+        ChatroomMembership membership = chatQueryService.getChatroomMembership(member.getId(), uuid);
+        Chatroom chatroom = chatQueryService.getChatroomReference(membership.chatroomId());
 
         // 내가 상대 회원을 차단하지 않았는지 검증
-        Member targetMember = chatQueryService.getChatroomTargetMember(member, chatroom);
+        Long targetMemberId = membership.findTargetMemberId(member.getId())
+                .orElseThrow(() -> new ChatException(ErrorCode.CHATROOM_NOT_FOUND));
+        Member targetMember = memberService.findMemberById(targetMemberId);
         blockValidator.throwIfBlocked(member, targetMember, ChatException.class, CHAT_START_FAILED_TARGET_IS_BLOCKED);
 
         // 채팅방에 입장 처리
@@ -178,8 +179,7 @@ public class ChatFacadeService {
         // 응답 dto 생성
         ChatMessageListResponse chatMessageListResponse = chatResponseFactory.toChatMessageListResponse(chatSlice);
 
-        return chatResponseFactory.toEnterChatroomResponse(member, targetMember, chatroom.getUuid(),
-                chatMessageListResponse);
+        return chatResponseFactory.toEnterChatroomResponse(member, targetMember, uuid, chatMessageListResponse);
     }
 
     /**
@@ -192,47 +192,23 @@ public class ChatFacadeService {
      */
     @Transactional
     public ChatCreateResponse createChat(ChatCreateRequest request, Member member, String uuid) {
-        // chatroom 엔티티 조회
-        Chatroom chatroom = chatQueryService.getChatroomByUuid(uuid);
-
-        // 해당 채팅방이 회원의 것이 맞는지 검증
-        chatValidator.validateMemberChatroom(member.getId(), chatroom.getId());
+        // 채팅방, 두 회원의 MemberChatroom, 서로의 차단 여부 조회 및 해당 채팅방이 회원의 것이 맞는지 검증
+        ChatSendContext context = chatQueryService.getChatSendContext(member.getId(), uuid);
 
         // 상대가 탈퇴하지 않았는지 검증
-        Member targetMember = chatQueryService.getChatroomTargetMember(member, chatroom);
-        memberValidator.throwIfBlind(targetMember, ChatException.class, CHAT_ADD_FAILED_TARGET_DEACTIVATED);
+        memberValidator.throwIfBlind(context.getTargetMember(), ChatException.class,
+                CHAT_ADD_FAILED_TARGET_DEACTIVATED);
 
         // 서로를 차단하지 않았는지 검증
-        blockValidator.throwIfBlocked(member, targetMember, ChatException.class, CHAT_ADD_FAILED_TARGET_IS_BLOCKED);
-        blockValidator.throwIfBlocked(targetMember, member, ChatException.class, CHAT_ADD_FAILED_BLOCKED_BY_TARGET);
-
-        Chat chat;
-        // 등록해야 할 시스템 메시지가 있는 경우
-        if (request.getSystem() != null) {
-            // 시스템 메시지 생성
-            List<Chat> chats = chatCommandService.createSystemChat(request.getSystem(), member, targetMember,
-                    chatroom);
-
-            // member와 targetMember의 lastJoinDate 업데이트
-            Chat systemChatToMember = chats.get(0);
-            Chat systemChatToTargetMember = chats.get(1);
-            chatCommandService.updateLastJoinDates(member, targetMember, systemChatToMember.getCreatedAt(),
-                    systemChatToTargetMember.getCreatedAt(), chatroom);
-
-            // 채팅 생성 및 저장
-            chat = chatCommandService.createMemberChat(member, chatroom, request.getMessage());
-
-            // member의 lastViewDate 업데이트
-            chatCommandService.updateLastViewDate(member, chatroom, chat.getCreatedAt());
-        } else {
-            // 채팅 생성 및 저장
-            chat = chatCommandService.createMemberChat(member, chatroom, request.getMessage());
-
-            // member와 targetMember의 lastViewDate 및 lastJoinDate 업데이트
-            chatCommandService.updateMemberChatroomDatesByAddChat(member, targetMember, chat);
+        if (context.isTargetBlocked()) {
+            throw new ChatException(CHAT_ADD_FAILED_TARGET_IS_BLOCKED);
+        }
+        if (context.isBlockedByTarget()) {
+            throw new ChatException(CHAT_ADD_FAILED_BLOCKED_BY_TARGET);
         }
 
-        chatCommandService.updateLastChat(chat, chatroom);
+        // 채팅 생성 및 저장, lastViewDate, lastJoinDate, 채팅방의 마지막 채팅 업데이트
+        Chat chat = chatCommandService.createChat(context, request);
 
         return ChatCreateResponse.of(chat);
     }
@@ -246,11 +222,9 @@ public class ChatFacadeService {
      * @return ChatMessageListResponse
      */
     public ChatMessageListResponse getChatMessagesByCursor(Member member, String uuid, Long cursor) {
-        // chatroom 엔티티 조회
-        Chatroom chatroom = chatQueryService.getChatroomByUuid(uuid);
-
-        // 해당 채팅방이 회원의 것이 맞는지 검증
-        chatValidator.validateMemberChatroom(member.getId(), chatroom.getId());
+        // 채팅방 참여 회원 조회 및 해당 채팅방이 회원의 것이 맞는지 검증
+        ChatroomMembership membership = chatQueryService.getChatroomMembership(member.getId(), uuid);
+        Chatroom chatroom = chatQueryService.getChatroomReference(membership.chatroomId());
 
         Slice<Chat> chatSlice;
         if (cursor == null) { // cursor가 null인 경우
@@ -267,21 +241,14 @@ public class ChatFacadeService {
     /**
      * 해당 회원의 안읽은 메시지가 존재하는 채팅방 uuid 목록 조회 Facade 메소드
      *
-     * @param member 회원
+     * @param memberId 회원 id
      * @return 채팅방 uuid list
      */
-    public List<String> getUnreadChatroomUuids(Member member) {
-        // 입장 상태인 모든 chatroom 조회
-        List<Chatroom> activeChatrooms = chatQueryService.getActiveChatrooms(member);
-
-        // 각 채팅방에 대해 안읽은 메시지 개수 조회
-        return activeChatrooms.stream()
-                .map(chatroom -> {
-                    int unreadChats = chatQueryService.countUnreadChats(member, chatroom);
-
-                    return unreadChats > 0 ? chatroom.getUuid() : null;
-                })
-                .filter(Objects::nonNull)
+    public List<String> getUnreadChatroomUuids(Long memberId) {
+        // 입장 상태인 모든 memberChatroom 조회 후 안읽은 메시지 개수로 필터링
+        return chatQueryService.getActiveMemberChatrooms(memberId).stream()
+                .filter(memberChatroom -> memberChatroom.getUnreadCount() > 0)
+                .map(memberChatroom -> memberChatroom.getChatroom().getUuid())
                 .toList();
     }
 
@@ -295,10 +262,9 @@ public class ChatFacadeService {
      */
     @Transactional
     public String readChatMessage(Member member, String uuid, Long timestamp) {
-        // chatroom 엔티티 조회
-        Chatroom chatroom = chatQueryService.getChatroomByUuid(uuid);
-
-        // 해당 채팅방이 회원의 것이 맞는지 검증
+        // 채팅방 참여 회원 조회 및 해당 채팅방이 회원의 것이 맞는지 검증
+        ChatroomMembership membership = chatQueryService.getChatroomMembership(member.getId(), uuid);
+        Chatroom chatroom = chatQueryService.getChatroomReference(membership.chatroomId());
         MemberChatroom memberChatroom = chatValidator.validateMemberChatroom(member.getId(), chatroom.getId());
 
         // 채팅방에 입장한 상태가 맞는지 검증
@@ -307,11 +273,11 @@ public class ChatFacadeService {
 
         if (timestamp == null) {
             // timestamp가 없는 경우 현재 시각으로 lastViewDate 업데이트
-            chatCommandService.updateLastViewDate(member, chatroom, LocalDateTime.now());
+            chatCommandService.updateLastViewDate(member, memberChatroom, LocalDateTime.now());
         } else {
             // timestamp가 있는 경우 해당 채팅의 createdAt으로 lastViewDate 업데이트
             Chat chat = chatQueryService.getChatByChatroomAndTimestamp(chatroom, timestamp);
-            chatCommandService.updateLastViewDate(member, chatroom, chat.getCreatedAt());
+            chatCommandService.updateLastViewDate(member, memberChatroom, chat.getCreatedAt());
         }
 
         return ("채팅 메시지 읽음 처리 성공");
@@ -326,11 +292,10 @@ public class ChatFacadeService {
      */
     @Transactional
     public String exitChatroom(Member member, String uuid) {
-        // chatroom 엔티티 조회
-        Chatroom chatroom = chatQueryService.getChatroomByUuid(uuid);
-
-        // 해당 채팅방이 회원의 것이 맞는지 검증
-        MemberChatroom memberChatroom = chatValidator.validateMemberChatroom(member.getId(), chatroom.getId());
+        // 채팅방 참여 회원 조회 및 해당 채팅방이 회원의 것이 맞는지 검증
+        ChatroomMembership membership = chatQueryService.getChatroomMembership(member.getId(), uuid);
+        MemberChatroom memberChatroom = chatValidator.validateMemberChatroom(member.getId(),
+                membership.chatroomId());
 
         // lastJoinDate를 null로 업데이트
         chatCommandService.updateLastJoinDate(member, memberChatroom, null);
@@ -339,66 +304,52 @@ public class ChatFacadeService {
     }
 
     /**
-     * 해당 회원의 입장 상태인 전체 채팅방 목록 조회
+     * 해당 회원의 입장 상태인 채팅방 목록 커서 기반 조회
      *
      * @param member 회원
+     * @param cursor 이전 조회에서 응답받은 nextCursor
      * @return ChatroomListResponse
      */
-    public ChatroomListResponse getChatrooms(Member member) {
-        // 입장 상태인 모든 memberChatroom 엔티티 정렬해 조회
-        List<MemberChatroom> activeMemberChatrooms = chatQueryService.getActiveMemberChatrooms(member);
+    public ChatroomListResponse getChatrooms(Member member, String cursor) {
+        // 입장 상태인 채팅방 목록을 정렬해 한 페이지 projection 조회
+        Slice<ChatroomSummary> summarySlice = chatQueryService.getChatroomSummarySlice(member,
+                ChatroomCursor.decode(cursor));
 
-        if (activeMemberChatrooms.isEmpty()) {
+        if (summarySlice.isEmpty()) {
             return chatResponseFactory.toChatroomListResponse();
         }
 
-        List<Chatroom> chatrooms = activeMemberChatrooms.stream()
-                .map(MemberChatroom::getChatroom)
-                .toList();
-
-        List<Long> chatroomIds = new ArrayList<>(chatrooms.size());
-        List<Long> lastChatIds = new ArrayList<>(chatrooms.size());
+        // 다음 페이지가 있는 경우 마지막 채팅방의 (정렬 키, 채팅방 id)를 다음 커서로 사용
+        List<ChatroomSummary> summaries = summarySlice.getContent();
+        String nextCursor = summarySlice.hasNext()
+                ? ChatroomCursor.from(summaries.get(summaries.size() - 1)).encode()
+                : null;
 
-        for (Chatroom cr : chatrooms) {
-            chatroomIds.add(cr.getId());
-            lastChatIds.add(cr.getLastChatId());
-        }
-
-        // 마지막 채팅 메시지 배치 조회
-        Map<Long, Chat> lastChatMap = chatQueryService.findAllChatsBatch(lastChatIds);
+        return chatResponseFactory.toChatroomListResponse(toChatroomResponses(member, summaries),
+                summarySlice.hasNext(), nextCursor);
+    }
 
-        // 안읽은 메시지 수 배치 조회
-        Map<Long, Integer> unreadChatsMap = chatQueryService.countUnreadChatsBatch(member, chatroomIds);
+    /**
+     * 채팅방 목록 조회 모델에 상대 회원과의 관계를 더해 응답 dto list 생성
+     *
+     * @param member    회원
+     * @param summaries 채팅방 목록 조회 모델 list
+     * @return ChatroomResponse list
+     */
+    private List<ChatroomResponse> toChatroomResponses(Member member, List<ChatroomSummary> summaries) {
+        List<Long> targetMemberIds = summaries.stream()
+                .map(ChatroomSummary::targetMemberId)
+                .distinct()
+                .toList();
 
-        // 채팅 상대 회원 배치 조회
-        Map<Long, Member> targetMemberMap = chatQueryService.getChatroomTargetMembersBatch(member, chatroomIds);
+        // 상대 회원과 친구 여부, 차단 여부, 친구 요청 한 번에 배치 조회
+        Map<Long, RelationshipStatus> relationshipMap = friendService.getRelationshipStatusBatch(member,
+                targetMemberIds);
 
-        List<Member> targetMembers = new ArrayList<>(targetMemberMap.values());
-        List<Long> targetMemberIds = targetMembers.stream()
-                .map(Member::getId)
+        return summaries.stream()
+                .map(summary -> chatResponseFactory.toChatroomResponse(summary,
+                        relationshipMap.get(summary.targetMemberId())))
                 .toList();
-
-        // 상대 회원과 친구 여부, 차단 여부, 친구 요청 배치 조회
-        Map<Long, Boolean> isFriendMap = friendService.isFriendBatch(member, targetMemberIds);
-        Map<Long, Boolean> isBlockedMap = blockService.isBlockedByTargetMembersBatch(member, targetMemberIds);
-        Map<Long, Long> friendRequestMap = friendService.getFriendRequestMemberIdBatch(member, targetMemberIds);
-
-        // dto 생성
-        List<ChatroomResponse> chatroomResponses = activeMemberChatrooms.stream()
-                .map(mc -> {
-                    Chatroom chatroom = mc.getChatroom();
-                    Chat lastChat = lastChatMap.getOrDefault(chatroom.getId(), null);
-                    Member targetMember = targetMemberMap.get(chatroom.getId());
-                    Integer unreadCnt = unreadChatsMap.get(chatroom.getId());
-                    boolean friend = isFriendMap.get(targetMember.getId());
-                    boolean blocked = isBlockedMap.get(targetMember.getId());
-                    Long friendRequestMemberId = friendRequestMap.get(targetMember.getId());
-
-                    return chatResponseFactory.toChatroomResponse(chatroom, targetMember, friend, blocked,
-                            friendRequestMemberId, lastChat, unreadCnt);
-                }).toList();
-
-        return chatResponseFactory.toChatroomListResponse(chatroomResponses);
     }
 
     /**
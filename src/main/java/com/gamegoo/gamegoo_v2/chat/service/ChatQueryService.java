@@ -2,7 +2,11 @@ package com.gamegoo.gamegoo_v2.chat.service;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatSendContext;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomCursor;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomMembership;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomSummary;
 import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
@@ -15,7 +19,6 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -29,8 +32,10 @@ public class ChatQueryService {
     private final ChatRepository chatRepository;
     private final MemberChatroomRepository memberChatroomRepository;
     private final ChatValidator chatValidator;
+    private final ChatroomMembershipCache chatroomMembershipCache;
 
     private static final int PAGE_SIZE = 20;
+    private static final int CHATROOM_PAGE_SIZE = 20;
 
 
     /**
@@ -52,8 +57,9 @@ public class ChatQueryService {
      * @return 채팅 Slice 객체
      */
     public Slice<Chat> getRecentChatSlice(Member member, Chatroom chatroom) {
-        chatValidator.validateMemberChatroom(member.getId(), chatroom.getId());
-        return chatRepository.findRecentChats(chatroom.getId(), member.getId(), PAGE_SIZE);
+        MemberChatroom memberChatroom = chatValidator.validateMemberChatroom(member.getId(), chatroom.getId());
+        return chatRepository.findRecentChats(chatroom.getId(), member.getId(), memberChatroom.getLastViewDate(),
+                memberChatroom.getLastJoinDate(), PAGE_SIZE);
     }
 
     /**
@@ -67,26 +73,68 @@ public class ChatQueryService {
     }
 
     /**
-     * 해당 채팅방의 상대 회원을 반환하는 메소드
+     * 채팅 전송에 필요한 채팅방, 두 회원의 MemberChatroom, 서로의 차단 여부를 한 번의 쿼리로 조회하는 메소드
      *
-     * @param member   회원
-     * @param chatroom 채팅방
-     * @return Member
+     * @param memberId 회원 id
+     * @param uuid     채팅방 uuid
+     * @return ChatSendContext
      */
-    public Member getChatroomTargetMember(Member member, Chatroom chatroom) {
-        return memberChatroomRepository.findTargetMemberByChatroomIdAndMemberId(chatroom.getId(), member.getId())
-                .orElseThrow(() -> new ChatException(ErrorCode.CHATROOM_NOT_FOUND));
+    public ChatSendContext getChatSendContext(Long memberId, String uuid) {
+        Map<MemberChatroom, Boolean> memberChatrooms =
+                memberChatroomRepository.findMemberChatroomsWithBlockedByUuid(uuid);
+
+        Map.Entry<MemberChatroom, Boolean> mine = null;
+        Map.Entry<MemberChatroom, Boolean> target = null;
+        for (Map.Entry<MemberChatroom, Boolean> entry : memberChatrooms.entrySet()) {
+            if (entry.getKey().getMember().getId().equals(memberId)) {
+                mine = entry;
+            } else {
+                target = entry;
+            }
+        }
+
+        if (mine == null) {
+            // 채팅방이 존재하지 않는 경우와 회원의 채팅방이 아닌 경우를 구분
+            if (memberChatrooms.isEmpty() && chatroomRepository.findByUuid(uuid).isEmpty()) {
+                throw new ChatException(ErrorCode.CHATROOM_NOT_FOUND);
+            }
+            throw new ChatException(ErrorCode.CHATROOM_ACCESS_DENIED);
+        }
+        if (target == null) {
+            throw new ChatException(ErrorCode.CHATROOM_NOT_FOUND);
+        }
+
+        return ChatSendContext.of(mine.getKey(), target.getKey(), mine.getValue(), target.getValue());
     }
 
     /**
-     * 채팅방 각각에 대한 상대 회원을 반환하는 메소드
+     * uuid에 해당하는 채팅방의 id와 참여 회원 id 목록을 반환하는 메소드
+     * 캐시에 없는 경우에만 db에서 조회하며, 해당 채팅방이 회원의 것인지 검증한다
      *
-     * @param member      회원
-     * @param chatroomIds 채팅방 id list
-     * @return Map<채팅방 id, 상대 회원 객체>
+     * @param memberId 회원 id
+     * @param uuid     채팅방 uuid
+     * @return ChatroomMembership
      */
-    public Map<Long, Member> getChatroomTargetMembersBatch(Member member, List<Long> chatroomIds) {
-        return memberChatroomRepository.findTargetMembersBatch(chatroomIds, member.getId());
+    public ChatroomMembership getChatroomMembership(Long memberId, String uuid) {
+        ChatroomMembership membership = chatroomMembershipCache.get(uuid)
+                .orElseGet(() -> loadChatroomMembership(uuid));
+
+        if (!membership.contains(memberId)) {
+            throw new ChatException(ErrorCode.CHATROOM_ACCESS_DENIED);
+        }
+
+        return membership;
+    }
+
+    /**
+     * 채팅방 id에 해당하는 Chatroom 프록시를 반환하는 메소드
+     * id만 필요한 경우 조회 쿼리가 실행되지 않는다
+     *
+     * @param chatroomId 채팅방 id
+     * @return Chatroom 프록시
+     */
+    public Chatroom getChatroomReference(Long chatroomId) {
+        return chatroomRepository.getReferenceById(chatroomId);
     }
 
     /**
@@ -115,11 +163,22 @@ public class ChatQueryService {
     /**
      * 회원이 입장한 상태인 모든 memberChatroom list 반환하는 메소드
      *
-     * @param member 회원
+     * @param memberId 회원 id
      * @return MemberChatroom list
      */
-    public List<MemberChatroom> getActiveMemberChatrooms(Member member) {
-        return memberChatroomRepository.findAllActiveMemberChatroomByMemberId(member.getId());
+    public List<MemberChatroom> getActiveMemberChatrooms(Long memberId) {
+        return memberChatroomRepository.findAllActiveMemberChatroomByMemberId(memberId);
+    }
+
+    /**
+     * 회원이 입장한 상태인 채팅방 목록 조회 모델 slice 객체를 반환하는 메소드
+     *
+     * @param member 회원
+     * @param cursor 이전 페이지 마지막 채팅방의 (정렬 키, 채팅방 id)
+     * @return ChatroomSummary Slice 객체
+     */
+    public Slice<ChatroomSummary> getChatroomSummarySlice(Member member, ChatroomCursor cursor) {
+        return chatroomRepository.findChatroomSummariesByCursor(member.getId(), cursor, CHATROOM_PAGE_SIZE);
     }
 
     /**
@@ -131,18 +190,16 @@ public class ChatQueryService {
      */
     public int countUnreadChats(Member member, Chatroom chatroom) {
         chatValidator.validateMemberChatroom(member.getId(), chatroom.getId());
-        return chatRepository.countUnreadChats(member.getId(), chatroom.getId());
+        return chatRepository.countUnreadChats(chatroom.getId(), member.getId());
     }
 
     /**
-     * 채팅방 각각에 대한 안읽은 메시지 개수를 반환하는 메소드
+     * memberChatroom 테이블의 최대 id를 반환하는 메소드
      *
-     * @param member      회원
-     * @param chatroomIds 채팅방 id list
-     * @return Map<채팅방 id, 안읽은 메시지 개수>
+     * @return 최대 memberChatroom id
      */
-    public Map<Long, Integer> countUnreadChatsBatch(Member member, List<Long> chatroomIds) {
-        return chatRepository.countUnreadChatsBatch(chatroomIds, member.getId());
+    public Long getMaxMemberChatroomId() {
+        return memberChatroomRepository.findMaxId();
     }
 
     /**
@@ -157,21 +214,18 @@ public class ChatQueryService {
                 () -> new ChatException(ErrorCode.CHAT_MESSAGE_NOT_FOUND));
     }
 
-    /**
-     * id로 chat 엔티티 배치 조회 메소드
-     *
-     * @param chatIds 채팅 id list
-     * @return Map<채팅방 id, 채팅 객체>
-     */
-    public Map<Long, Chat> findAllChatsBatch(List<Long> chatIds) {
-        List<Chat> chats = chatRepository.findAllById(chatIds);
-
-        Map<Long, Chat> chatMap = new HashMap<>();
-        for (Chat chat : chats) {
-            chatMap.put(chat.getChatroom().getId(), chat);
-        }
-
-        return chatMap;
+    private ChatroomMembership loadChatroomMembership(String uuid) {
+        ChatroomMembership membership = memberChatroomRepository.findChatroomMembershipByUuid(uuid)
+                .orElseThrow(() -> {
+                    // 채팅방이 존재하지 않는 경우와 참여 회원이 없는 경우를 구분
+                    if (chatroomRepository.findByUuid(uuid).isEmpty()) {
+                        return new ChatException(ErrorCode.CHATROOM_NOT_FOUND);
+                    }
+                    return new ChatException(ErrorCode.CHATROOM_ACCESS_DENIED);
+                });
+
+        chatroomMembershipCache.put(uuid, membership);
+        return membership;
     }
 
 }
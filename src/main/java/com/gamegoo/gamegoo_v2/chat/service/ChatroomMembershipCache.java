@@ -0,0 +1,38 @@
+package com.gamegoo.gamegoo_v2.chat.service;
+
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomMembership;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 채팅방 uuid 별 채팅방 id, 참여 회원 id 캐시
+ * 채팅방 조회와 참여 회원 검증, 상대 회원 id 조회를 db 조회 없이 처리하기 위해 사용한다
+ * 채팅방 참여 회원은 채팅방 생성 이후 변경되지 않으며 퇴장 여부는 MemberChatroom에서 검증하므로 별도로 제거하지 않는다
+ */
+@Component
+public class ChatroomMembershipCache {
+
+    // 메모리에 유지할 최대 채팅방 수, 초과 시 가장 오래 사용되지 않은 채팅방부터 제거
+    private static final int MAX_CHATROOMS = 10_000;
+
+    private final Map<String, ChatroomMembership> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ChatroomMembership> eldest) {
+                    return size() > MAX_CHATROOMS;
+                }
+            });
+
+    public Optional<ChatroomMembership> get(String uuid) {
+        return Optional.ofNullable(cache.get(uuid));
+    }
+
+    public void put(String uuid, ChatroomMembership membership) {
+        cache.put(uuid, membership);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.gamegoo.gamegoo_v2.chat.service;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.core.exception.ChatException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시스템 메시지 발신자인 system member 제공
+ * 서버 시작 시 system member의 존재 여부를 한 번 확인하고, 이후에는 조회 쿼리 없이 JPA reference 프록시를 반환한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SystemMemberProvider {
+
+    public static final Long SYSTEM_MEMBER_ID = 0L;
+
+    private final MemberRepository memberRepository;
+
+    // system member 존재가 확인된 경우 true, 확인되지 않은 경우 요청 시마다 다시 확인한다
+    private volatile boolean verified = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        verified = memberRepository.existsById(SYSTEM_MEMBER_ID);
+        if (!verified) {
+            log.warn("System member does not exist, id: {}", SYSTEM_MEMBER_ID);
+        }
+    }
+
+    /**
+     * system member reference 반환
+     * 현재 트랜잭션 안에서 fromMember 등 연관관계 설정에 사용한다
+     *
+     * @return system member 프록시
+     */
+    public Member getSystemMember() {
+        if (!verified) {
+            verified = memberRepository.existsById(SYSTEM_MEMBER_ID);
+            if (!verified) {
+                throw new ChatException(ErrorCode.SYSTEM_MEMBER_NOT_FOUND);
+            }
+        }
+        return memberRepository.getReferenceById(SYSTEM_MEMBER_ID);
+    }
+
+}
@@ -3,7 +3,7 @@ package com.gamegoo.gamegoo_v2.core.common.validator;
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import com.gamegoo.gamegoo_v2.core.exception.common.GlobalException;
-import com.gamegoo.gamegoo_v2.social.block.repository.BlockRepository;
+import com.gamegoo.gamegoo_v2.social.block.service.BlockGraphCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -11,7 +11,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class BlockValidator extends BaseValidator {
 
-    private final BlockRepository blockRepository;
+    private final BlockGraphCache blockGraphCache;
 
     /**
      * 회원이 상대 회원을 차단한 경우 입력받은 Exception을 발생시키는 메소드
@@ -23,10 +23,29 @@ public class BlockValidator extends BaseValidator {
      */
     public <T extends GlobalException> void throwIfBlocked(Member member, Member targetMember,
                                                            Class<T> exceptionClass, ErrorCode errorCode) {
-        boolean exists = blockRepository.existsByBlockerMemberAndBlockedMemberAndDeleted(member, targetMember, false);
-        if (exists) {
+        if (blockGraphCache.isBlocked(member.getId(), targetMember.getId())) {
             throw createException(exceptionClass, errorCode);
         }
     }
 
+    /**
+     * 두 회원 중 한 명이라도 상대를 차단한 경우 차단 방향에 맞는 Exception을 발생시키는 메소드
+     *
+     * @param member                   회원
+     * @param targetMember             상대 회원
+     * @param exceptionClass           예외 클래스
+     * @param targetBlockedErrorCode   회원이 상대 회원을 차단한 경우 에러 코드
+     * @param blockedByTargetErrorCode 상대 회원이 회원을 차단한 경우 에러 코드
+     */
+    public <T extends GlobalException> void throwIfBlockedEitherWay(Member member, Member targetMember,
+                                                                    Class<T> exceptionClass,
+                                                                    ErrorCode targetBlockedErrorCode,
+                                                                    ErrorCode blockedByTargetErrorCode) {
+        if (!blockGraphCache.isBlockedEitherWay(member.getId(), targetMember.getId())) {
+            return;
+        }
+        throwIfBlocked(member, targetMember, exceptionClass, targetBlockedErrorCode);
+        throw createException(exceptionClass, blockedByTargetErrorCode);
+    }
+
 }
@@ -1,15 +1,28 @@
 package com.gamegoo.gamegoo_v2.core.config;
 
+import com.gamegoo.gamegoo_v2.external.client.HttpClientFactory;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@RequiredArgsConstructor
 public class AppConfig {
 
+    private final HttpClientFactory httpClientFactory;
+    private final HttpClientProperties httpClientProperties;
+
+    // Riot API 호출용 RestTemplate
+    @Bean
+    public RestTemplate riotRestTemplate() {
+        return httpClientFactory.create("riot", httpClientProperties.getRiot());
+    }
+
+    // socket 서버 호출용 RestTemplate
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate socketRestTemplate() {
+        return httpClientFactory.create("socket", httpClientProperties.getSocket());
     }
 
 }
@@ -1,10 +1,105 @@
 package com.gamegoo.gamegoo_v2.core.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업 종류 별 executor 설정
+ * 각 executor는 thread와 대기 queue를 따로 가지므로, 한 작업이 느려져도 다른 작업의 thread를 점유하지 않는다
+ * socket 서버 호출은 SocketJoinOutboxRelay가 scheduler thread에서, 알림 저장은 NotificationDispatcher worker thread에서 처리한다
+ * pool, queue 크기는 actuator의 executor.* 지표로, 대기 및 실행 시간은 async.task.* 지표로 확인할 수 있다
+ */
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig {
 
+    public static final String RIOT_EXECUTOR = "riotTaskExecutor";
+
+    private final AsyncProperties asyncProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Riot API 매칭 정보 동시 조회용 executor
+     * queue가 가득 찬 경우 호출한 thread에서 실행하며, 요청 속도는 riotRestTemplate의 rate limit으로 제한된다
+     */
+    @Bean(name = RIOT_EXECUTOR)
+    public AsyncTaskExecutor riotTaskExecutor() {
+        return createExecutor("riot", asyncProperties.getRiot(), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private AsyncTaskExecutor createExecutor(String name, AsyncProperties.Pool pool,
+                                             RejectedExecutionHandler rejectedExecutionHandler) {
+        TaskDecorator taskDecorator = timedTaskDecorator(name);
+
+        if (pool.isVirtualThreads()) {
+            // 대기 queue 없이 maxSize개를 초과하는 작업은 호출한 thread에서 자리가 날 때까지 대기한다
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(pool.getMaxSize());
+            executor.setTaskTerminationTimeout(pool.getAwaitTermination().toMillis());
+            executor.setTaskDecorator(taskDecorator);
+            return executor;
+        }
+
+        Counter rejectedCounter = Counter.builder("async.task.rejected")
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds((int) pool.getKeepAlive().toSeconds());
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler((runnable, threadPoolExecutor) -> {
+            rejectedCounter.increment();
+            rejectedExecutionHandler.rejectedExecution(runnable, threadPoolExecutor);
+        });
+        // 종료 시 queue에 남은 작업까지 실행한 뒤 종료
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(pool.getAwaitTermination().toMillis());
+        executor.setTaskDecorator(taskDecorator);
+        return executor;
+    }
+
+    /**
+     * 작업이 queue에서 대기한 시간과 실행 시간을 기록하는 decorator
+     */
+    private TaskDecorator timedTaskDecorator(String name) {
+        Timer waitTimer = Timer.builder("async.task.wait")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Timer executionTimer = Timer.builder("async.task.execution")
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        return runnable -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    runnable.run();
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
 }
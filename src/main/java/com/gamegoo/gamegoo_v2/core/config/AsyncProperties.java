@@ -0,0 +1,45 @@
+package com.gamegoo.gamegoo_v2.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "async") // application.yml의 async 영역에서 설정 가져오기
+public class AsyncProperties {
+
+    private Pool riot = new Pool();
+
+    /**
+     * 작업 종류 별 executor 설정
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+
+        // 기본 thread 수
+        private int coreSize = 4;
+
+        // 최대 thread 수, 대기 queue가 가득 찬 경우 이 수까지 thread를 늘림
+        private int maxSize = 8;
+
+        // 대기 queue 크기
+        private int queueCapacity = 500;
+
+        // 유휴 thread 유지 시간
+        private Duration keepAlive = Duration.ofSeconds(60);
+
+        // 종료 시 남은 작업을 기다리는 최대 시간
+        private Duration awaitTermination = Duration.ofSeconds(10);
+
+        // virtual thread 사용 여부, JDK 21 이상에서만 사용 가능하며 maxSize가 동시 실행 제한으로 사용됨
+        private boolean virtualThreads = false;
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.gamegoo.gamegoo_v2.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "http-client") // application.yml의 http-client 영역에서 설정 가져오기
+public class HttpClientProperties {
+
+    private Destination riot = new Destination();
+    private Destination socket = new Destination();
+
+    /**
+     * 외부 서버 별 http client 설정
+     */
+    @Getter
+    @Setter
+    public static class Destination {
+
+        // 연결 수립 제한 시간
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        // 응답 대기 제한 시간
+        private Duration readTimeout = Duration.ofSeconds(5);
+
+        // connection pool 최대 크기
+        private int maxConnections = 50;
+
+        // 동시에 호출 가능한 최대 요청 수, 초과 시 acquireTimeout 동안 대기 후 실패
+        private int maxConcurrentCalls = 30;
+
+        // bulkhead 및 connection pool 대기 제한 시간
+        private Duration acquireTimeout = Duration.ofMillis(500);
+
+        // 유휴 connection 유지 시간
+        private Duration keepAlive = Duration.ofSeconds(30);
+
+        // 초당 최대 요청 수, 0 이하이면 제한하지 않음
+        private double permitsPerSecond = 0;
+
+        // 순간적으로 허용되는 최대 요청 수
+        private int burst = 1;
+
+        // rate limit 대기 제한 시간
+        private Duration rateLimitTimeout = Duration.ofSeconds(10);
+
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.gamegoo.gamegoo_v2.core.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * scheduled 작업 별 scheduler 설정
+ * 짧은 주기로 실행되는 outbox relay는 전용 thread에서 실행해, 새벽 batch 작업이 오래 걸려도 join 요청 전송이 지연되지 않도록 한다
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String SOCKET_OUTBOX_SCHEDULER = "socketOutboxScheduler";
+
+    /**
+     * scheduler를 지정하지 않은 batch 작업용 기본 scheduler
+     * 다른 TaskScheduler bean이 등록되면 기본 scheduler가 자동 설정되지 않으므로 spring.task.scheduling 설정으로 직접 생성한다
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * SocketJoinOutboxRelay 전송 전용 scheduler
+     */
+    @Bean(name = SOCKET_OUTBOX_SCHEDULER)
+    public ThreadPoolTaskScheduler socketOutboxScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("socket-outbox-");
+        return scheduler;
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.gamegoo.gamegoo_v2.core.config;
 
 import com.gamegoo.gamegoo_v2.account.auth.annotation.resolver.AuthMemberArgumentResolver;
+import com.gamegoo.gamegoo_v2.account.auth.annotation.resolver.AuthMemberIdArgumentResolver;
 import com.gamegoo.gamegoo_v2.account.auth.jwt.JwtInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
@@ -16,6 +17,7 @@ import java.util.List;
 public class WebConfig implements WebMvcConfigurer {
 
     private final AuthMemberArgumentResolver authMemberArgumentResolver;
+    private final AuthMemberIdArgumentResolver authMemberIdArgumentResolver;
     private final JwtInterceptor jwtInterceptor;
     private final List<String> excludeEndpoints = Arrays.asList("/api/v2/auth/token/**", "/api/v2/email/send/**",
             "/api/v2/email/verify", "/api/v2/riot/verify", "/api/v2/auth/join", "/api/v2/auth/login", "/api/v2" +
@@ -29,10 +31,11 @@ public class WebConfig implements WebMvcConfigurer {
                 .excludePathPatterns(excludeEndpoints); // 인터셉터 적용하지 않을 endpoint
     }
 
-    // authMember 어노테이션 resolver 설정
+    // authMember, authMemberId 어노테이션 resolver 설정
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(authMemberArgumentResolver);
+        resolvers.add(authMemberIdArgumentResolver);
     }
 
 }
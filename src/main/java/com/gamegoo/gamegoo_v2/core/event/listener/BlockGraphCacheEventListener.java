@@ -0,0 +1,27 @@
+package com.gamegoo.gamegoo_v2.core.event.listener;
+
+import com.gamegoo.gamegoo_v2.core.event.BlockStatusChangeEvent;
+import com.gamegoo.gamegoo_v2.social.block.service.BlockGraphCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class BlockGraphCacheEventListener {
+
+    private final BlockGraphCache blockGraphCache;
+
+    /**
+     * 차단, 차단 해제, 차단 목록 삭제 시 차단한 회원의 캐시를 제거하는 event listener
+     * 다음 차단 여부 검증 시 db에서 다시 로딩한다
+     *
+     * @param event event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBlockStatusChangeEvent(BlockStatusChangeEvent event) {
+        blockGraphCache.evict(event.getBlockerId());
+    }
+
+}
@@ -1,44 +1,42 @@
 package com.gamegoo.gamegoo_v2.core.event.listener;
 
-import com.gamegoo.gamegoo_v2.account.member.domain.Member;
-import com.gamegoo.gamegoo_v2.account.member.service.MemberService;
 import com.gamegoo.gamegoo_v2.core.event.AcceptFriendRequestEvent;
 import com.gamegoo.gamegoo_v2.core.event.RejectFriendRequestEvent;
 import com.gamegoo.gamegoo_v2.core.event.SendFriendRequestEvent;
-import com.gamegoo.gamegoo_v2.notification.service.NotificationService;
+import com.gamegoo.gamegoo_v2.notification.domain.NotificationTypeTitle;
+import com.gamegoo.gamegoo_v2.notification.service.NotificationDispatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 친구 요청 관련 알림 생성 event listener
+ * 커밋 이후 NotificationDispatcher의 queue에 넣기만 하고 저장은 dispatcher worker가 batch로 처리하므로 요청 thread를 막지 않는다
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class FriendRequestEventListener {
 
-    private final NotificationService notificationService;
-    private final MemberService memberService;
+    private final NotificationDispatcher notificationDispatcher;
 
     /**
      * 친구 요청 전송 event listener
      *
      * @param event event
      */
-    @Async
-    @Transactional
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleSendFriendRequestEvent(SendFriendRequestEvent event) {
         try {
-            Member member = memberService.findMemberById(event.getMemberId());
-            Member sourceMember = memberService.findMemberById(event.getSourceMemberId());
-
             // member가 sourceMember에게 친구 요청 전송했음 알림 생성
-            notificationService.createSendFriendRequestNotification(member, sourceMember);
+            notificationDispatcher.dispatch(NotificationTypeTitle.FRIEND_REQUEST_SEND, event.getMemberId(),
+                    event.getSourceMemberId());
 
             // sourceMember가 member로부터 친구 요청 받았음 알림 생성
-            notificationService.createReceivedFriendRequestNotification(sourceMember, member);
+            notificationDispatcher.dispatch(NotificationTypeTitle.FRIEND_REQUEST_RECEIVED,
+                    event.getSourceMemberId(), event.getMemberId());
         } catch (Exception e) {
             log.error("Failed to create friend request notifications", e);
         }
@@ -49,16 +47,12 @@ public class FriendRequestEventListener {
      *
      * @param event event
      */
-    @Async
-    @Transactional
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleAcceptFriendRequestEvent(AcceptFriendRequestEvent event) {
         try {
-            Member member = memberService.findMemberById(event.getMemberId());
-            Member targetMember = memberService.findMemberById(event.getTargetMemberId());
-
             // targetMember에게 member가 친구 요청 수락했음 알림 생성
-            notificationService.createAcceptFriendRequestNotification(targetMember, member);
+            notificationDispatcher.dispatch(NotificationTypeTitle.FRIEND_REQUEST_ACCEPTED,
+                    event.getTargetMemberId(), event.getMemberId());
         } catch (Exception e) {
             log.error("Failed to create accept friend request notifications", e);
         }
@@ -69,16 +63,12 @@ public class FriendRequestEventListener {
      *
      * @param event event
      */
-    @Async
-    @Transactional
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleRejectFriendRequestEvent(RejectFriendRequestEvent event) {
         try {
-            Member member = memberService.findMemberById(event.getMemberId());
-            Member targetMember = memberService.findMemberById(event.getTargetMemberId());
-
             // targetMember에게 member가 친구 요청 거절했음 알림 생성
-            notificationService.createRejectFriendRequestNotification(targetMember, member);
+            notificationDispatcher.dispatch(NotificationTypeTitle.FRIEND_REQUEST_REJECTED,
+                    event.getTargetMemberId(), event.getMemberId());
         } catch (Exception e) {
             log.error("Failed to create reject friend request notifications", e);
         }
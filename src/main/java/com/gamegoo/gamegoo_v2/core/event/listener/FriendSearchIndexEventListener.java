@@ -0,0 +1,54 @@
+package com.gamegoo.gamegoo_v2.core.event.listener;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.service.MemberService;
+import com.gamegoo.gamegoo_v2.core.event.AcceptFriendRequestEvent;
+import com.gamegoo.gamegoo_v2.core.event.DeleteFriendEvent;
+import com.gamegoo.gamegoo_v2.social.friend.service.FriendSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendSearchIndexEventListener {
+
+    private final FriendSearchIndex friendSearchIndex;
+    private final MemberService memberService;
+
+    /**
+     * 친구 요청 수락 시 두 회원의 친구 검색 인덱스에 서로를 추가하는 event listener
+     *
+     * @param event event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAcceptFriendRequestEvent(AcceptFriendRequestEvent event) {
+        try {
+            Member member = memberService.findMemberById(event.getMemberId());
+            Member targetMember = memberService.findMemberById(event.getTargetMemberId());
+
+            friendSearchIndex.addFriend(member.getId(), targetMember);
+            friendSearchIndex.addFriend(targetMember.getId(), member);
+        } catch (Exception e) {
+            // 인덱스 갱신에 실패한 경우 다음 검색 시 db에서 다시 로딩
+            friendSearchIndex.evict(event.getMemberId());
+            friendSearchIndex.evict(event.getTargetMemberId());
+            log.error("Failed to update friend search index", e);
+        }
+    }
+
+    /**
+     * 친구 삭제 시 두 회원의 친구 검색 인덱스에서 서로를 제거하는 event listener
+     *
+     * @param event event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDeleteFriendEvent(DeleteFriendEvent event) {
+        friendSearchIndex.removeFriend(event.getMemberId(), event.getTargetMemberId());
+        friendSearchIndex.removeFriend(event.getTargetMemberId(), event.getMemberId());
+    }
+
+}
@@ -1,27 +1,39 @@
 package com.gamegoo.gamegoo_v2.core.event.listener;
 
 import com.gamegoo.gamegoo_v2.core.event.SocketJoinEvent;
-import com.gamegoo.gamegoo_v2.external.socket.SocketService;
+import com.gamegoo.gamegoo_v2.external.socket.SocketJoinOutboxService;
+import com.gamegoo.gamegoo_v2.external.socket.scheduler.SocketJoinOutboxRelay;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 @RequiredArgsConstructor
 public class SocketEventListener {
 
-    private final SocketService socketService;
+    private final SocketJoinOutboxService socketJoinOutboxService;
+    private final SocketJoinOutboxRelay socketJoinOutboxRelay;
 
     /**
-     * socket 서버로 join API 요청 event listener
+     * socket join 요청을 outbox에 저장하는 event listener
+     * 이벤트를 발생시킨 트랜잭션 안에서 저장되므로 롤백되면 함께 취소되며, 전송은 SocketJoinOutboxRelay가 담당한다
      *
      * @param event event
      */
-    @Async
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleSocketJoinEvent(SocketJoinEvent event) {
-        socketService.joinSocketToChatroom(event.getMemberId(), event.getUuid());
+        socketJoinOutboxService.saveJoin(event.getMemberId(), event.getUuid());
+    }
+
+    /**
+     * join 요청이 커밋되면 조회 간격이 늘어난 relay가 바로 전송하도록 하는 event listener
+     *
+     * @param event event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void wakeUpRelay(SocketJoinEvent event) {
+        socketJoinOutboxRelay.wakeUp();
     }
 
 }
@@ -116,6 +116,7 @@ public enum ErrorCode {
     ADD_BOARD_SYSTEM_CHAT_FAILED(BAD_REQUEST, "CHAT_412", "해당 게시글을 찾을 수 없습니다. 게시글 시스템 메시지 등록에 실패했습니다."),
     SYSTEM_MEMBER_NOT_FOUND(INTERNAL_SERVER_ERROR, "CHAT_413", "시스템 메시지 등록에 실패했습니다. 관리자에게 문의 바랍니다."),
     SYSTEM_MESSAGE_TYPE_NOT_FOUND(INTERNAL_SERVER_ERROR, "CHAT_414", "시스템 메시지 타입 조회에 실패했습니다. 관리자에게 문의 바랍니다."),
+    CHATROOM_CURSOR_BAD_REQUEST(BAD_REQUEST, "CHAT_415", "올바르지 않은 채팅방 목록 커서입니다."),
 
     /**
      * 게시판 관련 에러
@@ -132,6 +133,7 @@ public enum ErrorCode {
     /**
      * socket 서버 관련 에러
      */
+    SOCKET_API_REQUEST_REJECTED(BAD_REQUEST, "SOCKET401", "socket서버가 api 요청을 거부했습니다."),
     SOCKET_API_RESPONSE_ERROR(INTERNAL_SERVER_ERROR, "SOCKET501", "socket서버 api 요청에 실패했습니다.");
 
 
@@ -0,0 +1,25 @@
+package com.gamegoo.gamegoo_v2.core.migration;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class IndexDefinition {
+
+    private final String table;
+    private final String name;
+    private final List<String> columns;
+
+    public static IndexDefinition of(String table, String name, String... columns) {
+        return new IndexDefinition(table, name, List.of(columns));
+    }
+
+    public String toCreateSql() {
+        return "CREATE INDEX " + name + " ON " + table + " (" + String.join(", ", columns) + ")";
+    }
+
+}
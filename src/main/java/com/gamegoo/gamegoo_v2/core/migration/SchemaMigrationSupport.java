@@ -0,0 +1,166 @@
+package com.gamegoo.gamegoo_v2.core.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+
+public final class SchemaMigrationSupport {
+
+    private SchemaMigrationSupport() {
+    }
+
+    /**
+     * 인덱스 목록을 생성하는 메소드
+     * 테이블이 아직 없거나 같은 이름의 인덱스가 이미 있는 경우 건너뛴다
+     *
+     * @param connection db connection
+     * @param indexes    생성할 인덱스 list
+     * @return 새로 생성된 인덱스 개수
+     */
+    public static int createIndexes(Connection connection, List<IndexDefinition> indexes) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        int created = 0;
+
+        for (IndexDefinition index : indexes) {
+            String table = toStoredCase(metaData, index.getTable());
+
+            if (!tableExists(connection, metaData, table) || indexExists(connection, metaData, table,
+                    index.getName())) {
+                continue;
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(index.toCreateSql());
+            }
+            created++;
+        }
+
+        return created;
+    }
+
+    /**
+     * 인덱스가 있는 경우 삭제하는 메소드
+     * 테이블이 아직 없거나 인덱스가 없는 경우 건너뛴다
+     *
+     * @param connection db connection
+     * @param table      테이블 이름
+     * @param indexName  인덱스 이름
+     * @return 인덱스 삭제 여부
+     */
+    public static boolean dropIndexIfExists(Connection connection, String table, String indexName)
+            throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String storedTable = toStoredCase(metaData, table);
+
+        if (!tableExists(connection, metaData, storedTable) || !indexExists(connection, metaData, storedTable,
+                indexName)) {
+            return false;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP INDEX " + indexName + " ON " + table);
+        }
+        return true;
+    }
+
+    /**
+     * 컬럼이 없는 경우 컬럼을 추가하는 메소드
+     * 테이블이 아직 없는 경우 건너뛴다
+     *
+     * @param connection       db connection
+     * @param table            테이블 이름
+     * @param column           컬럼 이름
+     * @param columnDefinition 컬럼 타입 정의
+     * @return 컬럼 추가 여부
+     */
+    public static boolean addColumnIfAbsent(Connection connection, String table, String column,
+                                            String columnDefinition) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String storedTable = toStoredCase(metaData, table);
+
+        if (!tableExists(connection, metaData, storedTable) || columnExists(connection, metaData, storedTable,
+                toStoredCase(metaData, column))) {
+            return false;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + columnDefinition);
+        }
+        return true;
+    }
+
+    /**
+     * 테이블이 없는 경우 테이블을 생성하는 메소드
+     *
+     * @param connection db connection
+     * @param table      테이블 이름
+     * @param createSql  CREATE TABLE 문
+     * @return 테이블 생성 여부
+     */
+    public static boolean createTableIfAbsent(Connection connection, String table, String createSql)
+            throws SQLException {
+        if (tableExists(connection, table)) {
+            return false;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(createSql);
+        }
+        return true;
+    }
+
+    /**
+     * 테이블 존재 여부를 반환하는 메소드
+     *
+     * @param connection db connection
+     * @param table      테이블 이름
+     * @return 테이블 존재 여부
+     */
+    public static boolean tableExists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        return tableExists(connection, metaData, toStoredCase(metaData, table));
+    }
+
+    private static boolean tableExists(Connection connection, DatabaseMetaData metaData, String table)
+            throws SQLException {
+        try (ResultSet rs = metaData.getTables(connection.getCatalog(), connection.getSchema(), table,
+                new String[]{"TABLE"})) {
+            return rs.next();
+        }
+    }
+
+    private static boolean columnExists(Connection connection, DatabaseMetaData metaData, String table,
+                                        String column) throws SQLException {
+        try (ResultSet rs = metaData.getColumns(connection.getCatalog(), connection.getSchema(), table, column)) {
+            return rs.next();
+        }
+    }
+
+    private static boolean indexExists(Connection connection, DatabaseMetaData metaData, String table,
+                                       String indexName) throws SQLException {
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false,
+                true)) {
+            while (rs.next()) {
+                if (indexName.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String toStoredCase(DatabaseMetaData metaData, String identifier) throws SQLException {
+        if (metaData.storesUpperCaseIdentifiers()) {
+            return identifier.toUpperCase(Locale.ROOT);
+        }
+        if (metaData.storesLowerCaseIdentifiers()) {
+            return identifier.toLowerCase(Locale.ROOT);
+        }
+        return identifier;
+    }
+
+}
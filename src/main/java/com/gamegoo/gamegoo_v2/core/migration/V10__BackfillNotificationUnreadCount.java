@@ -0,0 +1,66 @@
+package com.gamegoo.gamegoo_v2.core.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 아직 집계되지 않은(null) member.unread_notification_count를 회원 id 범위 단위로 채우고 NOT NULL DEFAULT 0으로 변경
+ * 이후에는 알림 생성/읽음/삭제 시 update 쿼리로만 개수가 변경된다
+ */
+public class V10__BackfillNotificationUnreadCount extends BaseJavaMigration {
+
+    private static final long CHUNK_SIZE = 1000L;
+
+    private static final String BACKFILL_SQL = """
+            UPDATE member m
+            SET unread_notification_count = (
+                SELECT COUNT(*)
+                FROM notification n
+                WHERE n.member_id = m.member_id
+                AND n.is_read = FALSE
+            )
+            WHERE m.member_id BETWEEN ? AND ?
+            AND m.unread_notification_count IS NULL
+            """;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        // 테이블이 아직 없는 경우 ddl-auto로 NOT NULL DEFAULT 0 컬럼이 생성된다
+        if (!SchemaMigrationSupport.tableExists(connection, "member")
+                || !SchemaMigrationSupport.tableExists(connection, "notification")) {
+            return;
+        }
+
+        SchemaMigrationSupport.addColumnIfAbsent(connection, "member", "unread_notification_count", "INT");
+        backfillUnreadCounts(connection);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE member MODIFY unread_notification_count INT NOT NULL DEFAULT 0");
+        }
+    }
+
+    private void backfillUnreadCounts(Connection connection) throws Exception {
+        long maxId;
+        try (Statement select = connection.createStatement();
+             ResultSet rs = select.executeQuery("SELECT COALESCE(MAX(member_id), 0) FROM member")) {
+            rs.next();
+            maxId = rs.getLong(1);
+        }
+
+        try (PreparedStatement update = connection.prepareStatement(BACKFILL_SQL)) {
+            for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+                update.setLong(1, fromId);
+                update.setLong(2, fromId + CHUNK_SIZE - 1);
+                update.executeUpdate();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.gamegoo.gamegoo_v2.core.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * socket join 요청 outbox 테이블 추가
+ * ddl-auto로 이미 생성된 경우 요청 선점을 위한 claim_token 컬럼만 추가한다
+ */
+public class V11__AddSocketJoinOutbox extends BaseJavaMigration {
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE socket_join_outbox (
+                socket_join_outbox_id BIGINT NOT NULL AUTO_INCREMENT,
+                created_at DATETIME(6),
+                updated_at DATETIME(6),
+                member_id BIGINT NOT NULL,
+                chatroom_uuid VARCHAR(100) NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                attempts INT NOT NULL,
+                next_attempt_at DATETIME(6) NOT NULL,
+                claim_token VARCHAR(36),
+                PRIMARY KEY (socket_join_outbox_id)
+            )
+            """;
+
+    public static final List<IndexDefinition> INDEXES = List.of(
+            // 전송 시각이 된 대기 중인 요청 조회
+            IndexDefinition.of("socket_join_outbox", "idx_socket_join_outbox_status_next_attempt", "status",
+                    "next_attempt_at"),
+            // 선점한 요청 조회
+            IndexDefinition.of("socket_join_outbox", "idx_socket_join_outbox_claim_token", "claim_token")
+    );
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        if (!SchemaMigrationSupport.createTableIfAbsent(connection, "socket_join_outbox", CREATE_TABLE_SQL)) {
+            SchemaMigrationSupport.addColumnIfAbsent(connection, "socket_join_outbox", "claim_token", "VARCHAR(36)");
+        }
+        SchemaMigrationSupport.createIndexes(connection, INDEXES);
+    }
+
+}
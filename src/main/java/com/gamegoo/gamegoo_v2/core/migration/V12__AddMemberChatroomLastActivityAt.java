@@ -0,0 +1,72 @@
+package com.gamegoo.gamegoo_v2.core.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 채팅방 목록 keyset 페이징을 member_chatroom 인덱스만으로 처리하기 위한 member_chatroom.last_activity_at 컬럼 및 인덱스 추가
+ * 컬럼을 새로 추가한 경우 기존 memberChatroom의 정렬 키를 chatroom.last_chat_at, 없는 경우 last_join_date로 id 범위 단위로 나누어 채우고,
+ * 더 이상 사용하지 않는 last_join_date 인덱스는 삭제한다
+ */
+public class V12__AddMemberChatroomLastActivityAt extends BaseJavaMigration {
+
+    public static final List<IndexDefinition> INDEXES = List.of(
+            IndexDefinition.of("member_chatroom", "idx_member_chatroom_member_last_activity", "member_id",
+                    "last_activity_at", "chatroom_id")
+    );
+
+    private static final long CHUNK_SIZE = 1000L;
+
+    private static final String BACKFILL_SQL = """
+            UPDATE member_chatroom mc
+            SET last_activity_at = COALESCE((
+                SELECT c.last_chat_at
+                FROM chatroom c
+                WHERE c.chatroom_id = mc.chatroom_id
+            ), mc.last_join_date)
+            WHERE mc.member_chatroom_id BETWEEN ? AND ?
+            """;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        // 테이블이 아직 없는 경우 ddl-auto로 생성되며, 이후 채팅방 입장 및 메시지 전송 시 정렬 키가 저장된다
+        if (SchemaMigrationSupport.tableExists(connection, "member_chatroom")) {
+            boolean added = SchemaMigrationSupport.addColumnIfAbsent(connection, "member_chatroom",
+                    "last_activity_at", "DATETIME(6)");
+
+            if (added && SchemaMigrationSupport.tableExists(connection, "chatroom")) {
+                backfillLastActivityAt(connection);
+            }
+
+            SchemaMigrationSupport.createIndexes(connection, INDEXES);
+        }
+
+        SchemaMigrationSupport.dropIndexIfExists(connection, "member_chatroom", "idx_member_chatroom_member_last_join");
+    }
+
+    private void backfillLastActivityAt(Connection connection) throws Exception {
+        long maxId;
+        try (Statement select = connection.createStatement();
+             ResultSet rs = select.executeQuery("SELECT COALESCE(MAX(member_chatroom_id), 0) FROM member_chatroom")) {
+            rs.next();
+            maxId = rs.getLong(1);
+        }
+
+        try (PreparedStatement update = connection.prepareStatement(BACKFILL_SQL)) {
+            for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+                update.setLong(1, fromId);
+                update.setLong(2, fromId + CHUNK_SIZE - 1);
+                update.executeUpdate();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.gamegoo.gamegoo_v2.core.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.util.List;
+
+/**
+ * 채팅, 친구, 차단, 알림 테이블의 주요 조회 조건에 대한 복합 인덱스 추가
+ * 엔티티의 @Table(indexes)와 같은 이름으로 생성하므로 ddl-auto로 이미 생성된 인덱스는 건너뛴다
+ */
+public class V2__AddHotQueryIndexes extends BaseJavaMigration {
+
+    public static final List<IndexDefinition> INDEXES = List.of(
+            // 최근 메시지, 안읽은 메시지 개수 조회
+            IndexDefinition.of("chat", "idx_chat_chatroom_created_at", "chatroom_id", "created_at"),
+            // 커서 기반 메시지 조회, timestamp로 메시지 조회
+            IndexDefinition.of("chat", "idx_chat_chatroom_timestamp", "chatroom_id", "timestamp"),
+            // 회원-채팅방 조회
+            IndexDefinition.of("member_chatroom", "idx_member_chatroom_member_chatroom", "member_id", "chatroom_id"),
+            // 친구 여부 조회
+            IndexDefinition.of("friend", "idx_friend_from_to", "from_member_id", "to_member_id"),
+            // 친구 요청 조회
+            IndexDefinition.of("friend_request", "idx_friend_request_from_to_status", "from_member_id",
+                    "to_member_id", "status"),
+            IndexDefinition.of("friend_request", "idx_friend_request_to_status", "to_member_id", "status"),
+            // 차단 여부 조회
+            IndexDefinition.of("block", "idx_block_blocker_blocked_deleted", "blocker_id", "blocked_id",
+                    "deleted"),
+            IndexDefinition.of("block", "idx_block_blocked_blocker_deleted", "blocked_id", "blocker_id",
+                    "deleted"),
+            // 알림 목록 조회
+            IndexDefinition.of("notification", "idx_notification_member_created_at", "member_id", "created_at")
+    );
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        SchemaMigrationSupport.createIndexes(context.getConnection(), INDEXES);
+    }
+
+}
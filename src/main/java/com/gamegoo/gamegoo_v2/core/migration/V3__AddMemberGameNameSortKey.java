@@ -0,0 +1,59 @@
+package com.gamegoo.gamegoo_v2.core.migration;
+
+import com.gamegoo.gamegoo_v2.utils.SortKeyUtil;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 친구 목록 keyset 페이징을 위한 member.game_name_sort_key 컬럼 및 인덱스 추가
+ * 기존 회원의 정렬 키는 SortKeyUtil로 계산해 채운다
+ */
+public class V3__AddMemberGameNameSortKey extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    public static final List<IndexDefinition> INDEXES = List.of(
+            IndexDefinition.of("member", "idx_member_game_name_sort_key", "game_name_sort_key", "member_id")
+    );
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        // 테이블이 아직 없는 경우 ddl-auto로 생성되며, 이후 회원 생성 시 정렬 키가 저장된다
+        if (!SchemaMigrationSupport.tableExists(connection, "member")) {
+            return;
+        }
+
+        SchemaMigrationSupport.addColumnIfAbsent(connection, "member", "game_name_sort_key", "VARCHAR(500)");
+        backfillSortKeys(connection);
+        SchemaMigrationSupport.createIndexes(connection, INDEXES);
+    }
+
+    private void backfillSortKeys(Connection connection) throws Exception {
+        try (Statement select = connection.createStatement();
+             ResultSet rs = select.executeQuery(
+                     "SELECT member_id, game_name FROM member WHERE game_name_sort_key IS NULL");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE member SET game_name_sort_key = ? WHERE member_id = ?")) {
+            int count = 0;
+            while (rs.next()) {
+                update.setString(1, SortKeyUtil.gameNameSortKey(rs.getString("game_name")));
+                update.setLong(2, rs.getLong("member_id"));
+                update.addBatch();
+
+                if (++count % BATCH_SIZE == 0) {
+                    update.executeBatch();
+                }
+            }
+            update.executeBatch();
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.gamegoo.gamegoo_v2.core.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * 안읽은 알림 개수 캐시를 위한 member.unread_notification_count 컬럼 및 알림 인덱스 추가
+ * 컬럼은 null로 두고, 최초 조회 시 인덱스를 사용한 COUNT 쿼리로 채운다
+ */
+public class V4__AddNotificationUnreadCount extends BaseJavaMigration {
+
+    public static final List<IndexDefinition> INDEXES = List.of(
+            // 안읽은 알림 개수 집계
+            IndexDefinition.of("notification", "idx_notification_member_is_read", "member_id", "is_read")
+    );
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        if (SchemaMigrationSupport.tableExists(connection, "member")) {
+            SchemaMigrationSupport.addColumnIfAbsent(connection, "member", "unread_notification_count", "INT");
+        }
+        SchemaMigrationSupport.createIndexes(connection, INDEXES);
+    }
+
+}
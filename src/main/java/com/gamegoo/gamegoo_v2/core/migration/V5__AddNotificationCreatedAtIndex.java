@@ -0,0 +1,22 @@
+package com.gamegoo.gamegoo_v2.core.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 알림 삭제를 위한 notification.created_at 인덱스 추가
+ */
+public class V5__AddNotificationCreatedAtIndex extends BaseJavaMigration {
+
+    public static final List<IndexDefinition> INDEXES = List.of(
+            IndexDefinition.of("notification", "idx_notification_created_at", "created_at")
+    );
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        SchemaMigrationSupport.createIndexes(context.getConnection(), INDEXES);
+    }
+
+}
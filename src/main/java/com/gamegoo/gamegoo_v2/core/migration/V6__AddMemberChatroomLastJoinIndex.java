@@ -0,0 +1,23 @@
+package com.gamegoo.gamegoo_v2.core.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.util.List;
+
+/**
+ * 채팅방 목록 커서 조회를 위한 member_chatroom (member_id, last_join_date, chatroom_id) 인덱스 추가
+ */
+public class V6__AddMemberChatroomLastJoinIndex extends BaseJavaMigration {
+
+    public static final List<IndexDefinition> INDEXES = List.of(
+            IndexDefinition.of("member_chatroom", "idx_member_chatroom_member_last_join", "member_id",
+                    "last_join_date", "chatroom_id")
+    );
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        SchemaMigrationSupport.createIndexes(context.getConnection(), INDEXES);
+    }
+
+}
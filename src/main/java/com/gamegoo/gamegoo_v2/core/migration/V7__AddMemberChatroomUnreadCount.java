@@ -0,0 +1,62 @@
+package com.gamegoo.gamegoo_v2.core.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 안읽은 메시지 개수 캐시를 위한 member_chatroom.unread_count 컬럼 추가
+ * 컬럼을 새로 추가한 경우 기존 memberChatroom의 값을 chat 테이블 기준으로 id 범위 단위로 나누어 채운다
+ */
+public class V7__AddMemberChatroomUnreadCount extends BaseJavaMigration {
+
+    private static final long CHUNK_SIZE = 1000L;
+
+    private static final String BACKFILL_SQL = """
+            UPDATE member_chatroom mc
+            SET unread_count = (
+                SELECT COUNT(*)
+                FROM chat c
+                WHERE c.chatroom_id = mc.chatroom_id
+                AND c.created_at >= mc.last_join_date
+                AND (mc.last_view_date IS NULL OR c.created_at > mc.last_view_date)
+                AND (c.to_member_id IS NULL OR c.to_member_id = mc.member_id)
+            )
+            WHERE mc.member_chatroom_id BETWEEN ? AND ?
+            """;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        // 테이블이 아직 없는 경우 ddl-auto로 생성된다
+        boolean added = SchemaMigrationSupport.addColumnIfAbsent(connection, "member_chatroom", "unread_count",
+                "INT NOT NULL DEFAULT 0");
+
+        if (added && SchemaMigrationSupport.tableExists(connection, "chat")) {
+            backfillUnreadCounts(connection);
+        }
+    }
+
+    private void backfillUnreadCounts(Connection connection) throws Exception {
+        long maxId;
+        try (Statement select = connection.createStatement();
+             ResultSet rs = select.executeQuery("SELECT COALESCE(MAX(member_chatroom_id), 0) FROM member_chatroom")) {
+            rs.next();
+            maxId = rs.getLong(1);
+        }
+
+        try (PreparedStatement update = connection.prepareStatement(BACKFILL_SQL)) {
+            for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+                update.setLong(1, fromId);
+                update.setLong(2, fromId + CHUNK_SIZE - 1);
+                update.executeUpdate();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.gamegoo.gamegoo_v2.core.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 친구 목록 keyset 페이징을 friend 테이블 인덱스만으로 처리하기 위한 friend.sort_key 컬럼 및 인덱스 추가
+ * 기존 친구의 정렬 키는 toMember의 game_name_sort_key로 채우고, 더 이상 사용하지 않는 member 정렬 키 인덱스는 삭제한다
+ */
+public class V8__AddFriendSortKey extends BaseJavaMigration {
+
+    public static final List<IndexDefinition> INDEXES = List.of(
+            IndexDefinition.of("friend", "idx_friend_from_sort_key", "from_member_id", "sort_key", "to_member_id")
+    );
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        // 테이블이 아직 없는 경우 ddl-auto로 생성되며, 이후 친구 생성 시 정렬 키가 저장된다
+        if (SchemaMigrationSupport.tableExists(connection, "friend")) {
+            SchemaMigrationSupport.addColumnIfAbsent(connection, "friend", "sort_key", "VARCHAR(500)");
+            backfillSortKeys(connection);
+            SchemaMigrationSupport.createIndexes(connection, INDEXES);
+        }
+
+        SchemaMigrationSupport.dropIndexIfExists(connection, "member", "idx_member_game_name_sort_key");
+    }
+
+    private void backfillSortKeys(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("""
+                    UPDATE friend f
+                    SET sort_key = (
+                        SELECT m.game_name_sort_key
+                        FROM member m
+                        WHERE m.member_id = f.to_member_id
+                    )
+                    WHERE f.sort_key IS NULL
+                    """);
+        }
+    }
+
+}
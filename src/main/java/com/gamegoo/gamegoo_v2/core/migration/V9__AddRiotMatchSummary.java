@@ -0,0 +1,28 @@
+package com.gamegoo.gamegoo_v2.core.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 조회한 Riot 매칭 요약 정보를 저장하는 riot_match_summary 테이블 추가
+ */
+public class V9__AddRiotMatchSummary extends BaseJavaMigration {
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE riot_match_summary (
+                riot_match_summary_id BIGINT NOT NULL AUTO_INCREMENT,
+                created_at DATETIME(6),
+                updated_at DATETIME(6),
+                match_id VARCHAR(30) NOT NULL,
+                participants TEXT NOT NULL,
+                PRIMARY KEY (riot_match_summary_id),
+                CONSTRAINT uk_riot_match_summary_match_id UNIQUE (match_id)
+            )
+            """;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        SchemaMigrationSupport.createTableIfAbsent(context.getConnection(), "riot_match_summary", CREATE_TABLE_SQL);
+    }
+
+}
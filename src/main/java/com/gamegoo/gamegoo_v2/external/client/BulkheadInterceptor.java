@@ -0,0 +1,63 @@
+package com.gamegoo.gamegoo_v2.external.client;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 서버로의 동시 요청 수를 제한하는 interceptor
+ * 외부 서버가 느려지더라도 대기하는 요청 thread 수가 maxConcurrentCalls를 넘지 않도록 한다
+ */
+public class BulkheadInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String name;
+    private final Semaphore semaphore;
+    private final long acquireTimeoutMillis;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public BulkheadInterceptor(String name, int maxConcurrentCalls, Duration acquireTimeout) {
+        this.name = name;
+        this.semaphore = new Semaphore(maxConcurrentCalls);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+            ClientHttpRequestExecution execution) throws IOException {
+        acquire();
+        try {
+            return execution.execute(request, body);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private void acquire() throws IOException {
+        try {
+            if (!semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejectedCount.incrementAndGet();
+                throw new IOException("Too many concurrent calls to " + name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + name + " bulkhead");
+        }
+    }
+
+}
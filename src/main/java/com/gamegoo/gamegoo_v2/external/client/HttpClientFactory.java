@@ -0,0 +1,134 @@
+package com.gamegoo.gamegoo_v2.external.client;
+
+import com.gamegoo.gamegoo_v2.core.config.HttpClientProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 외부 서버 별 connection pool, timeout, bulkhead가 적용된 RestTemplate 생성
+ * 요청 처리 시간은 RestTemplateBuilder의 http.client.requests metric으로 수집되며,
+ * connection pool, bulkhead, rate limit 상태는 client 태그를 가진 metric으로 노출된다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HttpClientFactory implements DisposableBean {
+
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final MeterRegistry meterRegistry;
+
+    private final List<CloseableHttpClient> httpClients = new CopyOnWriteArrayList<>();
+
+    /**
+     * 외부 서버 설정으로 RestTemplate 생성
+     *
+     * @param name        외부 서버 이름 (metric 태그)
+     * @param destination 외부 서버 설정
+     * @return RestTemplate
+     */
+    public RestTemplate create(String name, HttpClientProperties.Destination destination) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(destination.getMaxConnections())
+                .setMaxConnPerRoute(destination.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(destination.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(destination.getReadTimeout()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(destination.getAcquireTimeout()))
+                        .setResponseTimeout(Timeout.of(destination.getReadTimeout()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(destination.getKeepAlive()))
+                .evictIdleConnections(TimeValue.of(destination.getKeepAlive()))
+                .evictExpiredConnections()
+                .build();
+        httpClients.add(httpClient);
+
+        BulkheadInterceptor bulkhead = new BulkheadInterceptor(name, destination.getMaxConcurrentCalls(),
+                destination.getAcquireTimeout());
+
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+
+        // rate limit 대기 중에는 bulkhead permit을 점유하지 않도록 rate limit을 먼저 적용
+        if (destination.getPermitsPerSecond() > 0) {
+            RateLimitInterceptor rateLimit = new RateLimitInterceptor(name, destination.getPermitsPerSecond(),
+                    destination.getBurst(), destination.getRateLimitTimeout());
+            FunctionCounter.builder("http.client.ratelimit.rejected", rateLimit,
+                            RateLimitInterceptor::getRejectedCount)
+                    .tag("client", name)
+                    .register(meterRegistry);
+            interceptors.add(rateLimit);
+        }
+        interceptors.add(bulkhead);
+
+        registerMetrics(name, connectionManager, bulkhead);
+
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .additionalInterceptors(interceptors)
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        for (CloseableHttpClient httpClient : httpClients) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warn("Failed to close http client", e);
+            }
+        }
+    }
+
+    private void registerMetrics(String name, PoolingHttpClientConnectionManager connectionManager,
+            BulkheadInterceptor bulkhead) {
+        registerPoolGauge("http.client.pool.leased", name, connectionManager,
+                cm -> cm.getTotalStats().getLeased());
+        registerPoolGauge("http.client.pool.available", name, connectionManager,
+                cm -> cm.getTotalStats().getAvailable());
+        registerPoolGauge("http.client.pool.pending", name, connectionManager,
+                cm -> cm.getTotalStats().getPending());
+
+        Gauge.builder("http.client.bulkhead.available", bulkhead, BulkheadInterceptor::getAvailablePermits)
+                .tag("client", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("http.client.bulkhead.rejected", bulkhead, BulkheadInterceptor::getRejectedCount)
+                .tag("client", name)
+                .register(meterRegistry);
+    }
+
+    private void registerPoolGauge(String metricName, String name, PoolingHttpClientConnectionManager connectionManager,
+            ToDoubleFunction<PoolingHttpClientConnectionManager> value) {
+        Gauge.builder(metricName, connectionManager, value)
+                .tag("client", name)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.gamegoo.gamegoo_v2.external.client;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 서버의 rate limit을 넘지 않도록 요청 속도를 제한하는 token bucket interceptor
+ * 초당 permitsPerSecond개의 token이 채워지고 최대 burst개까지 쌓이며,
+ * token이 없으면 다음 token이 채워질 때까지 대기하고 대기 시간이 timeout을 넘으면 실패한다
+ */
+public class RateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String name;
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final long timeoutNanos;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    // 다음 token이 채워지는 시점
+    private long nextTokenNanos;
+
+    public RateLimitInterceptor(String name, double permitsPerSecond, int burst, Duration timeout) {
+        this.name = name;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstToleranceNanos = intervalNanos * (Math.max(burst, 1) - 1);
+        this.timeoutNanos = timeout.toNanos();
+        this.nextTokenNanos = System.nanoTime();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+            ClientHttpRequestExecution execution) throws IOException {
+        long waitNanos = reserve();
+        if (waitNanos < 0) {
+            rejectedCount.incrementAndGet();
+            throw new IOException("Rate limit exceeded for " + name);
+        }
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for " + name + " rate limit");
+            }
+        }
+
+        return execution.execute(request, body);
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * token 하나를 예약하고 대기해야 하는 시간을 반환, 대기 시간이 timeout을 넘으면 -1 반환
+     *
+     * @return 대기 시간 (나노초)
+     */
+    synchronized long reserve() {
+        long now = System.nanoTime();
+        long next = Math.max(nextTokenNanos, now - burstToleranceNanos);
+        long waitNanos = Math.max(0, next - now);
+
+        if (waitNanos > timeoutNanos) {
+            return -1;
+        }
+
+        nextTokenNanos = next + intervalNanos;
+        return waitNanos;
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.gamegoo.gamegoo_v2.external.riot.domain;
+
+/**
+ * Riot 매칭 참가자 요약 정보
+ *
+ * @param puuid          Riot PUUID
+ * @param riotIdGameName 소환사명
+ * @param championId     챔피언 ID
+ */
+public record MatchParticipant(String puuid, String riotIdGameName, Long championId) {
+
+}
@@ -0,0 +1,36 @@
+package com.gamegoo.gamegoo_v2.external.riot.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+@Converter
+public class MatchParticipantListConverter implements AttributeConverter<List<MatchParticipant>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<MatchParticipant>> TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(List<MatchParticipant> participants) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(participants);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize match participants", e);
+        }
+    }
+
+    @Override
+    public List<MatchParticipant> convertToEntityAttribute(String json) {
+        try {
+            return OBJECT_MAPPER.readValue(json, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to deserialize match participants", e);
+        }
+    }
+
+}
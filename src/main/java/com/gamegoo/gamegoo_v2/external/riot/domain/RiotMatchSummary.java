@@ -0,0 +1,75 @@
+package com.gamegoo.gamegoo_v2.external.riot.domain;
+
+import com.gamegoo.gamegoo_v2.core.common.BaseDateTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Riot 매칭 요약 정보
+ * 종료된 매칭 정보는 변경되지 않으므로, 한 번 조회한 매칭은 저장해두고 Riot API를 다시 호출하지 않는다
+ */
+@Entity
+@Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_riot_match_summary_match_id", columnNames = "match_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RiotMatchSummary extends BaseDateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "riot_match_summary_id")
+    private Long id;
+
+    @Column(name = "match_id", nullable = false, length = 30)
+    private String matchId;
+
+    @Convert(converter = MatchParticipantListConverter.class)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private List<MatchParticipant> participants;
+
+    public static RiotMatchSummary create(String matchId, List<MatchParticipant> participants) {
+        return RiotMatchSummary.builder()
+                .matchId(matchId)
+                .participants(participants)
+                .build();
+    }
+
+    @Builder
+    private RiotMatchSummary(String matchId, List<MatchParticipant> participants) {
+        this.matchId = matchId;
+        this.participants = participants;
+    }
+
+    /**
+     * 해당 회원이 플레이한 챔피언 ID 조회, puuid가 일치하는 참가자를 우선으로 하고 없으면 소환사명으로 찾는다
+     *
+     * @param puuid    Riot PUUID
+     * @param gameName 소환사명
+     * @return 챔피언 ID
+     */
+    public Optional<Long> findChampionId(String puuid, String gameName) {
+        return participants.stream()
+                .filter(participant -> puuid != null && puuid.equals(participant.puuid()))
+                .findFirst()
+                .or(() -> participants.stream()
+                        .filter(participant -> Objects.equals(gameName, participant.riotIdGameName()))
+                        .findFirst())
+                .map(MatchParticipant::championId);
+    }
+
+}
@@ -19,6 +19,7 @@ public class RiotMatchResponse {
     @Getter
     public static class ParticipantDTO {
 
+        private String puuid;
         private String riotIdGameName;
         private String gameMode;
         private Long championId;
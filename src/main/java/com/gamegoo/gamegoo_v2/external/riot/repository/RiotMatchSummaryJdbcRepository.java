@@ -0,0 +1,68 @@
+package com.gamegoo.gamegoo_v2.external.riot.repository;
+
+import com.gamegoo.gamegoo_v2.external.riot.domain.MatchParticipantListConverter;
+import com.gamegoo.gamegoo_v2.external.riot.domain.RiotMatchSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RiotMatchSummaryJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final MatchParticipantListConverter PARTICIPANTS_CONVERTER = new MatchParticipantListConverter();
+
+    private static final String INSERT_MATCH_SUMMARY = """
+            INSERT INTO riot_match_summary (match_id, participants, created_at, updated_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    /**
+     * 매칭 요약 정보 목록을 jdbc batch insert로 저장, 이미 저장된 matchId는 건너뛴다
+     * 호출한 쪽 트랜잭션에서 실행되며, JPA를 거치지 않으므로 중복 저장 실패가 호출한 쪽 트랜잭션을 rollback-only로 만들지 않는다
+     *
+     * @param summaries 매칭 요약 정보 list
+     * @return 저장된 매칭 수
+     */
+    public int saveAllIgnoringDuplicates(List<RiotMatchSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_MATCH_SUMMARY, summaries, summaries.size(),
+                    (ps, summary) -> setValues(ps, summary, now));
+            return summaries.size();
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청에서 먼저 저장한 매칭이 있는 경우 한 건씩 저장하며 중복된 매칭은 건너뛴다
+            int saved = 0;
+            for (RiotMatchSummary summary : summaries) {
+                try {
+                    saved += jdbcTemplate.update(INSERT_MATCH_SUMMARY, ps -> setValues(ps, summary, now));
+                } catch (DataIntegrityViolationException ignored) {
+                    // 이미 저장된 매칭
+                }
+            }
+            return saved;
+        }
+    }
+
+    private void setValues(PreparedStatement ps, RiotMatchSummary summary, Timestamp now) throws SQLException {
+        ps.setString(1, summary.getMatchId());
+        ps.setString(2, PARTICIPANTS_CONVERTER.convertToDatabaseColumn(summary.getParticipants()));
+        ps.setTimestamp(3, now);
+        ps.setTimestamp(4, now);
+    }
+
+}
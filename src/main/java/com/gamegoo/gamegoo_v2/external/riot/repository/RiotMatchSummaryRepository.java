@@ -0,0 +1,23 @@
+package com.gamegoo.gamegoo_v2.external.riot.repository;
+
+import com.gamegoo.gamegoo_v2.external.riot.domain.RiotMatchSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RiotMatchSummaryRepository extends JpaRepository<RiotMatchSummary, Long> {
+
+    List<RiotMatchSummary> findAllByMatchIdIn(Collection<String> matchIds);
+
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM RiotMatchSummary s")
+    Long findMaxId();
+
+    @Modifying
+    @Query("DELETE FROM RiotMatchSummary s WHERE s.id <= :id")
+    int deleteAllByIdLessThanEqual(@Param("id") Long id);
+
+}
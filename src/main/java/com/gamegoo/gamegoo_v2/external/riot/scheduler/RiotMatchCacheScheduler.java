@@ -0,0 +1,25 @@
+package com.gamegoo.gamegoo_v2.external.riot.scheduler;
+
+import com.gamegoo.gamegoo_v2.external.riot.service.RiotMatchCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RiotMatchCacheScheduler {
+
+    private final RiotMatchCacheService riotMatchCacheService;
+
+    /**
+     * 저장 개수 제한을 초과한 오래된 매칭 요약 정보 삭제
+     */
+    @Scheduled(cron = "${riot.match-cache.prune-cron:0 30 4 * * *}")
+    public void pruneMatchSummaries() {
+        int deleted = riotMatchCacheService.pruneMatchSummaries();
+        log.info("매칭 요약 정보 정리 완료, 삭제된 매칭 개수: {}", deleted);
+    }
+
+}
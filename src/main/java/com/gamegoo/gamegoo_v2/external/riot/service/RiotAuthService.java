@@ -5,6 +5,7 @@ import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import com.gamegoo.gamegoo_v2.external.riot.dto.RiotAuthResponse;
 import com.gamegoo.gamegoo_v2.external.riot.dto.RiotSummonerResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +16,7 @@ import org.springframework.web.client.RestTemplate;
 @Transactional(readOnly = true)
 public class RiotAuthService {
 
+    @Qualifier("riotRestTemplate")
     private final RestTemplate restTemplate;
 
     @Value("${spring.riot.api.key}")
@@ -7,6 +7,7 @@ import com.gamegoo.gamegoo_v2.external.riot.dto.RiotInfoResponse;
 import com.gamegoo.gamegoo_v2.external.riot.dto.TierDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +21,7 @@ import java.util.Map;
 @Slf4j
 public class RiotInfoService {
 
+    @Qualifier("riotRestTemplate")
     private final RestTemplate restTemplate;
 
     @Value("${spring.riot.api.key}")
@@ -0,0 +1,104 @@
+package com.gamegoo.gamegoo_v2.external.riot.service;
+
+import com.gamegoo.gamegoo_v2.external.riot.domain.RiotMatchSummary;
+import com.gamegoo.gamegoo_v2.external.riot.repository.RiotMatchSummaryJdbcRepository;
+import com.gamegoo.gamegoo_v2.external.riot.repository.RiotMatchSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RiotMatchCacheService {
+
+    private final RiotMatchSummaryRepository riotMatchSummaryRepository;
+    private final RiotMatchSummaryJdbcRepository riotMatchSummaryJdbcRepository;
+
+    // 메모리에 유지할 최대 매칭 수, 초과 시 가장 오래 사용되지 않은 매칭부터 제거
+    private static final int MAX_MEMORY_MATCHES = 5_000;
+
+    // db에 유지할 최대 매칭 수
+    @Value("${riot.match-cache.max-stored-matches:1000000}")
+    private long maxStoredMatches;
+
+    private final Map<String, RiotMatchSummary> memoryCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, RiotMatchSummary> eldest) {
+                    return size() > MAX_MEMORY_MATCHES;
+                }
+            });
+
+    /**
+     * 저장된 매칭 요약 정보 조회, 메모리에 없는 매칭만 db에서 조회한다
+     *
+     * @param matchIds 매칭 ID 리스트
+     * @return Map<매칭 ID, 매칭 요약 정보>, 저장되지 않은 매칭은 포함되지 않음
+     */
+    public Map<String, RiotMatchSummary> findMatchSummaries(List<String> matchIds) {
+        Map<String, RiotMatchSummary> result = new HashMap<>();
+        List<String> missedMatchIds = new ArrayList<>();
+
+        for (String matchId : matchIds) {
+            RiotMatchSummary summary = memoryCache.get(matchId);
+            if (summary != null) {
+                result.put(matchId, summary);
+            } else {
+                missedMatchIds.add(matchId);
+            }
+        }
+
+        if (!missedMatchIds.isEmpty()) {
+            for (RiotMatchSummary summary : riotMatchSummaryRepository.findAllByMatchIdIn(missedMatchIds)) {
+                memoryCache.put(summary.getMatchId(), summary);
+                result.put(summary.getMatchId(), summary);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 매칭 요약 정보 목록을 호출한 쪽 트랜잭션에서 한 번에 저장
+     * 저장은 캐시 용도이므로, 저장에 실패해도 호출한 쪽 트랜잭션(회원가입 등)은 그대로 진행한다
+     *
+     * @param summaries 매칭 요약 정보 list
+     */
+    @Transactional
+    public void saveMatchSummaries(List<RiotMatchSummary> summaries) {
+        try {
+            riotMatchSummaryJdbcRepository.saveAllIgnoringDuplicates(summaries);
+        } catch (DataAccessException e) {
+            log.warn("Failed to save {} match summaries", summaries.size(), e);
+        }
+
+        summaries.forEach(summary -> memoryCache.put(summary.getMatchId(), summary));
+    }
+
+    /**
+     * 최근 저장된 maxStoredMatches개를 제외한 오래된 매칭 요약 정보 삭제
+     *
+     * @return 삭제된 매칭 수
+     */
+    @Transactional
+    public int pruneMatchSummaries() {
+        long threshold = riotMatchSummaryRepository.findMaxId() - maxStoredMatches;
+        if (threshold <= 0) {
+            return 0;
+        }
+        return riotMatchSummaryRepository.deleteAllByIdLessThanEqual(threshold);
+    }
+
+}
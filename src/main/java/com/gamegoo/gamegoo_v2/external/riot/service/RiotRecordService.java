@@ -1,11 +1,16 @@
 package com.gamegoo.gamegoo_v2.external.riot.service;
 
+import com.gamegoo.gamegoo_v2.core.config.AsyncConfig;
 import com.gamegoo.gamegoo_v2.core.exception.RiotException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import com.gamegoo.gamegoo_v2.external.riot.domain.MatchParticipant;
+import com.gamegoo.gamegoo_v2.external.riot.domain.RiotMatchSummary;
 import com.gamegoo.gamegoo_v2.external.riot.dto.RiotMatchResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
@@ -13,9 +18,12 @@ import org.springframework.web.client.RestTemplate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,13 +32,19 @@ import java.util.stream.Collectors;
 @Slf4j
 public class RiotRecordService {
 
+    @Qualifier("riotRestTemplate")
     private final RestTemplate restTemplate;
+    private final RiotMatchCacheService riotMatchCacheService;
+
+    // 매칭 정보 동시 조회용 executor, 요청 속도는 riotRestTemplate의 rate limit으로 제한됨
+    @Qualifier(AsyncConfig.RIOT_EXECUTOR)
+    private final AsyncTaskExecutor matchFetchExecutor;
 
     @Value("${spring.riot.api.key}")
     private String riotAPIKey;
 
     private static final String MATCH_IDS_URL_TEMPLATE = "https://asia.api.riotgames" +
-            ".com/lol/match/v5/matches/by-puuid/%s/ids?start=0&count=%s&api_key=%s";
+            ".com/lol/match/v5/matches/by-puuid/%s/ids?start=%s&count=%s&api_key=%s";
     private static final String MATCH_INFO_URL_TEMPLATE = "https://asia.api.riotgames" +
             ".com/lol/match/v5/matches/%s?api_key=%s";
 
@@ -68,17 +82,23 @@ public class RiotRecordService {
      */
     private List<Long> fetchRecentChampionIds(String gameName, String puuid) {
         List<Long> championIds = new ArrayList<>();
+        int start = 0;
         int count = INITIAL_MATCH_COUNT;
 
         // 최소 3개 이상의 챔피언 데이터를 가져올 때까지 반복
-        while (championIds.size() < MINIMUM_CHAMPIONS_REQUIRED && count <= MAX_MATCH_COUNT) {
-            List<String> matchIds = fetchMatchIds(puuid, count);
-            championIds = extractChampionIdsFromMatches(matchIds, gameName);
-
-            // 챔피언 수가 부족하면 더 많은 매칭 데이터를 가져옴
-            if (championIds.size() < MINIMUM_CHAMPIONS_REQUIRED) {
-                count += MATCH_INCREMENT;
+        while (championIds.size() < MINIMUM_CHAMPIONS_REQUIRED && start < MAX_MATCH_COUNT) {
+            // 이전에 조회한 매칭 이후의 매칭 ID만 조회
+            List<String> matchIds = fetchMatchIds(puuid, start, count);
+            championIds.addAll(extractChampionIdsFromMatches(matchIds, gameName, puuid));
+
+            // 더 이상 조회할 매칭이 없는 경우
+            if (matchIds.size() < count) {
+                break;
             }
+
+            // 챔피언 수가 부족하면 다음 매칭 데이터를 가져옴
+            start += count;
+            count = MATCH_INCREMENT;
         }
 
         return championIds;
@@ -88,11 +108,12 @@ public class RiotRecordService {
      * Riot API를 호출하여 puuid에 해당하는 최근 매칭 ID를 가져오는 메서드
      *
      * @param puuid Riot PUUID
+     * @param start 시작 위치
      * @param count 가져올 매칭 개수
      * @return 매칭 ID 리스트
      */
-    private List<String> fetchMatchIds(String puuid, int count) {
-        String url = String.format(MATCH_IDS_URL_TEMPLATE, puuid, count, riotAPIKey);
+    private List<String> fetchMatchIds(String puuid, int start, int count) {
+        String url = String.format(MATCH_IDS_URL_TEMPLATE, puuid, start, count, riotAPIKey);
         try {
             // Riot API로부터 매칭 ID 리스트 가져오기
             String[] matchIds = restTemplate.getForObject(url, String[].class);
@@ -104,51 +125,94 @@ public class RiotRecordService {
     }
 
     /**
-     * 매칭 ID 리스트를 기반으로 특정 게임 이름에 해당하는 챔피언 ID를 추출
+     * 매칭 ID 리스트를 기반으로 특정 회원의 챔피언 ID를 추출
+     * 저장된 매칭은 Riot API를 호출하지 않고, 저장되지 않은 매칭 정보만 병렬로 조회한다
+     * 하나라도 실패하면 나머지 조회를 취소하고 예외를 던진다
+     * 조회한 매칭 정보는 worker thread가 db connection을 사용하지 않도록, 모든 조회가 끝난 후 호출한 쪽 트랜잭션에서 한 번에 저장한다
      *
      * @param matchIds 매칭 ID 리스트
      * @param gameName 게임 이름
+     * @param puuid    Riot PUUID
      * @return 챔피언 ID 리스트
      */
-    private List<Long> extractChampionIdsFromMatches(List<String> matchIds, String gameName) {
+    private List<Long> extractChampionIdsFromMatches(List<String> matchIds, String gameName, String puuid) {
+        Map<String, RiotMatchSummary> cachedSummaries = riotMatchCacheService.findMatchSummaries(matchIds);
+
+        Map<String, CompletableFuture<RiotMatchSummary>> futures = new LinkedHashMap<>();
+        for (String matchId : matchIds) {
+            if (!cachedSummaries.containsKey(matchId)) {
+                futures.computeIfAbsent(matchId, id -> CompletableFuture.supplyAsync(
+                        () -> fetchMatchSummary(id), matchFetchExecutor));
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            futures.values().forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RiotException riotException) {
+                throw riotException;
+            }
+            throw new RiotException(ErrorCode.RIOT_MATCH_CHAMPION_NOT_FOUND);
+        }
+
+        Map<String, RiotMatchSummary> fetchedSummaries = new LinkedHashMap<>();
+        futures.forEach((matchId, future) -> fetchedSummaries.put(matchId, future.join()));
+        riotMatchCacheService.saveMatchSummaries(new ArrayList<>(fetchedSummaries.values()));
+
         return matchIds.stream()
-                .map(matchId -> fetchChampionIdFromMatch(matchId, gameName))
+                .map(matchId -> cachedSummaries.containsKey(matchId)
+                        ? cachedSummaries.get(matchId)
+                        : fetchedSummaries.get(matchId))
+                .map(summary -> findChampionId(summary, gameName, puuid))
                 .filter(Objects::nonNull)
                 .filter(championId -> championId < 1000)
                 .toList();
     }
 
     /**
-     * Riot API를 호출하여 매칭 ID로부터 특정 사용자의 챔피언 ID를 가져오는 메서드
+     * Riot API를 호출하여 매칭 요약 정보를 가져오는 메서드
      *
-     * @param matchId  매칭 ID
-     * @param gameName 게임 이름
-     * @return 챔피언 ID
+     * @param matchId 매칭 ID
+     * @return 매칭 요약 정보
      */
-    private Long fetchChampionIdFromMatch(String matchId, String gameName) {
+    private RiotMatchSummary fetchMatchSummary(String matchId) {
         String url = String.format(MATCH_INFO_URL_TEMPLATE, matchId, riotAPIKey);
-
         try {
             // Riot API로부터 매칭 정보를 가져오기
             RiotMatchResponse response = restTemplate.getForObject(url, RiotMatchResponse.class);
 
-            // 매칭 정보에서 사용자의 챔피언 ID 찾기
             if (response == null || response.getInfo() == null || response.getInfo().getParticipants() == null) {
                 throw new RiotException(ErrorCode.RIOT_NOT_FOUND);
             }
 
-            return response.getInfo().getParticipants().stream()
-                    .filter(participant -> gameName.equals(participant.getRiotIdGameName()))
-                    .map(RiotMatchResponse.ParticipantDTO::getChampionId)
-                    .findFirst()
-                    .orElseThrow(() -> new RiotException(ErrorCode.CHAMPION_NOT_FOUND));
-
+            List<MatchParticipant> participants = response.getInfo().getParticipants().stream()
+                    .map(participant -> new MatchParticipant(participant.getPuuid(),
+                            participant.getRiotIdGameName(), participant.getChampionId()))
+                    .toList();
+            return RiotMatchSummary.create(matchId, participants);
         } catch (Exception e) {
             log.error("Failed to fetch champion ID for match ID: {}", matchId, e);
             throw new RiotException(ErrorCode.RIOT_MATCH_CHAMPION_NOT_FOUND);
         }
     }
 
+    /**
+     * 매칭 요약 정보에서 특정 사용자의 챔피언 ID를 가져오는 메서드
+     *
+     * @param summary  매칭 요약 정보
+     * @param gameName 게임 이름
+     * @param puuid    Riot PUUID
+     * @return 챔피언 ID
+     */
+    private Long findChampionId(RiotMatchSummary summary, String gameName, String puuid) {
+        return summary.findChampionId(puuid, gameName)
+                .orElseThrow(() -> {
+                    log.error("Failed to find champion ID for match ID: {}", summary.getMatchId());
+                    return new RiotException(ErrorCode.RIOT_MATCH_CHAMPION_NOT_FOUND);
+                });
+    }
+
     /**
      * 주어진 챔피언 ID 리스트에서 가장 많이 사용된 챔피언 상위 N개를 계산
      *
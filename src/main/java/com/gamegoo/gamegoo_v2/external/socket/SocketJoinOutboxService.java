@@ -0,0 +1,120 @@
+package com.gamegoo.gamegoo_v2.external.socket;
+
+import com.gamegoo.gamegoo_v2.external.socket.domain.SocketJoinOutbox;
+import com.gamegoo.gamegoo_v2.external.socket.domain.SocketJoinOutboxStatus;
+import com.gamegoo.gamegoo_v2.external.socket.repository.SocketJoinOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SocketJoinOutboxService {
+
+    private final SocketJoinOutboxRepository socketJoinOutboxRepository;
+
+    @Value("${socket.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${socket.outbox.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${socket.outbox.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    // 선점한 요청을 다른 relay가 다시 가져갈 수 있게 되기까지의 시간, 선점한 서버가 처리 중 종료된 경우에 사용된다
+    @Value("${socket.outbox.claim-timeout-ms:60000}")
+    private long claimTimeoutMs;
+
+    /**
+     * socket join 요청을 outbox에 저장, 호출한 트랜잭션과 함께 커밋된다
+     *
+     * @param memberId     회원 id
+     * @param chatroomUuid 채팅방 uuid
+     */
+    @Transactional
+    public void saveJoin(Long memberId, String chatroomUuid) {
+        socketJoinOutboxRepository.save(SocketJoinOutbox.create(memberId, chatroomUuid));
+    }
+
+    /**
+     * 전송 시각이 된 대기 중인 join 요청을 선점한 뒤 선점에 성공한 요청 목록 조회
+     * 선점한 요청은 claim timeout 동안 다른 relay에서 조회되지 않는다
+     *
+     * @param batchSize 최대 조회 개수
+     * @return SocketJoinOutbox list
+     */
+    @Transactional
+    public List<SocketJoinOutbox> claimDueJoins(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = socketJoinOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                        SocketJoinOutboxStatus.PENDING, now, PageRequest.of(0, batchSize)).stream()
+                .map(SocketJoinOutbox::getId)
+                .toList();
+        if (dueIds.isEmpty()) {
+            return List.of();
+        }
+
+        String claimToken = UUID.randomUUID().toString();
+        int claimed = socketJoinOutboxRepository.claim(dueIds, claimToken, SocketJoinOutboxStatus.PENDING, now,
+                now.plus(Duration.ofMillis(claimTimeoutMs)));
+        if (claimed == 0) {
+            return List.of();
+        }
+
+        return socketJoinOutboxRepository.findByClaimTokenOrderByIdAsc(claimToken);
+    }
+
+    /**
+     * 전송 완료된 join 요청 삭제
+     *
+     * @param ids outbox id list
+     */
+    @Transactional
+    public void markSent(List<Long> ids) {
+        socketJoinOutboxRepository.deleteAllByIdInBatch(ids);
+    }
+
+    /**
+     * 전송 실패한 join 요청의 다음 시도 시각을 지수 backoff로 설정
+     *
+     * @param ids outbox id list
+     * @return 최대 재시도 횟수를 초과해 FAILED 상태가 된 요청 개수
+     */
+    @Transactional
+    public int markFailed(List<Long> ids) {
+        int failed = 0;
+        for (SocketJoinOutbox outbox : socketJoinOutboxRepository.findAllById(ids)) {
+            outbox.markFailed(maxAttempts, backoff(outbox.getAttempts()));
+            if (outbox.getStatus() == SocketJoinOutboxStatus.FAILED) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 최대 재시도 횟수를 초과해 FAILED 상태가 된 join 요청 중 cutoff 이전에 실패한 요청 삭제
+     *
+     * @param cutoff 기준 시각
+     * @return 삭제된 요청 개수
+     */
+    @Transactional
+    public int purgeFailedJoins(LocalDateTime cutoff) {
+        return socketJoinOutboxRepository.deleteByStatusAndUpdatedAtBefore(SocketJoinOutboxStatus.FAILED, cutoff);
+    }
+
+    private Duration backoff(int attempts) {
+        long backoffMs = initialBackoffMs << Math.min(attempts, 20);
+        return Duration.ofMillis(Math.min(backoffMs, maxBackoffMs));
+    }
+
+}
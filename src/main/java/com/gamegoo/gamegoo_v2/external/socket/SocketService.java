@@ -2,28 +2,39 @@ package com.gamegoo.gamegoo_v2.external.socket;
 
 import com.gamegoo.gamegoo_v2.core.exception.SocketException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import com.gamegoo.gamegoo_v2.external.socket.dto.SocketJoinRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SocketService {
 
+    // keep-alive connection pool을 사용하는 socket 서버 전용 RestTemplate
+    @Qualifier("socketRestTemplate")
     private final RestTemplate restTemplate;
 
     @Value("${socket.server.url}")
     private String SOCKET_SERVER_URL;
 
     private static final String JOIN_CHATROOM_URL = "/socket/room/join";
+    private static final String BULK_JOIN_CHATROOM_URL = "/socket/room/join/bulk";
+
+    // bulk join API가 404를 응답한 뒤 다시 bulk join을 시도하기까지의 간격
+    private static final long BULK_JOIN_REPROBE_INTERVAL_MS = 10 * 60 * 1000L;
+
+    // socket 서버가 bulk join API를 지원하지 않는 경우 이 시각 전까지는 단건 API로 전송
+    private volatile long bulkJoinReprobeAt = 0;
 
     /**
      * SOCKET서버로 해당 회원의 socket을 room에 join 요청하는 API 전송
@@ -32,26 +43,67 @@ public class SocketService {
      * @param uuid     채팅방 uuid
      */
     public void joinSocketToChatroom(Long memberId, String uuid) {
+        post(JOIN_CHATROOM_URL, SocketJoinRequest.of(memberId, uuid));
+    }
 
-        String url = SOCKET_SERVER_URL + JOIN_CHATROOM_URL;
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("memberId", memberId);
-        requestBody.put("chatroomUuid", uuid);
+    /**
+     * SOCKET서버로 여러 회원의 socket을 각 room에 join 요청하는 API를 한 번에 전송
+     * socket 서버가 bulk join API를 지원하지 않는 경우 일정 시간 동안 단건 API로 나누어 전송한 뒤 bulk join을 다시 시도한다
+     *
+     * @param requests 회원 id, 채팅방 uuid list
+     */
+    public void joinSocketsToChatrooms(List<SocketJoinRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
 
-        try {
-            ResponseEntity<String> response = restTemplate.postForEntity(url, requestBody, String.class);
-
-            log.info("response of joinSocketToChatroom: {}", response.getStatusCode());
-            if (!response.getStatusCode().equals(HttpStatus.OK)) {
-                log.error("joinSocketToChatroom API call FAIL: {}", response.getBody());
-                throw new SocketException(ErrorCode.SOCKET_API_RESPONSE_ERROR);
-            } else {
-                log.info("joinSocketToChatroom API call SUCCESS: {}", response.getBody());
+        if (System.currentTimeMillis() >= bulkJoinReprobeAt) {
+            try {
+                send(BULK_JOIN_CHATROOM_URL, requests);
+                return;
+            } catch (HttpClientErrorException.NotFound e) {
+                log.warn("Socket server does not support bulk join, falling back to single join API");
+                bulkJoinReprobeAt = System.currentTimeMillis() + BULK_JOIN_REPROBE_INTERVAL_MS;
             }
+        }
+
+        for (SocketJoinRequest request : requests) {
+            post(JOIN_CHATROOM_URL, request);
+        }
+    }
+
+    private void post(String path, Object requestBody) {
+        try {
+            send(path, requestBody);
+        } catch (HttpClientErrorException.NotFound e) {
+            log.error("Socket server API not found: {}", path);
+            throw new SocketException(ErrorCode.SOCKET_API_RESPONSE_ERROR);
+        }
+    }
+
+    /**
+     * socket 서버 API 호출, bulk API 지원 여부 확인을 위해 404 응답은 그대로 던진다
+     * 그 외 4xx 응답은 요청 거부로, 5xx 응답이나 연결 오류는 socket 서버 오류로 구분한다
+     */
+    private void send(String path, Object requestBody) {
+        ResponseEntity<String> response;
+        try {
+            response = restTemplate.postForEntity(SOCKET_SERVER_URL + path, requestBody, String.class);
+        } catch (HttpClientErrorException.NotFound e) {
+            throw e;
+        } catch (HttpClientErrorException e) {
+            log.error("Socket server API rejected request: {}, {}", path, e.getStatusCode());
+            throw new SocketException(ErrorCode.SOCKET_API_REQUEST_REJECTED);
         } catch (Exception e) {
-            log.error("Error occurred while joinSocketToChatroom method", e);
+            log.error("Error occurred while calling socket server API: {}", path, e);
+            throw new SocketException(ErrorCode.SOCKET_API_RESPONSE_ERROR);
+        }
+
+        if (!response.getStatusCode().equals(HttpStatus.OK)) {
+            log.error("Socket server API call FAIL: {}, {}", path, response.getBody());
             throw new SocketException(ErrorCode.SOCKET_API_RESPONSE_ERROR);
         }
+        log.debug("Socket server API call SUCCESS: {}", path);
     }
 
 }
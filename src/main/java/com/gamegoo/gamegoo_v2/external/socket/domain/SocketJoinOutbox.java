@@ -0,0 +1,95 @@
+package com.gamegoo.gamegoo_v2.external.socket.domain;
+
+import com.gamegoo.gamegoo_v2.core.common.BaseDateTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * socket 서버 join API 요청 outbox
+ * 채팅방 입장 처리와 같은 트랜잭션에서 저장되며, SocketJoinOutboxRelay가 커밋된 요청만 socket 서버로 전송한다
+ * 여러 서버가 같은 요청을 전송하지 않도록 claimToken을 기록해 요청을 선점하고, 선점 만료 시각은 nextAttemptAt으로 관리한다
+ */
+@Entity
+@Getter
+@Table(indexes = {
+        @Index(name = "idx_socket_join_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_socket_join_outbox_claim_token", columnList = "claim_token")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SocketJoinOutbox extends BaseDateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "socket_join_outbox_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false, length = 100)
+    private String chatroomUuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(20)")
+    private SocketJoinOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막으로 요청을 선점한 relay의 토큰
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    public static SocketJoinOutbox create(Long memberId, String chatroomUuid) {
+        return SocketJoinOutbox.builder()
+                .memberId(memberId)
+                .chatroomUuid(chatroomUuid)
+                .status(SocketJoinOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Builder
+    private SocketJoinOutbox(Long memberId, String chatroomUuid, SocketJoinOutboxStatus status, int attempts,
+                             LocalDateTime nextAttemptAt) {
+        this.memberId = memberId;
+        this.chatroomUuid = chatroomUuid;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 전송 실패 처리, 최대 재시도 횟수를 넘으면 FAILED 상태로 변경
+     *
+     * @param maxAttempts 최대 시도 횟수
+     * @param backoff     다음 시도까지 대기 시간
+     */
+    public void markFailed(int maxAttempts, Duration backoff) {
+        this.attempts++;
+        if (this.attempts >= maxAttempts) {
+            this.status = SocketJoinOutboxStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff);
+    }
+
+}
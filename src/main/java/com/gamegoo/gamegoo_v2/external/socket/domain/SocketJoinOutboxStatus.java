@@ -0,0 +1,6 @@
+package com.gamegoo.gamegoo_v2.external.socket.domain;
+
+public enum SocketJoinOutboxStatus {
+    PENDING, // 전송 대기 중, 실패한 경우 nextAttemptAt 이후 재시도
+    FAILED // 최대 재시도 횟수 초과
+}
@@ -0,0 +1,20 @@
+package com.gamegoo.gamegoo_v2.external.socket.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SocketJoinRequest {
+
+    Long memberId;
+    String chatroomUuid;
+
+    public static SocketJoinRequest of(Long memberId, String chatroomUuid) {
+        return SocketJoinRequest.builder()
+                .memberId(memberId)
+                .chatroomUuid(chatroomUuid)
+                .build();
+    }
+
+}
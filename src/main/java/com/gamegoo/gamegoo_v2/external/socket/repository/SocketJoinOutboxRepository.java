@@ -0,0 +1,40 @@
+package com.gamegoo.gamegoo_v2.external.socket.repository;
+
+import com.gamegoo.gamegoo_v2.external.socket.domain.SocketJoinOutbox;
+import com.gamegoo.gamegoo_v2.external.socket.domain.SocketJoinOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SocketJoinOutboxRepository extends JpaRepository<SocketJoinOutbox, Long> {
+
+    List<SocketJoinOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(SocketJoinOutboxStatus status,
+                                                                               LocalDateTime now,
+                                                                               Pageable pageable);
+
+    List<SocketJoinOutbox> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    // 다른 relay가 먼저 선점해 nextAttemptAt이 미뤄진 요청은 조건에 맞지 않아 update 되지 않는다
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE SocketJoinOutbox o
+            SET o.claimToken = :claimToken, o.nextAttemptAt = :leaseUntil
+            WHERE o.id IN :ids
+            AND o.status = :status
+            AND o.nextAttemptAt <= :now
+            """)
+    int claim(@Param("ids") List<Long> ids, @Param("claimToken") String claimToken,
+              @Param("status") SocketJoinOutboxStatus status, @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("DELETE FROM SocketJoinOutbox o WHERE o.status = :status AND o.updatedAt < :cutoff")
+    int deleteByStatusAndUpdatedAtBefore(@Param("status") SocketJoinOutboxStatus status,
+                                         @Param("cutoff") LocalDateTime cutoff);
+
+}
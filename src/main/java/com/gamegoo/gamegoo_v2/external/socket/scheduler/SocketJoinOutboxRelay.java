@@ -0,0 +1,167 @@
+package com.gamegoo.gamegoo_v2.external.socket.scheduler;
+
+import com.gamegoo.gamegoo_v2.core.config.SchedulingConfig;
+import com.gamegoo.gamegoo_v2.core.exception.SocketException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import com.gamegoo.gamegoo_v2.external.socket.SocketJoinOutboxService;
+import com.gamegoo.gamegoo_v2.external.socket.SocketService;
+import com.gamegoo.gamegoo_v2.external.socket.domain.SocketJoinOutbox;
+import com.gamegoo.gamegoo_v2.external.socket.dto.SocketJoinRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * outbox에 저장된 socket join 요청을 socket 서버로 전송
+ * 커밋된 요청만 전송되며, 실패한 요청은 지수 backoff로 재시도한다
+ * 요청을 선점한 relay만 전송하며, 선점이 만료되어 중복 전송되더라도 socket 서버의 join은 멱등하므로 문제가 없다
+ * socket 서버가 batch를 거부한 경우에만 하나씩 다시 전송하고, 5xx 응답이나 연결 오류인 경우 batch 전체를 재시도 대상으로 남긴다
+ * 전송할 요청이 없는 동안에는 조회 간격을 max-idle-interval-ms까지 늘리고, 이 서버에서 join 요청이 커밋되면 바로 다시 조회한다
+ * 주기적인 전송은 batch 작업과 thread를 공유하지 않도록 전용 scheduler에서 실행한다
+ */
+@Slf4j
+@Component
+public class SocketJoinOutboxRelay {
+
+    private final SocketJoinOutboxService socketJoinOutboxService;
+    private final SocketService socketService;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    @Value("${socket.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${socket.outbox.flush-interval-ms:100}")
+    private long flushIntervalMs;
+
+    @Value("${socket.outbox.max-idle-interval-ms:2000}")
+    private long maxIdleIntervalMs;
+
+    // FAILED 상태 요청 보관 기간(일)
+    @Value("${socket.outbox.failed-retention-days:7}")
+    private int failedRetentionDays;
+
+    // false인 경우 주기적인 전송을 하지 않음, 테스트 환경에서 사용
+    @Value("${socket.outbox.relay-enabled:true}")
+    private boolean relayEnabled;
+
+    // 전송할 요청이 없을 때 늘려가는 조회 간격과 다음 조회 시각
+    private volatile long idleIntervalMs = 0;
+    private volatile long nextRelayAt = 0;
+
+    public SocketJoinOutboxRelay(SocketJoinOutboxService socketJoinOutboxService, SocketService socketService,
+                                 MeterRegistry meterRegistry) {
+        this.socketJoinOutboxService = socketJoinOutboxService;
+        this.socketService = socketService;
+        this.sentCounter = Counter.builder("socket.outbox.sent").register(meterRegistry);
+        this.retriedCounter = Counter.builder("socket.outbox.retried").register(meterRegistry);
+        this.failedCounter = Counter.builder("socket.outbox.failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${socket.outbox.flush-interval-ms:100}",
+            scheduler = SchedulingConfig.SOCKET_OUTBOX_SCHEDULER)
+    public void scheduledRelay() {
+        long now = System.currentTimeMillis();
+        if (!relayEnabled || now < nextRelayAt) {
+            return;
+        }
+
+        if (relay() > 0) {
+            idleIntervalMs = 0;
+            nextRelayAt = 0;
+        } else {
+            // 전송할 요청이 없으면 조회 간격을 두 배씩 늘림
+            idleIntervalMs = Math.min(Math.max(idleIntervalMs * 2, flushIntervalMs), maxIdleIntervalMs);
+            nextRelayAt = now + idleIntervalMs;
+        }
+    }
+
+    /**
+     * 조회 간격을 초기화해 다음 주기에 바로 전송하도록 하는 메소드
+     * 이 서버에서 join 요청이 커밋된 경우 호출된다
+     */
+    public void wakeUp() {
+        idleIntervalMs = 0;
+        nextRelayAt = 0;
+    }
+
+    /**
+     * 보관 기간이 지난 FAILED 상태 join 요청 삭제
+     */
+    @Scheduled(cron = "${socket.outbox.purge-cron:0 0 5 * * *}")
+    public void purgeFailedJoins() {
+        int deleted = socketJoinOutboxService.purgeFailedJoins(LocalDateTime.now().minusDays(failedRetentionDays));
+        log.info("보관 기간이 지난 socket join 요청 삭제 완료, 삭제된 요청 개수: {}", deleted);
+    }
+
+    /**
+     * 전송 시각이 된 join 요청을 선점해 batchSize개씩 묶어 한 번의 bulk 요청으로 전송
+     *
+     * @return 선점한 요청 개수
+     */
+    public int relay() {
+        List<SocketJoinOutbox> joins = socketJoinOutboxService.claimDueJoins(batchSize);
+        if (joins.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        try {
+            // batch 전체를 한 번의 요청으로 전송
+            socketService.joinSocketsToChatrooms(joins.stream()
+                    .map(join -> SocketJoinRequest.of(join.getMemberId(), join.getChatroomUuid()))
+                    .toList());
+            joins.forEach(join -> sentIds.add(join.getId()));
+        } catch (Exception e) {
+            if (isRejected(e)) {
+                // 일부 요청 때문에 batch 전체가 거부된 경우, 하나씩 다시 전송해 실패한 요청만 재시도 대상으로 남긴다
+                log.warn("Socket join batch rejected, retrying one by one", e);
+                relayOneByOne(joins, sentIds, failedIds);
+            } else {
+                // socket 서버 장애인 경우 단건 요청으로 부하를 늘리지 않고 batch 전체를 재시도 대상으로 남긴다
+                log.warn("Failed to relay socket join batch", e);
+                joins.forEach(join -> failedIds.add(join.getId()));
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            socketJoinOutboxService.markSent(sentIds);
+            sentCounter.increment(sentIds.size());
+        }
+        if (!failedIds.isEmpty()) {
+            int failed = socketJoinOutboxService.markFailed(failedIds);
+            retriedCounter.increment(failedIds.size() - failed);
+            failedCounter.increment(failed);
+            log.warn("Failed to relay socket joins, retry: {}, failed: {}", failedIds.size() - failed, failed);
+        }
+
+        return joins.size();
+    }
+
+    private void relayOneByOne(List<SocketJoinOutbox> joins, List<Long> sentIds, List<Long> failedIds) {
+        for (SocketJoinOutbox join : joins) {
+            try {
+                socketService.joinSocketToChatroom(join.getMemberId(), join.getChatroomUuid());
+                sentIds.add(join.getId());
+            } catch (Exception e) {
+                failedIds.add(join.getId());
+            }
+        }
+    }
+
+    private boolean isRejected(Exception e) {
+        return e instanceof SocketException socketException
+                && ErrorCode.SOCKET_API_REQUEST_REJECTED.getCode().equals(socketException.getCode());
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.gamegoo.gamegoo_v2.notification.controller;
 
 import com.gamegoo.gamegoo_v2.account.auth.annotation.AuthMember;
+import com.gamegoo.gamegoo_v2.account.auth.annotation.AuthMemberId;
 import com.gamegoo.gamegoo_v2.core.common.ApiResponse;
 import com.gamegoo.gamegoo_v2.core.common.annotation.ValidCursor;
 import com.gamegoo.gamegoo_v2.core.common.annotation.ValidPage;
@@ -8,15 +9,19 @@ import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.notification.dto.NotificationCursorListResponse;
 import com.gamegoo.gamegoo_v2.notification.dto.NotificationPageListResponse;
 import com.gamegoo.gamegoo_v2.notification.dto.ReadNotificationResponse;
+import com.gamegoo.gamegoo_v2.notification.dto.ReadNotificationsRequest;
+import com.gamegoo.gamegoo_v2.notification.dto.ReadNotificationsResponse;
 import com.gamegoo.gamegoo_v2.notification.service.NotificationFacadeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -38,10 +43,19 @@ public class NotificationController {
         return ApiResponse.ok(notificationFacadeService.readNotification(member, notificationId));
     }
 
+    @Operation(summary = "알림 일괄 읽음 처리 API", description = "여러 알림을 한 번에 읽음 처리하는 API 입니다. " +
+            "notificationIdList를 보내면 해당 알림만, 보내지 않으면 cursor 이하의 모든 알림을 읽음 처리합니다. " +
+            "cursor도 보내지 않으면 전체 알림을 읽음 처리하며, 처리 후 안읽은 알림 개수를 반환합니다.")
+    @PatchMapping("/read")
+    public ApiResponse<ReadNotificationsResponse> readNotifications(
+            @Valid @RequestBody ReadNotificationsRequest request, @AuthMemberId Long memberId) {
+        return ApiResponse.ok(notificationFacadeService.readNotifications(memberId, request));
+    }
+
     @Operation(summary = "안읽은 알림 개수 조회 API", description = "해당 회원의 안읽은 알림의 개수를 조회하는 API 입니다.")
     @GetMapping("/unread/count")
-    public ApiResponse<Integer> getUnreadNotificationCount(@AuthMember Member member) {
-        return ApiResponse.ok(notificationFacadeService.countUnreadNotification(member));
+    public ApiResponse<Integer> getUnreadNotificationCount(@AuthMemberId Long memberId) {
+        return ApiResponse.ok(notificationFacadeService.countUnreadNotification(memberId));
     }
 
     @Operation(summary = "알림 전체 목록 조회 API", description = "알림 전체보기 화면에서 알림 목록을 조회하는 API 입니다.")
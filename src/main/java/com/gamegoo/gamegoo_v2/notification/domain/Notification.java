@@ -8,15 +8,23 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_notification_member_created_at", columnList = "member_id, created_at"),
+        @Index(name = "idx_notification_member_is_read", columnList = "member_id, is_read"),
+        @Index(name = "idx_notification_created_at", columnList = "created_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Notification extends BaseDateTimeEntity {
 
@@ -65,11 +73,14 @@ public class Notification extends BaseDateTimeEntity {
     }
 
     private void setMember(Member member) {
-        if (this.member != null) {
+        if (this.member != null && Hibernate.isInitialized(this.member.getNotificationList())) {
             this.member.getNotificationList().remove(this);
         }
         this.member = member;
-        member.getNotificationList().add(this);
+        // 아직 로딩되지 않은 알림 목록은 다음 조회 시 db에서 함께 불러오므로, 추가를 위해 전체 목록을 로딩하지 않는다
+        if (Hibernate.isInitialized(member.getNotificationList())) {
+            member.getNotificationList().add(this);
+        }
     }
 
     public void updateIsRead(boolean isRead) {
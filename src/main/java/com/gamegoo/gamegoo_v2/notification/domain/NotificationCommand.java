@@ -0,0 +1,19 @@
+package com.gamegoo.gamegoo_v2.notification.domain;
+
+/**
+ * 비동기로 저장할 알림 생성 요청
+ * 같은 batch 안에서 모든 값이 같은 요청은 하나의 알림으로 합쳐진다
+ *
+ * @param memberId           알림 전송 대상 회원 id
+ * @param sourceMemberId     알림 연관 회원 id, 없는 경우 null
+ * @param notificationTypeId 알림 타입 id
+ * @param content            알림 텍스트
+ */
+public record NotificationCommand(Long memberId, Long sourceMemberId, Long notificationTypeId, String content) {
+
+    public static NotificationCommand of(NotificationType type, String content, Long memberId,
+                                         Long sourceMemberId) {
+        return new NotificationCommand(memberId, sourceMemberId, type.getId(), content);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.gamegoo.gamegoo_v2.notification.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ReadNotificationsRequest {
+
+    @Size(max = 1000, message = "알림 id 리스트는 1000개 이하여야 합니다.")
+    List<Long> notificationIdList;
+
+    // notificationIdList가 비어있는 경우 해당 알림 id 이하의 모든 알림을 읽음 처리, null인 경우 전체
+    Long cursor;
+
+}
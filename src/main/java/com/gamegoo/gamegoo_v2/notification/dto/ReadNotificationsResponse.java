@@ -0,0 +1,22 @@
+package com.gamegoo.gamegoo_v2.notification.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ReadNotificationsResponse {
+
+    int readCount;
+    int unreadCount;
+    String message;
+
+    public static ReadNotificationsResponse of(int readCount, int unreadCount) {
+        return ReadNotificationsResponse.builder()
+                .readCount(readCount)
+                .unreadCount(unreadCount)
+                .message("알림 일괄 읽음 처리 성공")
+                .build();
+    }
+
+}
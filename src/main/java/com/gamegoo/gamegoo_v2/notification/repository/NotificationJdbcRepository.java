@@ -0,0 +1,70 @@
+package com.gamegoo.gamegoo_v2.notification.repository;
+
+import com.gamegoo.gamegoo_v2.notification.domain.NotificationCommand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_NOTIFICATION = """
+            INSERT INTO notification (content, is_read, source_member_id, member_id, notification_type_id,
+                                      created_at, updated_at)
+            VALUES (?, FALSE, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INCREASE_UNREAD_COUNT = """
+            UPDATE member SET unread_notification_count = unread_notification_count + ?
+            WHERE member_id = ?
+            """;
+
+    /**
+     * 알림 목록을 jdbc batch insert로 저장하고, 회원 별 안읽은 알림 개수를 증가
+     *
+     * @param commands 알림 생성 요청 list
+     * @return 저장된 알림 개수
+     */
+    @Transactional
+    public int saveAll(List<NotificationCommand> commands) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, commands, commands.size(), (ps, command) -> {
+            ps.setString(1, command.content());
+            if (command.sourceMemberId() != null) {
+                ps.setLong(2, command.sourceMemberId());
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            ps.setLong(3, command.memberId());
+            ps.setLong(4, command.notificationTypeId());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+
+        Map<Long, Integer> countByMember = new LinkedHashMap<>();
+        for (NotificationCommand command : commands) {
+            countByMember.merge(command.memberId(), 1, Integer::sum);
+        }
+        jdbcTemplate.batchUpdate(INCREASE_UNREAD_COUNT, new ArrayList<>(countByMember.entrySet()),
+                countByMember.size(), (ps, entry) -> {
+                    ps.setInt(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+
+        return commands.size();
+    }
+
+}
@@ -3,6 +3,10 @@ package com.gamegoo.gamegoo_v2.notification.repository;
 import com.gamegoo.gamegoo_v2.notification.domain.Notification;
 import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 public interface NotificationRepositoryCustom {
 
     /**
@@ -15,4 +19,33 @@ public interface NotificationRepositoryCustom {
      */
     Slice<Notification> findNotificationsByCursor(Long memberId, Long cursor, int pageSize);
 
+    /**
+     * 안읽은 알림 일괄 읽음 처리
+     * notificationIds가 있으면 해당 알림만, 없으면 cursor 이하의 모든 알림을 읽음 처리한다
+     *
+     * @param memberId        회원 id
+     * @param notificationIds 알림 id list
+     * @param cursor          알림 id, null인 경우 전체
+     * @return 읽음 처리된 알림 개수
+     */
+    long readNotifications(Long memberId, List<Long> notificationIds, Long cursor);
+
+    /**
+     * 보관 기간이 지난 알림 id 목록 조회
+     *
+     * @param cutoff 기준 시각, 해당 시각 이전에 생성된 알림을 조회
+     * @param limit  최대 조회 개수
+     * @return 알림 id list
+     */
+    List<Long> findNotificationIdsCreatedBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * 알림 id 목록 중 안읽은 알림을 잠금 조회해 회원별 개수 집계
+     * 잠금은 트랜잭션 종료 시까지 유지되어, 그동안 해당 알림을 읽음 처리하는 요청은 대기한다
+     *
+     * @param notificationIds 알림 id list
+     * @return Map<회원 id, 안읽은 알림 개수>
+     */
+    Map<Long, Long> countUnreadNotificationsByMember(List<Long> notificationIds);
+
 }
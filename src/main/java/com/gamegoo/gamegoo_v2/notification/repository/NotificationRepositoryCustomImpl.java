@@ -3,12 +3,16 @@ package com.gamegoo.gamegoo_v2.notification.repository;
 import com.gamegoo.gamegoo_v2.notification.domain.Notification;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.gamegoo.gamegoo_v2.notification.domain.QNotification.notification;
 
@@ -36,10 +40,53 @@ public class NotificationRepositoryCustomImpl implements NotificationRepositoryC
         return new SliceImpl<>(result, Pageable.unpaged(), hasNext);
     }
 
+    @Override
+    public long readNotifications(Long memberId, List<Long> notificationIds, Long cursor) {
+        boolean hasIds = notificationIds != null && !notificationIds.isEmpty();
+
+        // bulk update는 auditing을 거치지 않으므로 updatedAt을 직접 변경
+        return queryFactory.update(notification)
+                .set(notification.isRead, true)
+                .set(notification.updatedAt, LocalDateTime.now())
+                .where(
+                        notification.member.id.eq(memberId),
+                        notification.isRead.isFalse(),
+                        hasIds ? notification.id.in(notificationIds) : idLoe(cursor)
+                )
+                .execute();
+    }
+
+    @Override
+    public List<Long> findNotificationIdsCreatedBefore(LocalDateTime cutoff, int limit) {
+        return queryFactory.select(notification.id)
+                .from(notification)
+                .where(notification.createdAt.lt(cutoff))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, Long> countUnreadNotificationsByMember(List<Long> notificationIds) {
+        List<Notification> unreadNotifications = queryFactory.selectFrom(notification)
+                .where(
+                        notification.id.in(notificationIds),
+                        notification.isRead.isFalse()
+                )
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+
+        return unreadNotifications.stream()
+                .collect(Collectors.groupingBy(unread -> unread.getMember().getId(), Collectors.counting()));
+    }
+
     //--- BooleanExpression ---//
 
     private BooleanExpression idBefore(Long cursor) {
         return cursor != null ? notification.id.lt(cursor) : null;
     }
 
+    private BooleanExpression idLoe(Long cursor) {
+        return cursor != null ? notification.id.loe(cursor) : null;
+    }
+
 }
@@ -0,0 +1,50 @@
+package com.gamegoo.gamegoo_v2.notification.scheduler;
+
+import com.gamegoo.gamegoo_v2.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionScheduler {
+
+    private final NotificationService notificationService;
+
+    // 알림 보관 기간(일)
+    @Value("${notification.retention.days:90}")
+    private int retentionDays;
+
+    @Value("${notification.retention.batch-size:1000}")
+    private int batchSize;
+
+    // 한 번 실행 시 처리할 최대 batch 수, 남은 알림은 다음 실행 시 삭제된다
+    @Value("${notification.retention.max-batches:500}")
+    private int maxBatches;
+
+    /**
+     * 보관 기간이 지난 알림 삭제
+     * 테이블 잠금 시간을 줄이기 위해 batchSize 단위로 나누어 각각 별도의 트랜잭션에서 실행한다
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 30 5 * * *}")
+    public void deleteExpiredNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int deleted = 0;
+
+        for (int i = 0; i < maxBatches; i++) {
+            int count = notificationService.deleteExpiredNotifications(cutoff, batchSize);
+            deleted += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        log.info("보관 기간이 지난 알림 삭제 완료, 삭제된 알림 개수: {}", deleted);
+    }
+
+}
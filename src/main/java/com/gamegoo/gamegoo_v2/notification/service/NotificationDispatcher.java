@@ -0,0 +1,190 @@
+package com.gamegoo.gamegoo_v2.notification.service;
+
+import com.gamegoo.gamegoo_v2.notification.domain.NotificationCommand;
+import com.gamegoo.gamegoo_v2.notification.domain.NotificationType;
+import com.gamegoo.gamegoo_v2.notification.domain.NotificationTypeTitle;
+import com.gamegoo.gamegoo_v2.notification.repository.NotificationJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 생성 요청을 제한된 크기의 queue에 모아 batch로 저장하는 dispatcher
+ * 하나의 worker thread가 queue를 비우며, 같은 batch 안의 중복 요청은 하나로 합친다
+ * queue가 가득 찬 경우 요청한 thread에서 바로 저장한다
+ * 요청한 thread는 이미 commit된 transaction의 AFTER_COMMIT 단계일 수 있으므로, 저장은 항상 새 transaction에서 수행한다
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationTypeCache notificationTypeCache;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate writeTransactionTemplate;
+
+    // 0인 경우 queue를 사용하지 않고 항상 요청한 thread에서 저장한다
+    @Value("${notification.dispatcher.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${notification.dispatcher.batch-size:200}")
+    private int batchSize;
+
+    // batch가 다 차지 않아도 저장을 시작하기까지 기다리는 최대 시간
+    @Value("${notification.dispatcher.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    private BlockingQueue<QueuedCommand> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    private Counter rejectedCounter;
+    private Counter failedCounter;
+    private Timer lagTimer;
+    private DistributionSummary batchSizeSummary;
+
+    public NotificationDispatcher(NotificationTypeCache notificationTypeCache,
+                                  NotificationJdbcRepository notificationJdbcRepository, MeterRegistry meterRegistry,
+                                  PlatformTransactionManager transactionManager) {
+        this.notificationTypeCache = notificationTypeCache;
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.meterRegistry = meterRegistry;
+        this.writeTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.writeTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+
+        Gauge.builder("notification.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        rejectedCounter = Counter.builder("notification.queue.rejected").register(meterRegistry);
+        failedCounter = Counter.builder("notification.write.failed").register(meterRegistry);
+        lagTimer = Timer.builder("notification.queue.lag").register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("notification.batch.size").register(meterRegistry);
+
+        running = true;
+        worker = new Thread(this::run, "notification-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // worker는 최대 flushIntervalMs 이후 현재 batch 저장을 마치고 종료된다
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+
+        // 종료 시점에 남아있는 요청 저장
+        List<QueuedCommand> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    /**
+     * 알림 타입의 기본 텍스트로 알림 생성 요청
+     *
+     * @param title          알림 유형
+     * @param memberId       알림 전송 대상 회원 id
+     * @param sourceMemberId 알림 연관 회원 id
+     */
+    public void dispatch(NotificationTypeTitle title, Long memberId, Long sourceMemberId) {
+        NotificationType type = notificationTypeCache.get(title);
+        dispatch(NotificationCommand.of(type, type.getContent(), memberId, sourceMemberId));
+    }
+
+    /**
+     * 알림 생성 요청, queue가 가득 찬 경우 호출한 thread에서 바로 저장
+     *
+     * @param command 알림 생성 요청
+     */
+    public void dispatch(NotificationCommand command) {
+        QueuedCommand queuedCommand = new QueuedCommand(command, System.nanoTime());
+        if (queueCapacity > 0 && queue.offer(queuedCommand)) {
+            return;
+        }
+        rejectedCounter.increment();
+        write(List.of(queuedCommand));
+    }
+
+    private void run() {
+        List<QueuedCommand> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                QueuedCommand first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Failed to dispatch notifications", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<QueuedCommand> batch) {
+        // 같은 batch 안의 중복 요청은 하나로 합치고, 먼저 들어온 요청의 시각을 유지
+        Map<NotificationCommand, Long> commands = new LinkedHashMap<>();
+        for (QueuedCommand queuedCommand : batch) {
+            commands.putIfAbsent(queuedCommand.command(), queuedCommand.enqueuedAt());
+        }
+
+        try {
+            save(new ArrayList<>(commands.keySet()));
+        } catch (Exception e) {
+            // 일부 요청 때문에 batch 전체가 실패한 경우, 하나씩 다시 저장해 나머지 알림은 유지한다
+            log.warn("Failed to save notification batch, retrying one by one", e);
+            commands.keySet().forEach(this::writeOne);
+        }
+
+        long now = System.nanoTime();
+        commands.values().forEach(enqueuedAt -> lagTimer.record(now - enqueuedAt, TimeUnit.NANOSECONDS));
+        batchSizeSummary.record(commands.size());
+    }
+
+    private void writeOne(NotificationCommand command) {
+        try {
+            save(List.of(command));
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("Failed to save notification, memberId: {}", command.memberId(), e);
+        }
+    }
+
+    private void save(List<NotificationCommand> commands) {
+        // 실패한 batch가 다음 재시도의 transaction까지 rollback-only로 만들지 않도록 저장마다 transaction을 분리
+        writeTransactionTemplate.executeWithoutResult(status -> notificationJdbcRepository.saveAll(commands));
+    }
+
+    private record QueuedCommand(NotificationCommand command, long enqueuedAt) {
+
+    }
+
+}
@@ -5,6 +5,8 @@ import com.gamegoo.gamegoo_v2.notification.domain.Notification;
 import com.gamegoo.gamegoo_v2.notification.dto.NotificationCursorListResponse;
 import com.gamegoo.gamegoo_v2.notification.dto.NotificationPageListResponse;
 import com.gamegoo.gamegoo_v2.notification.dto.ReadNotificationResponse;
+import com.gamegoo.gamegoo_v2.notification.dto.ReadNotificationsRequest;
+import com.gamegoo.gamegoo_v2.notification.dto.ReadNotificationsResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Slice;
@@ -32,14 +34,31 @@ public class NotificationFacadeService {
         return ReadNotificationResponse.of(notification.getId());
     }
 
+    /**
+     * 알림 일괄 읽음 처리 Facade 메소드
+     *
+     * @param memberId 회원 id
+     * @param request  읽음 처리할 알림 id list 또는 cursor
+     * @return ReadNotificationsResponse
+     */
+    @Transactional
+    public ReadNotificationsResponse readNotifications(Long memberId, ReadNotificationsRequest request) {
+        int readCount = notificationService.readNotifications(memberId, request.getNotificationIdList(),
+                request.getCursor());
+        int unreadCount = notificationService.countUnreadNotification(memberId);
+
+        return ReadNotificationsResponse.of(readCount, unreadCount);
+    }
+
     /**
      * 안읽은 알림 개수 조회 Facade 메소드
      *
-     * @param member 회원
+     * @param memberId 회원 id
      * @return 안읽은 알림 개수
      */
-    public int countUnreadNotification(Member member) {
-        return notificationService.countUnreadNotification(member);
+    @Transactional
+    public int countUnreadNotification(Long memberId) {
+        return notificationService.countUnreadNotification(memberId);
     }
 
     /**
@@ -1,13 +1,13 @@
 package com.gamegoo.gamegoo_v2.notification.service;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
 import com.gamegoo.gamegoo_v2.core.exception.NotificationException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import com.gamegoo.gamegoo_v2.notification.domain.Notification;
 import com.gamegoo.gamegoo_v2.notification.domain.NotificationType;
 import com.gamegoo.gamegoo_v2.notification.domain.NotificationTypeTitle;
 import com.gamegoo.gamegoo_v2.notification.repository.NotificationRepository;
-import com.gamegoo.gamegoo_v2.notification.repository.NotificationTypeRepository;
 import com.gamegoo.gamegoo_v2.social.manner.domain.MannerKeyword;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -17,83 +17,21 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NotificationService {
 
-    private final NotificationTypeRepository notificationTypeRepository;
+    private final NotificationTypeCache notificationTypeCache;
     private final NotificationRepository notificationRepository;
+    private final MemberRepository memberRepository;
 
-    private static final String PLACEHOLDER = "n";
     private final static int PAGE_SIZE = 10;
 
-    /**
-     * 친구 요청 전송됨 알림 생성 메소드
-     *
-     * @param member       알림 전송 대상 회원
-     * @param sourceMember 친구 요청 전송 대상 회원
-     * @return Notification
-     */
-    @Transactional
-    public Notification createSendFriendRequestNotification(Member member, Member sourceMember) {
-        validateMember(member);
-        validateMember(sourceMember);
-
-        NotificationType notificationType = findNotificationType(NotificationTypeTitle.FRIEND_REQUEST_SEND);
-        return saveNotification(notificationType, notificationType.getContent(), member, sourceMember);
-    }
-
-    /**
-     * 친구 요청 받음 알림 생성 메소드
-     *
-     * @param member       알림 전송 대상 회원
-     * @param sourceMember 친구 요청 보낸 회원
-     * @return Notification
-     */
-    @Transactional
-    public Notification createReceivedFriendRequestNotification(Member member, Member sourceMember) {
-        validateMember(member);
-        validateMember(sourceMember);
-
-        NotificationType notificationType = findNotificationType(NotificationTypeTitle.FRIEND_REQUEST_RECEIVED);
-        return saveNotification(notificationType, notificationType.getContent(), member, sourceMember);
-    }
-
-    /**
-     * 친구 요청 수락됨 알림 생성 메소드
-     *
-     * @param member       알림 전송 대상 회원
-     * @param sourceMember 친구 요청 수락한 회원
-     * @return Notification
-     */
-    @Transactional
-    public Notification createAcceptFriendRequestNotification(Member member, Member sourceMember) {
-        validateMember(member);
-        validateMember(sourceMember);
-
-        NotificationType notificationType = findNotificationType(NotificationTypeTitle.FRIEND_REQUEST_ACCEPTED);
-        return saveNotification(notificationType, notificationType.getContent(), member, sourceMember);
-    }
-
-    /**
-     * 친구 요청 거절됨 알림 생성 메소드
-     *
-     * @param member       알림 전송 대상 회원
-     * @param sourceMember 친구 요청 거절한 회원
-     * @return Notification
-     */
-    @Transactional
-    public Notification createRejectFriendRequestNotification(Member member, Member sourceMember) {
-        validateMember(member);
-        validateMember(sourceMember);
-
-        NotificationType notificationType = findNotificationType(NotificationTypeTitle.FRIEND_REQUEST_REJECTED);
-        return saveNotification(notificationType, notificationType.getContent(), member, sourceMember);
-    }
-
     /**
      * 매너레벨 상승/하락 알림 생성 메소드
      *
@@ -107,8 +45,9 @@ public class NotificationService {
                                                       int mannerLevel) {
         validateMember(member);
 
-        NotificationType notificationType = findNotificationType(notificationTypeTitle);
-        String notificationContent = notificationType.getContent().replace(PLACEHOLDER, Integer.toString(mannerLevel));
+        NotificationType notificationType = notificationTypeCache.get(notificationTypeTitle);
+        String notificationContent = notificationTypeCache.render(notificationTypeTitle,
+                Integer.toString(mannerLevel));
         return saveNotification(notificationType, notificationContent, member, null);
     }
 
@@ -124,14 +63,15 @@ public class NotificationService {
         validateMember(member);
         validateMannerKeywordList(mannerKeywordList);
 
-        NotificationType notificationType = findNotificationType(NotificationTypeTitle.MANNER_KEYWORD_RATED);
+        NotificationType notificationType = notificationTypeCache.get(NotificationTypeTitle.MANNER_KEYWORD_RATED);
 
         String mannerKeywordString = mannerKeywordList.get(0).getContents();
         if (mannerKeywordList.size() > 1) {
             mannerKeywordString += " 외 " + (mannerKeywordList.size() - 1) + "개의";
         }
 
-        String notificationContent = notificationType.getContent().replace(PLACEHOLDER, mannerKeywordString);
+        String notificationContent = notificationTypeCache.render(NotificationTypeTitle.MANNER_KEYWORD_RATED,
+                mannerKeywordString);
 
         return saveNotification(notificationType, notificationContent, member, null);
     }
@@ -147,7 +87,9 @@ public class NotificationService {
      */
     @Transactional
     protected Notification saveNotification(NotificationType type, String content, Member member, Member sourceMember) {
-        return notificationRepository.save(Notification.create(member, sourceMember, type, content));
+        Notification notification = notificationRepository.save(Notification.create(member, sourceMember, type, content));
+        memberRepository.increaseUnreadNotificationCount(member.getId());
+        return notification;
     }
 
     /**
@@ -161,25 +103,68 @@ public class NotificationService {
     public Notification readNotification(Member member, Long notificationId) {
         validateNotificationExists(member, notificationId);
 
-        Notification notification = notificationRepository.findById(notificationId).get();
-        notification.updateIsRead(true);
+        // 안읽은 상태인 경우에만 update 되므로, 동시에 읽음 처리해도 한 번만 차감된다
+        long readCount = notificationRepository.readNotifications(member.getId(), List.of(notificationId), null);
+        if (readCount > 0) {
+            memberRepository.decreaseUnreadNotificationCount(member.getId());
+        }
 
-        return notification;
+        return notificationRepository.findById(notificationId).get();
     }
 
     /**
-     * 안읽은 알림 개수 계산 메소드
+     * 알림 일괄 읽음 처리 메소드
+     * 단일 update 쿼리로 처리하며, 읽음 처리된 개수만큼 안읽은 알림 개수를 차감한다
      *
-     * @param member 회원
+     * @param memberId        회원 id
+     * @param notificationIds 알림 id list, 비어있는 경우 cursor 기준으로 처리
+     * @param cursor          알림 id, 해당 id 이하의 알림을 읽음 처리하며 null인 경우 전체
+     * @return 읽음 처리된 알림 개수
+     */
+    @Transactional
+    public int readNotifications(Long memberId, List<Long> notificationIds, Long cursor) {
+        long readCount = notificationRepository.readNotifications(memberId, notificationIds, cursor);
+        if (readCount > 0) {
+            memberRepository.decreaseUnreadNotificationCount(memberId, readCount);
+        }
+
+        return Long.valueOf(readCount).intValue();
+    }
+
+    /**
+     * 안읽은 알림 개수 조회 메소드
+     * 회원에 저장된 개수를 반환한다
+     *
+     * @param memberId 회원 id
      * @return 안읽은 알림 개수
      */
-    public int countUnreadNotification(Member member) {
-        long count = member.getNotificationList()
-                .stream()
-                .filter(notification -> !notification.isRead())
-                .count();
+    public int countUnreadNotification(Long memberId) {
+        Integer count = memberRepository.findUnreadNotificationCount(memberId);
+
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 보관 기간이 지난 알림을 batchSize개 삭제하는 메소드
+     * 삭제되는 안읽은 알림은 잠금 조회해 동시에 읽음 처리되지 않도록 하고, 회원별 개수만큼 안읽은 알림 개수를 차감한다
+     *
+     * @param cutoff    기준 시각, 해당 시각 이전에 생성된 알림을 삭제
+     * @param batchSize 한 번에 삭제할 최대 개수
+     * @return 삭제된 알림 개수
+     */
+    @Transactional
+    public int deleteExpiredNotifications(LocalDateTime cutoff, int batchSize) {
+        List<Long> notificationIds = notificationRepository.findNotificationIdsCreatedBefore(cutoff, batchSize);
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
 
-        return Long.valueOf(count).intValue();
+        Map<Long, Long> unreadCountByMemberId = notificationRepository.countUnreadNotificationsByMember(
+                notificationIds);
+        notificationRepository.deleteAllByIdInBatch(notificationIds);
+        unreadCountByMemberId.forEach(memberRepository::decreaseUnreadNotificationCount);
+
+        return notificationIds.size();
     }
 
     /**
@@ -206,17 +191,6 @@ public class NotificationService {
         return notificationRepository.findNotificationsByCursor(member.getId(), cursor, PAGE_SIZE);
     }
 
-    /**
-     * title로 NotificationType을 찾는 메소드
-     *
-     * @param title NotificationTypeTitle enum
-     * @return NotificationType
-     */
-    private NotificationType findNotificationType(NotificationTypeTitle title) {
-        return notificationTypeRepository.findNotificationTypeByTitle(title)
-                .orElseThrow(() -> new NotificationException(ErrorCode.NOTIFICATION_TYPE_NOT_FOUND));
-    }
-
     /**
      * member가 null이 아닌지 검증하는 메소드
      *
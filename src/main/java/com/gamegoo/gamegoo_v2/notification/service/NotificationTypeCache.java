@@ -0,0 +1,89 @@
+package com.gamegoo.gamegoo_v2.notification.service;
+
+import com.gamegoo.gamegoo_v2.core.exception.NotificationException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import com.gamegoo.gamegoo_v2.notification.domain.NotificationType;
+import com.gamegoo.gamegoo_v2.notification.domain.NotificationTypeTitle;
+import com.gamegoo.gamegoo_v2.notification.repository.NotificationTypeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * NotificationType 및 알림 텍스트 템플릿 캐시
+ * 서버 시작 시 전체 알림 타입을 불러오며, 알림 타입 데이터가 변경된 경우 refresh()로 다시 불러온다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationTypeCache {
+
+    private final NotificationTypeRepository notificationTypeRepository;
+
+    public static final String PLACEHOLDER = "n";
+
+    private volatile Map<NotificationTypeTitle, CachedType> cache = Collections.emptyMap();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * db에서 전체 알림 타입을 다시 불러와 캐시를 교체
+     */
+    public synchronized void refresh() {
+        Map<NotificationTypeTitle, CachedType> loaded = new EnumMap<>(NotificationTypeTitle.class);
+        for (NotificationType type : notificationTypeRepository.findAll()) {
+            loaded.put(type.getTitle(), new CachedType(type, type.getContent().split(Pattern.quote(PLACEHOLDER), -1)));
+        }
+        cache = Collections.unmodifiableMap(loaded);
+        log.info("알림 타입 캐시 갱신 완료, 알림 타입 개수: {}", loaded.size());
+    }
+
+    /**
+     * title로 NotificationType 조회
+     *
+     * @param title NotificationTypeTitle enum
+     * @return NotificationType
+     */
+    public NotificationType get(NotificationTypeTitle title) {
+        return find(title).type();
+    }
+
+    /**
+     * 알림 텍스트의 placeholder를 value로 치환한 결과 반환
+     *
+     * @param title NotificationTypeTitle enum
+     * @param value placeholder에 들어갈 값
+     * @return 알림 텍스트
+     */
+    public String render(NotificationTypeTitle title, String value) {
+        return String.join(value, find(title).templateParts());
+    }
+
+    private CachedType find(NotificationTypeTitle title) {
+        CachedType cachedType = cache.get(title);
+        if (cachedType == null) {
+            // 서버 시작 이후 추가된 알림 타입인 경우 한 번 다시 불러온다
+            refresh();
+            cachedType = cache.get(title);
+        }
+        if (cachedType == null) {
+            throw new NotificationException(ErrorCode.NOTIFICATION_TYPE_NOT_FOUND);
+        }
+        return cachedType;
+    }
+
+    private record CachedType(NotificationType type, String[] templateParts) {
+
+    }
+
+}
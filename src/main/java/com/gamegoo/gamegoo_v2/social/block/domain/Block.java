@@ -8,8 +8,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,6 +19,10 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_block_blocker_blocked_deleted", columnList = "blocker_id, blocked_id, deleted"),
+        @Index(name = "idx_block_blocked_blocker_deleted", columnList = "blocked_id, blocker_id, deleted")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Block extends BaseDateTimeEntity {
 
@@ -8,9 +8,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface BlockRepository extends JpaRepository<Block, Long>, BlockRepositoryCustom {
+public interface BlockRepository extends JpaRepository<Block, Long> {
 
     boolean existsByBlockerMemberAndBlockedMemberAndDeleted(Member blockerMember, Member blockedMember,
                                                             Boolean deleted);
@@ -28,4 +29,12 @@ public interface BlockRepository extends JpaRepository<Block, Long>, BlockReposi
 
     Optional<Block> findByBlockerMemberAndBlockedMember(Member blockerMember, Member blockedMember);
 
+    @Query("""
+            SELECT b.blockedMember.id
+            FROM Block b
+            WHERE b.blockerMember.id = :blockerId
+            AND b.deleted = false
+            """)
+    List<Long> findBlockedMemberIds(@Param("blockerId") Long blockerId);
+
 }
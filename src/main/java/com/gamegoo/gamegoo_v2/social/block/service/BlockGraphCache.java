@@ -0,0 +1,186 @@
+package com.gamegoo.gamegoo_v2.social.block.service;
+
+import com.gamegoo.gamegoo_v2.social.block.repository.BlockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 차단한 회원 id 집합 캐시
+ * 차단 여부 검증을 db 조회 없이 처리하기 위해, 회원이 차단한 회원 id를 primitive long hash set으로 메모리에 유지한다
+ * 캐시는 최초 조회 시 db에서 로딩되며, 차단/차단 해제/차단 목록 삭제 event로 제거된다
+ * 로딩 중 캐시가 제거되었거나, 호출한 트랜잭션의 snapshot에 최근 변경이 빠져 있을 수 있는 경우 로딩한 결과는 캐시에 저장하지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class BlockGraphCache {
+
+    private final BlockRepository blockRepository;
+
+    // 캐시를 유지할 최대 회원 수, 초과 시 가장 오래 사용되지 않은 회원의 캐시부터 제거
+    private static final int MAX_CACHED_MEMBERS = 10_000;
+
+    // 다른 서버에서 변경된 차단 정보가 반영되도록 일정 시간이 지난 캐시는 다시 로딩
+    private static final long TTL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final Map<Long, BlockedSet> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, BlockedSet> eldest) {
+                    return size() > MAX_CACHED_MEMBERS;
+                }
+            });
+
+    // 회원별 마지막 캐시 제거 시각
+    private final Map<Long, Long> evictedAt = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                    return size() > MAX_CACHED_MEMBERS;
+                }
+            });
+
+    // 캐시가 제거될 때마다 증가, 로딩 시작 이후 값이 바뀌었다면 로딩한 결과가 이미 오래된 것일 수 있다
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * blocker가 blocked를 차단했는지 여부 반환
+     *
+     * @param blockerId 회원 id
+     * @param blockedId 상대 회원 id
+     * @return 차단 여부
+     */
+    public boolean isBlocked(Long blockerId, Long blockedId) {
+        return getOrLoad(blockerId).contains(blockedId);
+    }
+
+    /**
+     * 두 회원 중 한 명이라도 상대를 차단했는지 여부 반환
+     *
+     * @param memberId       회원 id
+     * @param targetMemberId 상대 회원 id
+     * @return 차단 여부
+     */
+    public boolean isBlockedEitherWay(Long memberId, Long targetMemberId) {
+        return isBlocked(memberId, targetMemberId) || isBlocked(targetMemberId, memberId);
+    }
+
+    /**
+     * 회원의 캐시 제거
+     *
+     * @param memberId 회원 id
+     */
+    public void evict(Long memberId) {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            evictedAt.put(memberId, System.nanoTime());
+            cache.remove(memberId);
+        }
+    }
+
+    private BlockedSet getOrLoad(Long blockerId) {
+        BlockedSet blockedSet = cache.get(blockerId);
+        if (blockedSet != null && !blockedSet.isExpired()) {
+            return blockedSet;
+        }
+
+        long loadGeneration = generation.get();
+        BlockedSet loaded = BlockedSet.of(blockRepository.findBlockedMemberIds(blockerId));
+
+        synchronized (cache) {
+            if (generation.get() == loadGeneration && !mayMissRecentChange(blockerId)) {
+                cache.put(blockerId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 로딩한 경우, 트랜잭션 시작 이후 커밋된 차단 변경은 snapshot에 보이지 않는다
+     * 트랜잭션이 TTL보다 오래 유지되지 않는다고 보고, TTL 안에 캐시가 제거된 회원이면 로딩 결과를 저장하지 않는다
+     *
+     * @param blockerId 회원 id
+     * @return 로딩 결과에 최근 변경이 빠져 있을 수 있는지 여부
+     */
+    private boolean mayMissRecentChange(Long blockerId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+
+        Long lastEvictedAt = evictedAt.get(blockerId);
+        return lastEvictedAt != null && System.nanoTime() - lastEvictedAt < TTL_NANOS;
+    }
+
+    /**
+     * 한 회원이 차단한 회원 id 집합, open addressing 방식의 불변 long hash set
+     * 회원 id는 0 이상이므로 0은 빈 칸 표시로 사용하고, id 0은 별도 필드로 관리한다
+     */
+    private static class BlockedSet {
+
+        private final long[] table;
+        private final int mask;
+        private final boolean containsZero;
+        private final long loadedAt;
+
+        private BlockedSet(long[] table, boolean containsZero, long loadedAt) {
+            this.table = table;
+            this.mask = table.length - 1;
+            this.containsZero = containsZero;
+            this.loadedAt = loadedAt;
+        }
+
+        static BlockedSet of(List<Long> ids) {
+            // load factor가 0.5 이하가 되도록 2의 거듭제곱 크기로 생성
+            int capacity = Integer.highestOneBit(Math.max(ids.size(), 1) * 2 - 1) << 1;
+            long[] table = new long[capacity];
+            int mask = capacity - 1;
+            boolean containsZero = false;
+
+            for (Long id : ids) {
+                if (id == 0L) {
+                    containsZero = true;
+                    continue;
+                }
+                int index = hash(id) & mask;
+                while (table[index] != 0L && table[index] != id) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = id;
+            }
+
+            return new BlockedSet(table, containsZero, System.nanoTime());
+        }
+
+        boolean contains(long id) {
+            if (id == 0L) {
+                return containsZero;
+            }
+            int index = hash(id) & mask;
+            while (table[index] != 0L) {
+                if (table[index] == id) {
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - loadedAt > TTL_NANOS;
+        }
+
+        private static int hash(long id) {
+            long h = id * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+    }
+
+}
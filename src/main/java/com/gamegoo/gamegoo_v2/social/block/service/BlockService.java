@@ -1,22 +1,20 @@
 package com.gamegoo.gamegoo_v2.social.block.service;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
-import com.gamegoo.gamegoo_v2.core.common.validator.BlockValidator;
 import com.gamegoo.gamegoo_v2.core.common.validator.MemberValidator;
+import com.gamegoo.gamegoo_v2.core.event.BlockStatusChangeEvent;
 import com.gamegoo.gamegoo_v2.core.exception.BlockException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import com.gamegoo.gamegoo_v2.social.block.domain.Block;
 import com.gamegoo.gamegoo_v2.social.block.repository.BlockRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Map;
-
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -24,7 +22,7 @@ public class BlockService {
 
     private final BlockRepository blockRepository;
     private final MemberValidator memberValidator;
-    private final BlockValidator blockValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final static int PAGE_SIZE = 10;
 
@@ -43,13 +41,18 @@ public class BlockService {
         // 대상 회원의 탈퇴 여부 검증
         memberValidator.throwIfBlind(targetMember);
 
-        // 이미 차단한 회원이 아닌지 검증
-        blockValidator.throwIfBlocked(member, targetMember, BlockException.class, ErrorCode.ALREADY_BLOCKED);
+        // 이미 차단한 회원이 아닌지 검증, 중복 차단 방지를 위해 캐시가 아닌 db 기준으로 검증
+        if (blockRepository.existsByBlockerMemberAndBlockedMemberAndDeleted(member, targetMember, false)) {
+            throw new BlockException(ErrorCode.ALREADY_BLOCKED);
+        }
 
         // block 엔티티 생성
         Block block = Block.create(member, targetMember);
         blockRepository.save(block);
 
+        // 차단 캐시 갱신
+        eventPublisher.publishEvent(new BlockStatusChangeEvent(member.getId(), targetMember.getId()));
+
         return block;
     }
 
@@ -85,6 +88,9 @@ public class BlockService {
         // Block 엔티티의 deleted 필드 업데이트
         block.updateDeleted(true);
 
+        // 차단 캐시 갱신
+        eventPublisher.publishEvent(new BlockStatusChangeEvent(member.getId(), targetMember.getId()));
+
         return block;
     }
 
@@ -109,29 +115,10 @@ public class BlockService {
         // Block 엔티티의 deleted 필드 업데이트
         block.updateDeleted(true);
 
-        return block;
-    }
+        // 차단 캐시 갱신
+        eventPublisher.publishEvent(new BlockStatusChangeEvent(member.getId(), targetMember.getId()));
 
-    /**
-     * memer가 targetMember를 차단했는지 여부를 반환하는 메소드
-     *
-     * @param member       회원
-     * @param targetMember 상대 회원
-     * @return 차단 여부
-     */
-    public boolean isBlocked(Member member, Member targetMember) {
-        return blockRepository.existsByBlockerMemberAndBlockedMemberAndDeleted(member, targetMember, false);
-    }
-
-    /**
-     * 모든 targetMember에 대한 차단 여부 반환하는 메소드
-     *
-     * @param member          회원
-     * @param targetMemberIds 상대 회원 id list
-     * @return Map<상대 회원 id, 차단 여부>
-     */
-    public Map<Long, Boolean> isBlockedByTargetMembersBatch(Member member, List<Long> targetMemberIds) {
-        return blockRepository.isBlockedByTargetMembersBatch(targetMemberIds, member.getId());
+        return block;
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.gamegoo.gamegoo_v2.social.friend.controller;
 
 import com.gamegoo.gamegoo_v2.account.auth.annotation.AuthMember;
+import com.gamegoo.gamegoo_v2.account.auth.annotation.AuthMemberId;
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.core.common.ApiResponse;
 import com.gamegoo.gamegoo_v2.core.common.annotation.ValidCursor;
@@ -86,8 +87,8 @@ public class FriendController {
     @Operation(summary = "모든 친구 id 조회 API", description = "해당 회원의 모든 친구 id 목록을 조회하는 API 입니다. " +
             "정렬 기능 없음, socket서버용 API입니다.")
     @GetMapping("/ids")
-    public ApiResponse<List<Long>> getFriendIds(@AuthMember Member member) {
-        return ApiResponse.ok(friendFacadeService.getFriendIdList(member));
+    public ApiResponse<List<Long>> getFriendIds(@AuthMemberId Long memberId) {
+        return ApiResponse.ok(friendFacadeService.getFriendIdList(memberId));
     }
 
     @Operation(summary = "친구 목록 조회 API", description = "해당 회원의 친구 목록을 조회하는 API 입니다. 이름 오름차순(한글-영문-숫자 순)으로 정렬해 제공합니다."
@@ -95,16 +96,17 @@ public class FriendController {
     @Parameter(name = "cursor", description = "페이징을 위한 커서, 이전 친구 목록 조회에서 응답받은 nextCursor를 보내주세요.")
     @GetMapping
     public ApiResponse<FriendListResponse> getFriendList(
-            @ValidCursor @RequestParam(name = "cursor", required = false) Long cursor, @AuthMember Member member) {
-        return ApiResponse.ok(friendFacadeService.getFriends(member, cursor));
+            @ValidCursor @RequestParam(name = "cursor", required = false) Long cursor,
+            @AuthMemberId Long memberId) {
+        return ApiResponse.ok(friendFacadeService.getFriends(memberId, cursor));
     }
 
     @Operation(summary = "소환사명으로 친구 검색 API", description = "해당 회원의 친구 중, query string으로 시작하는 소환사명을 가진 모든 친구 목록을 조회합니다.")
     @Parameter(name = "query", description = "친구 목록 검색을 위한 소환사명 string으로, 100자 이하여야 합니다.")
     @GetMapping("/search")
     public ApiResponse<List<FriendInfoResponse>> searchFriend(@RequestParam(name = "query") String query,
-                                                              @AuthMember Member member) {
-        return ApiResponse.ok(friendFacadeService.searchFriend(member, query));
+                                                              @AuthMemberId Long memberId) {
+        return ApiResponse.ok(friendFacadeService.searchFriend(memberId, query));
     }
 
 }
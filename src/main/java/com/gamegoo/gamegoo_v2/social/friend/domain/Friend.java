@@ -8,8 +8,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,6 +19,10 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_friend_from_to", columnList = "from_member_id, to_member_id"),
+        @Index(name = "idx_friend_from_sort_key", columnList = "from_member_id, sort_key, to_member_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Friend extends BaseDateTimeEntity {
 
@@ -28,6 +34,10 @@ public class Friend extends BaseDateTimeEntity {
     @Column(nullable = false)
     private boolean liked = false;
 
+    // 친구 목록 정렬을 위해 복사한 toMember의 소환사명 정렬 키, 소환사명은 회원 생성 이후 변경되지 않는다
+    @Column(length = 500)
+    private String sortKey;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "from_member_id", nullable = false)
     private Member fromMember;
@@ -39,6 +49,7 @@ public class Friend extends BaseDateTimeEntity {
     public static Friend create(Member fromMember, Member toMember) {
         Friend friend = Friend.builder()
                 .liked(false)
+                .sortKey(toMember.getGameNameSortKey())
                 .toMember(toMember)
                 .build();
         friend.setFromMember(fromMember); // 양방향 관계 설정
@@ -46,8 +57,9 @@ public class Friend extends BaseDateTimeEntity {
     }
 
     @Builder
-    private Friend(boolean liked, Member fromMember, Member toMember) {
+    private Friend(boolean liked, String sortKey, Member fromMember, Member toMember) {
         this.liked = liked;
+        this.sortKey = sortKey;
         this.fromMember = fromMember;
         this.toMember = toMember;
     }
@@ -10,8 +10,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,6 +21,10 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_friend_request_from_to_status", columnList = "from_member_id, to_member_id, status"),
+        @Index(name = "idx_friend_request_to_status", columnList = "to_member_id, status")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class FriendRequest extends BaseDateTimeEntity {
 
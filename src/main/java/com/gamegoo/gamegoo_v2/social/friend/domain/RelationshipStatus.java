@@ -0,0 +1,70 @@
+package com.gamegoo.gamegoo_v2.social.friend.domain;
+
+/**
+ * 두 회원 사이의 친구, 친구 요청, 차단 관계
+ * 각 관계 여부를 하나의 int flag로 조회해 보관한다
+ *
+ * @param memberId       회원 id
+ * @param targetMemberId 상대 회원 id
+ * @param flags          관계 flag
+ */
+public record RelationshipStatus(Long memberId, Long targetMemberId, int flags) {
+
+    // 회원이 상대 회원을 친구로 등록
+    public static final int FRIEND = 1;
+    // 상대 회원이 회원을 친구로 등록
+    public static final int FRIEND_OF_TARGET = 1 << 1;
+    // 회원이 상대 회원에게 보낸 수락 대기중인 친구 요청 존재
+    public static final int FRIEND_REQUEST_SENT = 1 << 2;
+    // 상대 회원이 회원에게 보낸 수락 대기중인 친구 요청 존재
+    public static final int FRIEND_REQUEST_RECEIVED = 1 << 3;
+    // 회원이 상대 회원을 차단
+    public static final int BLOCKED = 1 << 4;
+    // 상대 회원이 회원을 차단
+    public static final int BLOCKED_BY_TARGET = 1 << 5;
+
+    public static RelationshipStatus of(Long memberId, Long targetMemberId, int flags) {
+        return new RelationshipStatus(memberId, targetMemberId, flags);
+    }
+
+    public static RelationshipStatus none(Long memberId, Long targetMemberId) {
+        return new RelationshipStatus(memberId, targetMemberId, 0);
+    }
+
+    /**
+     * 두 회원이 서로 친구인지 여부 반환
+     *
+     * @return 친구 여부
+     */
+    public boolean isFriend() {
+        return has(FRIEND) && has(FRIEND_OF_TARGET);
+    }
+
+    public boolean isBlocked() {
+        return has(BLOCKED);
+    }
+
+    public boolean isBlockedByTarget() {
+        return has(BLOCKED_BY_TARGET);
+    }
+
+    /**
+     * 두 회원 사이 수락 대기중인 친구 요청이 존재하는 경우 친구 요청을 보낸 회원의 id 반환
+     *
+     * @return 친구 요청을 보낸 회원의 id, 친구 요청이 없는 경우 null
+     */
+    public Long getFriendRequestMemberId() {
+        if (has(FRIEND_REQUEST_SENT)) {
+            return memberId;
+        }
+        if (has(FRIEND_REQUEST_RECEIVED)) {
+            return targetMemberId;
+        }
+        return null;
+    }
+
+    private boolean has(int flag) {
+        return (flags & flag) != 0;
+    }
+
+}
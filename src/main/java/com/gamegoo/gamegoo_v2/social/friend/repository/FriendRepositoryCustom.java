@@ -1,6 +1,7 @@
 package com.gamegoo.gamegoo_v2.social.friend.repository;
 
 import com.gamegoo.gamegoo_v2.social.friend.domain.Friend;
+import com.gamegoo.gamegoo_v2.social.friend.domain.RelationshipStatus;
 import org.springframework.data.domain.Slice;
 
 import java.util.List;
@@ -19,13 +20,29 @@ public interface FriendRepositoryCustom {
     Slice<Friend> findFriendsByCursor(Long memberId, Long cursor, int pageSize);
 
     /**
-     * 검색어로 친구 목록 조회
+     * 회원의 모든 친구 회원 id 목록 조회
      *
-     * @param memberId    회원 id
-     * @param queryString 검색어
+     * @param memberId 회원 id
+     * @return 친구 회원 id list
+     */
+    List<Long> findFriendMemberIds(Long memberId);
+
+    /**
+     * 회원의 모든 친구 목록 조회 (친구 회원 fetch join)
+     *
+     * @param memberId 회원 id
+     * @return 친구 list
+     */
+    List<Friend> findAllFriendsWithMember(Long memberId);
+
+    /**
+     * 친구 회원 id 목록에 해당하는 친구 목록 조회 (친구 회원 fetch join)
+     *
+     * @param memberId        회원 id
+     * @param friendMemberIds 친구 회원 id list
      * @return 친구 list
      */
-    List<Friend> findFriendsByQueryString(Long memberId, String queryString);
+    List<Friend> findFriendsByToMemberIds(Long memberId, List<Long> friendMemberIds);
 
     /**
      * 두 회원이 서로 친구인지 여부 조회
@@ -37,12 +54,12 @@ public interface FriendRepositoryCustom {
     boolean isFriend(Long memberId, Long targetMemberId);
 
     /**
-     * 상대 회원 각각에 대해 서로 친구인지 여부 조회
+     * 상대 회원 각각에 대해 친구, 친구 요청, 차단 관계를 한 번의 쿼리로 조회
      *
      * @param memberId        회원 id
      * @param targetMemberIds 상대 회원 id list
-     * @return Map<상대 회원 id, 친구 여부>
+     * @return Map<상대 회원 id, 관계>
      */
-    Map<Long, Boolean> isFriendBatch(Long memberId, List<Long> targetMemberIds);
+    Map<Long, RelationshipStatus> findRelationshipStatuses(Long memberId, List<Long> targetMemberIds);
 
 }
@@ -1,19 +1,29 @@
 package com.gamegoo.gamegoo_v2.social.friend.repository;
 
 import com.gamegoo.gamegoo_v2.social.friend.domain.Friend;
+import com.gamegoo.gamegoo_v2.social.friend.domain.FriendRequestStatus;
+import com.gamegoo.gamegoo_v2.social.friend.domain.QFriend;
+import com.gamegoo.gamegoo_v2.social.friend.domain.QFriendRequest;
+import com.gamegoo.gamegoo_v2.social.friend.domain.RelationshipStatus;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+import static com.gamegoo.gamegoo_v2.account.member.domain.QMember.member;
+import static com.gamegoo.gamegoo_v2.social.block.domain.QBlock.block;
 import static com.gamegoo.gamegoo_v2.social.friend.domain.QFriend.friend;
 
 @RequiredArgsConstructor
@@ -23,174 +33,193 @@ public class FriendRepositoryCustomImpl implements FriendRepositoryCustom {
 
     @Override
     public Slice<Friend> findFriendsByCursor(Long memberId, Long cursorId, int pageSize) {
-        // 전체 친구 목록 조회
-        List<Friend> allFriends = queryFactory.selectFrom(friend)
-                .where(friend.fromMember.id.eq(memberId))
-                .fetch();
-
-        // 친구 목록 전체 정렬
-        allFriends.sort(
-                (f1, f2) -> memberNameComparator.compare(f1.getToMember().getGameName(),
-                        f2.getToMember().getGameName()));
-
-        // 정렬된 데이터에서 페이징 적용
-        // cursorId에 해당하는 요소의 인덱스 찾기
-        int startIndex = findCursorIndex(allFriends, cursorId);
+        // cursor 회원의 정렬 키 조회
+        String cursorSortKey = findCursorSortKey(memberId, cursorId);
 
-        List<Friend> pagedFriends = allFriends.stream()
-                .skip(startIndex)
+        // 정렬 키, 회원 id 기준 keyset 페이징 조회
+        List<Friend> friends = queryFactory.selectFrom(friend)
+                .join(friend.toMember, member).fetchJoin()
+                .where(
+                        friend.fromMember.id.eq(memberId),
+                        afterCursor(cursorSortKey, cursorId)
+                )
+                .orderBy(friend.sortKey.asc(), friend.toMember.id.asc())
                 .limit(pageSize + 1) // 다음 페이지가 있는지 확인하기 위해 +1
-                .collect(Collectors.toList());
+                .fetch();
 
-        boolean hasNext = pagedFriends.size() > pageSize;
+        boolean hasNext = friends.size() > pageSize;
         if (hasNext) {
-            pagedFriends.remove(pagedFriends.size() - 1); // 다음 페이지가 있으면 마지막 요소를 제거
+            friends.remove(friends.size() - 1); // 다음 페이지가 있으면 마지막 요소를 제거
         }
 
-        return new SliceImpl<>(pagedFriends, Pageable.unpaged(), hasNext);
+        return new SliceImpl<>(friends, Pageable.unpaged(), hasNext);
     }
 
     @Override
-    public List<Friend> findFriendsByQueryString(Long memberId, String queryString) {
-        // query string으로 시작하는 소환사명을 갖는 모든 친구 목록 조회
-        List<Friend> result = queryFactory.selectFrom(friend)
-                .where(friend.fromMember.id.eq(memberId)
-                        .and(friend.toMember.gameName.startsWith(queryString))
-                )
+    public List<Long> findFriendMemberIds(Long memberId) {
+        return queryFactory.select(friend.toMember.id)
+                .from(friend)
+                .where(friend.fromMember.id.eq(memberId))
                 .fetch();
+    }
 
-        result.sort(
-                (f1, f2) -> memberNameComparator.compare(f1.getToMember().getGameName(),
-                        f2.getToMember().getGameName()));
+    @Override
+    public List<Friend> findAllFriendsWithMember(Long memberId) {
+        return queryFactory.selectFrom(friend)
+                .join(friend.toMember, member).fetchJoin()
+                .where(friend.fromMember.id.eq(memberId))
+                .fetch();
+    }
 
-        return result;
+    @Override
+    public List<Friend> findFriendsByToMemberIds(Long memberId, List<Long> friendMemberIds) {
+        return queryFactory.selectFrom(friend)
+                .join(friend.toMember, member).fetchJoin()
+                .where(
+                        friend.fromMember.id.eq(memberId),
+                        member.id.in(friendMemberIds)
+                )
+                .fetch();
     }
 
     @Override
     public boolean isFriend(Long memberId, Long targetMemberId) {
-        long count = queryFactory
-                .selectFrom(friend)
+        // 엔티티를 조회하지 않고 양방향 친구 레코드 개수만 조회
+        Long count = queryFactory
+                .select(friend.count())
+                .from(friend)
                 .where(
                         (friend.fromMember.id.eq(memberId).and(friend.toMember.id.eq(targetMemberId)))
                                 .or(friend.fromMember.id.eq(targetMemberId).and(friend.toMember.id.eq(memberId)))
                 )
-                .fetch()
-                .size();
+                .fetchOne();
 
-        return count == 2;
+        return count != null && count == 2;
     }
 
     @Override
-    public Map<Long, Boolean> isFriendBatch(Long memberId, List<Long> targetMemberIds) {
-        // fromMember, toMember 쌍 전체 조회
+    public Map<Long, RelationshipStatus> findRelationshipStatuses(Long memberId, List<Long> targetMemberIds) {
+        Map<Long, RelationshipStatus> result = new HashMap<>();
+        if (targetMemberIds.isEmpty()) {
+            return result;
+        }
+
+        // 상대 회원 별로 각 관계의 exists 결과를 하나의 flag 값으로 합산
+        NumberExpression<Long> me = Expressions.asNumber(memberId);
+        NumberExpression<Integer> flags = flag(friendExists(me, member.id), RelationshipStatus.FRIEND)
+                .add(flag(friendExists(member.id, me), RelationshipStatus.FRIEND_OF_TARGET))
+                .add(flag(pendingRequestExists(me, member.id), RelationshipStatus.FRIEND_REQUEST_SENT))
+                .add(flag(pendingRequestExists(member.id, me), RelationshipStatus.FRIEND_REQUEST_RECEIVED))
+                .add(flag(blockExists(me, member.id), RelationshipStatus.BLOCKED))
+                .add(flag(blockExists(member.id, me), RelationshipStatus.BLOCKED_BY_TARGET));
+
         List<Tuple> results = queryFactory
-                .select(friend.fromMember.id, friend.toMember.id)
-                .from(friend)
-                .where(
-                        friend.fromMember.id.eq(memberId).and(friend.toMember.id.in(targetMemberIds))
-                                .or(friend.fromMember.id.in(targetMemberIds).and(friend.toMember.id.eq(memberId)))
-                )
+                .select(member.id, flags)
+                .from(member)
+                .where(member.id.in(targetMemberIds))
                 .fetch();
 
-        // friend 레코드 개수 count
-        Map<Long, Integer> friendCountMap = new HashMap<>();
-
         for (Tuple row : results) {
-            Long fromId = row.get(friend.fromMember.id);
-            Long toId = row.get(friend.toMember.id);
-
-            if (fromId.equals(memberId)) {
-                friendCountMap.merge(toId, 1, Integer::sum);
-            } else {
-                friendCountMap.merge(fromId, 1, Integer::sum);
-            }
+            Long targetMemberId = row.get(member.id);
+            Integer flag = row.get(flags);
+            result.put(targetMemberId, RelationshipStatus.of(memberId, targetMemberId, flag == null ? 0 : flag));
         }
 
-        // targetId에 대한 친구 여부 map 생성
-        Map<Long, Boolean> result = new HashMap<>();
-        for (Long targetId : targetMemberIds) {
-            Integer count = friendCountMap.getOrDefault(targetId, 0);
-            boolean isFriend = (count == 2);
-            result.put(targetId, isFriend);
+        // 존재하지 않는 회원은 관계가 없는 것으로 처리
+        for (Long targetMemberId : targetMemberIds) {
+            result.putIfAbsent(targetMemberId, RelationshipStatus.none(memberId, targetMemberId));
         }
 
         return result;
     }
 
     /**
-     * cursorId에 해당하는 Friend 객체의 다음 인덱스 찾기
+     * cursorId에 해당하는 친구 회원의 정렬 키 조회
+     * cursor가 null이거나 해당하는 친구가 없는 경우 null을 반환
      *
-     * @param allFriends
-     * @param cursorId
-     * @return
+     * @param memberId 회원 id
+     * @param cursorId 친구 회원 id
+     * @return 정렬 키
      */
-    private static int findCursorIndex(List<Friend> allFriends, Long cursorId) {
+    private String findCursorSortKey(Long memberId, Long cursorId) {
         if (cursorId == null) {
-            return 0;
+            return null;
         }
 
-        for (int i = 0; i < allFriends.size(); i++) {
-            if (allFriends.get(i).getToMember().getId().equals(cursorId)) {
-                return i + 1;
-            }
-        }
-        return 0; // cursorId에 해당하는 객체를 찾지 못하면 0을 리턴
+        return queryFactory.select(friend.sortKey)
+                .from(friend)
+                .where(
+                        friend.fromMember.id.eq(memberId),
+                        friend.toMember.id.eq(cursorId)
+                )
+                .fetchFirst();
     }
 
-    private static final Comparator<String> memberNameComparator = (s1, s2) -> {
-        int length1 = s1.length();
-        int length2 = s2.length();
-        int minLength = Math.min(length1, length2);
-
-        // 각 문자 비교
-        for (int i = 0; i < minLength; i++) {
-            int result = compareChars(s1.charAt(i), s2.charAt(i));
-            if (result != 0) {
-                return result;
-            }
-        }
+    //--- BooleanExpression ---//
 
-        // 앞부분이 동일하면, 길이가 짧은 것이 앞으로 오도록 정렬
-        return Integer.compare(length1, length2);
-    };
+    private NumberExpression<Integer> flag(BooleanExpression condition, int flag) {
+        return new CaseBuilder()
+                .when(condition).then(flag)
+                .otherwise(0);
+    }
 
     /**
-     * 문자 비교 메서드: 한글 -> 영문자 -> 숫자 순으로 우선순위 지정
-     *
-     * @param c1
-     * @param c2
-     * @return
+     * fromMember가 toMember를 친구로 등록했는지 여부
      */
-    private static int compareChars(char c1, char c2) {
-        boolean isC1Korean = isKorean(c1);
-        boolean isC2Korean = isKorean(c2);
-
-        // 한글과 영문자/숫자를 구분하여 우선순위 설정
-        if (isC1Korean && !isC2Korean) {
-            return -1; // 한글은 영문자/숫자보다 먼저
-        } else if (!isC1Korean && isC2Korean) {
-            return 1; // 영문자/숫자는 한글보다 뒤
-        } else if (Character.isDigit(c1) && Character.isDigit(c2)) {
-            return Character.compare(c1, c2); // 둘 다 숫자인 경우 숫자 비교
-        } else if (Character.isDigit(c1)) {
-            return 1; // 숫자는 항상 뒤로
-        } else if (Character.isDigit(c2)) {
-            return -1; // 숫자는 항상 뒤로
-        } else {
-            return Character.compare(c1, c2); // 기본적으로 문자 비교 (영문자끼리 등)
-        }
+    private BooleanExpression friendExists(Expression<Long> fromMemberId, Expression<Long> toMemberId) {
+        QFriend subFriend = new QFriend("subFriend");
+        return JPAExpressions.selectOne()
+                .from(subFriend)
+                .where(
+                        subFriend.fromMember.id.eq(fromMemberId),
+                        subFriend.toMember.id.eq(toMemberId)
+                )
+                .exists();
+    }
+
+    /**
+     * fromMember가 toMember에게 보낸 수락 대기중인 친구 요청이 존재하는지 여부
+     */
+    private BooleanExpression pendingRequestExists(Expression<Long> fromMemberId, Expression<Long> toMemberId) {
+        QFriendRequest subFriendRequest = new QFriendRequest("subFriendRequest");
+        return JPAExpressions.selectOne()
+                .from(subFriendRequest)
+                .where(
+                        subFriendRequest.fromMember.id.eq(fromMemberId),
+                        subFriendRequest.toMember.id.eq(toMemberId),
+                        subFriendRequest.status.eq(FriendRequestStatus.PENDING)
+                )
+                .exists();
     }
 
     /**
-     * 한글 여부를 판별
+     * blocker가 blocked를 차단했는지 여부
+     */
+    private BooleanExpression blockExists(Expression<Long> blockerId, Expression<Long> blockedId) {
+        return JPAExpressions.selectOne()
+                .from(block)
+                .where(
+                        block.blockerMember.id.eq(blockerId),
+                        block.blockedMember.id.eq(blockedId),
+                        block.deleted.isFalse()
+                )
+                .exists();
+    }
+
+    /**
+     * (정렬 키, 회원 id)가 cursor 이후인 경우에만 true를 반환
      *
-     * @param c
-     * @return
+     * @param cursorSortKey cursor 회원의 정렬 키
+     * @param cursorId      cursor 회원 id
+     * @return BooleanExpression
      */
-    private static boolean isKorean(char c) {
-        return (c >= 0x1100 && c <= 0x11FF) || // 한글 자모
-                (c >= 0xAC00 && c <= 0xD7AF) || // 한글 음절
-                (c >= 0x3130 && c <= 0x318F);   // 한글 호환 자모
+    private BooleanExpression afterCursor(String cursorSortKey, Long cursorId) {
+        if (cursorSortKey == null) {
+            return null;
+        }
+
+        return friend.sortKey.gt(cursorSortKey)
+                .or(friend.sortKey.eq(cursorSortKey).and(friend.toMember.id.gt(cursorId)));
     }
 
 }
@@ -7,7 +7,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.List;
 import java.util.Optional;
 
 public interface FriendRequestRepository extends JpaRepository<FriendRequest, Long> {
@@ -32,19 +31,4 @@ public interface FriendRequestRepository extends JpaRepository<FriendRequest, Lo
             @Param("status") FriendRequestStatus status
     );
 
-    @Query("""
-            SELECT fr
-            FROM FriendRequest fr
-            WHERE fr.status = :status
-            AND (
-                    (fr.fromMember = :member AND fr.toMember.id IN :targetMemberIds)
-                 OR (fr.toMember = :member AND fr.fromMember.id IN :targetMemberIds)
-              )
-            """)
-    List<FriendRequest> findAllBetweenTargetMembersAndStatus(
-            @Param("member") Member member,
-            @Param("targetMemberIds") List<Long> targetMemberIds,
-            @Param("status") FriendRequestStatus status
-    );
-
 }
@@ -116,33 +116,33 @@ public class FriendFacadeService {
     /**
      * 모든 친구 id 목록 조회 Facade 메소드
      *
-     * @param member 회원
+     * @param memberId 회원 id
      * @return 친구 회원의 id list
      */
-    public List<Long> getFriendIdList(Member member) {
-        return friendService.getFriendIdList(member);
+    public List<Long> getFriendIdList(Long memberId) {
+        return friendService.getFriendIdList(memberId);
     }
 
     /**
      * 친구 목록 조회 Facade 메소드
      *
-     * @param member 회원
-     * @param cursor 친구 회원 id
+     * @param memberId 회원 id
+     * @param cursor   친구 회원 id
      * @return FriendListResponse
      */
-    public FriendListResponse getFriends(Member member, Long cursor) {
-        return FriendListResponse.of(friendService.getFriendSlice(member, cursor));
+    public FriendListResponse getFriends(Long memberId, Long cursor) {
+        return FriendListResponse.of(friendService.getFriendSlice(memberId, cursor));
     }
 
     /**
      * 소환사명으로 친구 조회 Facade 메소드
      *
-     * @param member 회원
-     * @param query  검색어
+     * @param memberId 회원 id
+     * @param query    검색어
      * @return FriendListResponse list
      */
-    public List<FriendInfoResponse> searchFriend(Member member, String query) {
-        return friendService.searchFriendByGamename(member, query).stream()
+    public List<FriendInfoResponse> searchFriend(Long memberId, String query) {
+        return friendService.searchFriendByGamename(memberId, query).stream()
                 .map(FriendInfoResponse::of)
                 .toList();
     }
@@ -0,0 +1,273 @@
+package com.gamegoo.gamegoo_v2.social.friend.service;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.social.friend.domain.Friend;
+import com.gamegoo.gamegoo_v2.social.friend.repository.FriendRepository;
+import com.gamegoo.gamegoo_v2.utils.HangulUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 친구 소환사명 prefix 검색 인덱스
+ * 회원의 친구 목록을 소환사명 순으로 정렬된 배열로 메모리에 유지하고, 이진 탐색으로 prefix 검색한다
+ * 인덱스는 최초 검색 시 db에서 로딩되며, 친구 수락/삭제 event로 갱신된다
+ * 로딩 중 인덱스가 변경되었거나, 호출한 트랜잭션의 snapshot에 최근 변경이 빠져 있을 수 있는 경우 로딩한 결과는 저장하지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class FriendSearchIndex {
+
+    private final FriendRepository friendRepository;
+
+    // 인덱스를 유지할 최대 회원 수, 초과 시 가장 오래 사용되지 않은 회원의 인덱스부터 제거
+    private static final int MAX_INDEXED_MEMBERS = 10_000;
+
+    // event로 반영되지 않은 변경이 남지 않도록 일정 시간이 지난 인덱스는 다시 로딩
+    private static final long TTL_NANOS = Duration.ofMinutes(10).toNanos();
+
+    private final Map<Long, MemberFriendIndex> indexes = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, MemberFriendIndex> eldest) {
+                    return size() > MAX_INDEXED_MEMBERS;
+                }
+            });
+
+    // 회원별 마지막 인덱스 변경 시각
+    private final Map<Long, Long> modifiedAt = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                    return size() > MAX_INDEXED_MEMBERS;
+                }
+            });
+
+    // 인덱스가 변경될 때마다 증가, 로딩 시작 이후 값이 바뀌었다면 로딩한 결과에 변경이 빠져 있을 수 있다
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 검색어로 시작하는 소환사명을 갖는 친구 회원 id 목록 조회
+     * 대소문자를 구분하지 않으며, 검색어에 초성이 포함된 경우 초성 검색을 수행한다
+     * 결과는 소환사명 정렬 키 순으로 정렬된다
+     *
+     * @param memberId 회원 id
+     * @param query    검색어
+     * @return 친구 회원 id list
+     */
+    public List<Long> search(Long memberId, String query) {
+        return getOrLoad(memberId).search(normalize(query));
+    }
+
+    /**
+     * 회원의 인덱스에 친구 추가, 인덱스가 로딩되지 않은 회원이면 무시
+     *
+     * @param memberId     회원 id
+     * @param friendMember 친구 회원
+     */
+    public void addFriend(Long memberId, Member friendMember) {
+        synchronized (indexes) {
+            markModified(memberId);
+            indexes.computeIfPresent(memberId, (id, index) -> index.with(IndexEntry.of(friendMember)));
+        }
+    }
+
+    /**
+     * 회원의 인덱스에서 친구 제거, 인덱스가 로딩되지 않은 회원이면 무시
+     *
+     * @param memberId       회원 id
+     * @param friendMemberId 친구 회원 id
+     */
+    public void removeFriend(Long memberId, Long friendMemberId) {
+        synchronized (indexes) {
+            markModified(memberId);
+            indexes.computeIfPresent(memberId, (id, index) -> index.without(friendMemberId));
+        }
+    }
+
+    /**
+     * 회원의 인덱스 제거
+     *
+     * @param memberId 회원 id
+     */
+    public void evict(Long memberId) {
+        synchronized (indexes) {
+            markModified(memberId);
+            indexes.remove(memberId);
+        }
+    }
+
+    private MemberFriendIndex getOrLoad(Long memberId) {
+        MemberFriendIndex index = indexes.get(memberId);
+        if (index != null && !index.isExpired()) {
+            return index;
+        }
+
+        long loadGeneration = generation.get();
+        List<IndexEntry> entries = friendRepository.findAllFriendsWithMember(memberId).stream()
+                .map(Friend::getToMember)
+                .map(IndexEntry::of)
+                .toList();
+
+        MemberFriendIndex loaded = MemberFriendIndex.of(entries);
+        synchronized (indexes) {
+            if (generation.get() == loadGeneration && !mayMissRecentChange(memberId)) {
+                indexes.put(memberId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private void markModified(Long memberId) {
+        generation.incrementAndGet();
+        modifiedAt.put(memberId, System.nanoTime());
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 로딩한 경우, 트랜잭션 시작 이후 커밋된 친구 변경은 snapshot에 보이지 않는다
+     * 트랜잭션이 TTL보다 오래 유지되지 않는다고 보고, TTL 안에 인덱스가 변경된 회원이면 로딩 결과를 저장하지 않는다
+     *
+     * @param memberId 회원 id
+     * @return 로딩 결과에 최근 변경이 빠져 있을 수 있는지 여부
+     */
+    private boolean mayMissRecentChange(Long memberId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+
+        Long lastModifiedAt = modifiedAt.get(memberId);
+        return lastModifiedAt != null && System.nanoTime() - lastModifiedAt < TTL_NANOS;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexEntry(Long memberId, String name, String sortKey) {
+
+        static IndexEntry of(Member member) {
+            String name = member.getGameName() == null ? "" : normalize(member.getGameName());
+            return new IndexEntry(member.getId(), name, member.getGameNameSortKey());
+        }
+
+    }
+
+    /**
+     * 한 회원의 친구 인덱스, 변경 시 새 인스턴스를 생성하는 불변 객체
+     */
+    private static class MemberFriendIndex {
+
+        private static final Comparator<IndexEntry> NAME_ORDER = Comparator
+                .comparing(IndexEntry::name)
+                .thenComparing(IndexEntry::memberId);
+
+        private static final Comparator<IndexEntry> SORT_KEY_ORDER = Comparator
+                .comparing(IndexEntry::sortKey, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(IndexEntry::memberId);
+
+        // 소환사명 순으로 정렬된 친구 목록
+        private final IndexEntry[] entries;
+        private final long loadedAt;
+
+        private MemberFriendIndex(IndexEntry[] entries, long loadedAt) {
+            this.entries = entries;
+            this.loadedAt = loadedAt;
+        }
+
+        static MemberFriendIndex of(List<IndexEntry> entries) {
+            IndexEntry[] sorted = entries.toArray(IndexEntry[]::new);
+            Arrays.sort(sorted, NAME_ORDER);
+            return new MemberFriendIndex(sorted, System.nanoTime());
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - loadedAt > TTL_NANOS;
+        }
+
+        List<Long> search(String query) {
+            List<IndexEntry> matched = HangulUtil.containsChosung(query)
+                    ? searchByChosung(query)
+                    : searchByPrefix(query);
+
+            return matched.stream()
+                    .sorted(SORT_KEY_ORDER)
+                    .map(IndexEntry::memberId)
+                    .toList();
+        }
+
+        MemberFriendIndex with(IndexEntry entry) {
+            List<IndexEntry> updated = new ArrayList<>(entries.length + 1);
+            for (IndexEntry e : entries) {
+                if (!e.memberId().equals(entry.memberId())) {
+                    updated.add(e);
+                }
+            }
+            updated.add(entry);
+
+            IndexEntry[] sorted = updated.toArray(IndexEntry[]::new);
+            Arrays.sort(sorted, NAME_ORDER);
+            return new MemberFriendIndex(sorted, loadedAt);
+        }
+
+        MemberFriendIndex without(Long friendMemberId) {
+            IndexEntry[] updated = Arrays.stream(entries)
+                    .filter(e -> !e.memberId().equals(friendMemberId))
+                    .toArray(IndexEntry[]::new);
+            return new MemberFriendIndex(updated, loadedAt);
+        }
+
+        private List<IndexEntry> searchByPrefix(String query) {
+            List<IndexEntry> matched = new ArrayList<>();
+            for (int i = lowerBound(query); i < entries.length && entries[i].name().startsWith(query); i++) {
+                matched.add(entries[i]);
+            }
+            return matched;
+        }
+
+        private List<IndexEntry> searchByChosung(String query) {
+            // 초성은 음절과 정렬 순서가 다르므로 검색어의 첫 초성 이전까지만 이진 탐색 범위로 사용
+            int chosungIndex = 0;
+            while (!HangulUtil.isChosung(query.charAt(chosungIndex))) {
+                chosungIndex++;
+            }
+            String plainPrefix = query.substring(0, chosungIndex);
+
+            List<IndexEntry> matched = new ArrayList<>();
+            for (int i = lowerBound(plainPrefix); i < entries.length && entries[i].name().startsWith(plainPrefix);
+                 i++) {
+                if (HangulUtil.startsWithChosung(entries[i].name(), query)) {
+                    matched.add(entries[i]);
+                }
+            }
+            return matched;
+        }
+
+        // name이 prefix 이상인 첫 번째 위치
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = entries.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (entries[mid].name().compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+    }
+
+}
@@ -5,6 +5,7 @@ import com.gamegoo.gamegoo_v2.core.common.validator.BlockValidator;
 import com.gamegoo.gamegoo_v2.core.common.validator.FriendValidator;
 import com.gamegoo.gamegoo_v2.core.common.validator.MemberValidator;
 import com.gamegoo.gamegoo_v2.core.event.AcceptFriendRequestEvent;
+import com.gamegoo.gamegoo_v2.core.event.DeleteFriendEvent;
 import com.gamegoo.gamegoo_v2.core.event.RejectFriendRequestEvent;
 import com.gamegoo.gamegoo_v2.core.event.SendFriendRequestEvent;
 import com.gamegoo.gamegoo_v2.core.exception.FriendException;
@@ -12,6 +13,7 @@ import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import com.gamegoo.gamegoo_v2.social.friend.domain.Friend;
 import com.gamegoo.gamegoo_v2.social.friend.domain.FriendRequest;
 import com.gamegoo.gamegoo_v2.social.friend.domain.FriendRequestStatus;
+import com.gamegoo.gamegoo_v2.social.friend.domain.RelationshipStatus;
 import com.gamegoo.gamegoo_v2.social.friend.repository.FriendRepository;
 import com.gamegoo.gamegoo_v2.social.friend.repository.FriendRequestRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,10 +22,12 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -35,6 +39,7 @@ public class FriendService {
     private final BlockValidator blockValidator;
     private final MemberValidator memberValidator;
     private final FriendValidator friendValidator;
+    private final FriendSearchIndex friendSearchIndex;
     private final ApplicationEventPublisher eventPublisher;
 
     private final static int PAGE_SIZE = 10;
@@ -199,40 +204,56 @@ public class FriendService {
         // 친구 관계 삭제
         optionalFriend1.ifPresent(friendRepository::delete);
         optionalFriend2.ifPresent(friendRepository::delete);
+
+        // 친구 검색 인덱스 갱신
+        eventPublisher.publishEvent(new DeleteFriendEvent(member.getId(), targetMember.getId()));
     }
 
     /**
      * 해당 회원의 친구 목록 Slice 객체 반환하는 메소드
      *
-     * @param member 회원
+     * @param memberId 회원 id
      * @return 친구 Slice
      */
-    public Slice<Friend> getFriendSlice(Member member, Long cursor) {
-        return friendRepository.findFriendsByCursor(member.getId(), cursor, PAGE_SIZE);
+    public Slice<Friend> getFriendSlice(Long memberId, Long cursor) {
+        return friendRepository.findFriendsByCursor(memberId, cursor, PAGE_SIZE);
     }
 
     /**
      * 해당 회원의 모든 친구 id 리스트 반환하는 메소드
      *
-     * @param member 회원
+     * @param memberId 회원 id
      * @return 친구 회원 id list
      */
-    public List<Long> getFriendIdList(Member member) {
-        return member.getFriendList().stream()
-                .map(friend -> friend.getToMember().getId())
-                .toList();
+    public List<Long> getFriendIdList(Long memberId) {
+        return friendRepository.findFriendMemberIds(memberId);
     }
 
     /**
      * 소환사명으로 친구 목록 조회하는 메소드
      *
-     * @param member 회원
-     * @param query  검색어
+     * @param memberId 회원 id
+     * @param query    검색어
      * @return 친구 list
      */
-    public List<Friend> searchFriendByGamename(Member member, String query) {
+    public List<Friend> searchFriendByGamename(Long memberId, String query) {
         validateSearchQuery(query);
-        return friendRepository.findFriendsByQueryString(member.getId(), query);
+
+        // 친구 검색 인덱스에서 검색어에 해당하는 친구 회원 id 목록 조회
+        List<Long> friendMemberIds = friendSearchIndex.search(memberId, query);
+        if (friendMemberIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 인덱스의 정렬 순서대로 친구 엔티티 반환
+        Map<Long, Friend> friendMap = friendRepository.findFriendsByToMemberIds(memberId, friendMemberIds)
+                .stream()
+                .collect(Collectors.toMap(friend -> friend.getToMember().getId(), Function.identity()));
+
+        return friendMemberIds.stream()
+                .map(friendMap::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     /**
@@ -254,6 +275,11 @@ public class FriendService {
             Friend friend = reverseFriend.get();
             friendRepository.deleteById(friend.getId());
         }
+
+        // 친구 검색 인덱스 갱신
+        if (optionalFriend.isPresent() || reverseFriend.isPresent()) {
+            eventPublisher.publishEvent(new DeleteFriendEvent(fromMember.getId(), toMember.getId()));
+        }
     }
 
     /**
@@ -280,14 +306,25 @@ public class FriendService {
     }
 
     /**
-     * 모든 상대 회원에 대해 서로 친구인지 여부를 반환하는 메소드
+     * 두 회원 사이의 친구, 친구 요청, 차단 관계를 한 번의 쿼리로 조회하는 메소드
+     *
+     * @param member       회원
+     * @param targetMember 상대 회원
+     * @return 관계
+     */
+    public RelationshipStatus getRelationshipStatus(Member member, Member targetMember) {
+        return getRelationshipStatusBatch(member, List.of(targetMember.getId())).get(targetMember.getId());
+    }
+
+    /**
+     * 모든 상대 회원에 대해 친구, 친구 요청, 차단 관계를 한 번의 쿼리로 조회하는 메소드
      *
      * @param member          회원
      * @param targetMemberIds 상대 회원 id list
-     * @return Map<상대 회원 id, 친구 여부>
+     * @return Map<상대 회원 id, 관계>
      */
-    public Map<Long, Boolean> isFriendBatch(Member member, List<Long> targetMemberIds) {
-        return friendRepository.isFriendBatch(member.getId(), targetMemberIds);
+    public Map<Long, RelationshipStatus> getRelationshipStatusBatch(Member member, List<Long> targetMemberIds) {
+        return friendRepository.findRelationshipStatuses(member.getId(), targetMemberIds);
     }
 
     /**
@@ -304,39 +341,6 @@ public class FriendService {
                 .orElse(null);
     }
 
-    /**
-     * 모든 targetMember에 대해 두 회원 사이 친구 요청 보낸 회원의 id 반환하는 메소드
-     *
-     * @param member          회원
-     * @param targetMemberIds 상대 회원 id list
-     * @return Map<상대 회원 id, 친구 요청을 보낸 회원의 id>
-     */
-    public Map<Long, Long> getFriendRequestMemberIdBatch(Member member, List<Long> targetMemberIds) {
-        List<FriendRequest> foundRequests = friendRequestRepository.findAllBetweenTargetMembersAndStatus(member,
-                targetMemberIds, FriendRequestStatus.PENDING);
-
-        Map<Long, Long> resultMap = new HashMap<>();
-
-        for (FriendRequest fr : foundRequests) {
-            Member from = fr.getFromMember();
-            Member to = fr.getToMember();
-
-            if (from.getId().equals(member.getId())) { // 내가 요청을 보낸 경우
-                Long targetId = to.getId();
-                resultMap.put(targetId, member.getId());
-            } else { // 상대가 요청을 보낸 경우
-                Long targetId = from.getId();
-                resultMap.put(targetId, targetId);
-            }
-        }
-
-        for (Long targetId : targetMemberIds) {
-            resultMap.putIfAbsent(targetId, null);
-        }
-
-        return resultMap;
-    }
-
     /**
      * 두 회원이 동일하면 에러 발생 메소드
      *
@@ -356,10 +360,8 @@ public class FriendService {
      * @param targetMember 상대 회원
      */
     private void validateBlockStatus(Member member, Member targetMember) {
-        blockValidator.throwIfBlocked(member, targetMember, FriendException.class,
-                ErrorCode.FRIEND_TARGET_IS_BLOCKED);
-        blockValidator.throwIfBlocked(targetMember, member, FriendException.class,
-                ErrorCode.BLOCKED_BY_FRIEND_TARGET);
+        blockValidator.throwIfBlockedEitherWay(member, targetMember, FriendException.class,
+                ErrorCode.FRIEND_TARGET_IS_BLOCKED, ErrorCode.BLOCKED_BY_FRIEND_TARGET);
     }
 
     /**
@@ -0,0 +1,87 @@
+package com.gamegoo.gamegoo_v2.utils;
+
+public class HangulUtil {
+
+    private static final char HANGUL_SYLLABLE_START = 0xAC00;
+    private static final char HANGUL_SYLLABLE_END = 0xD7A3;
+
+    // 초성 하나에 해당하는 음절 수 (중성 21개 * 종성 28개)
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    // 유니코드 한글 음절 순서에 맞춘 초성 목록 (한글 호환 자모)
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /**
+     * 초성 문자 여부를 판별
+     *
+     * @param c 문자
+     * @return 초성 여부
+     */
+    public static boolean isChosung(char c) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 문자열에 초성 문자가 포함되어 있는지 여부를 판별
+     *
+     * @param text 문자열
+     * @return 초성 포함 여부
+     */
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한글 음절의 초성을 반환, 한글 음절이 아니면 입력 문자를 그대로 반환
+     *
+     * @param c 문자
+     * @return 초성
+     */
+    public static char getChosung(char c) {
+        if (c < HANGUL_SYLLABLE_START || c > HANGUL_SYLLABLE_END) {
+            return c;
+        }
+        return CHOSUNG[(c - HANGUL_SYLLABLE_START) / SYLLABLES_PER_CHOSUNG];
+    }
+
+    /**
+     * text가 prefix로 시작하는지 여부를 판별
+     * prefix의 초성 문자는 같은 초성을 갖는 한글 음절과도 일치하는 것으로 판단한다
+     * ex) "ㄱㅁ", "게ㅁ", "게임" 모두 "게임고"의 prefix로 판단
+     *
+     * @param text   문자열
+     * @param prefix 검색어
+     * @return 일치 여부
+     */
+    public static boolean startsWithChosung(String text, String prefix) {
+        if (prefix.length() > text.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < prefix.length(); i++) {
+            char p = prefix.charAt(i);
+            char t = text.charAt(i);
+            if (p == t) {
+                continue;
+            }
+            if (!isChosung(p) || getChosung(t) != p) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
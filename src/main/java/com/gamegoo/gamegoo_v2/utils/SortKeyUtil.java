@@ -0,0 +1,59 @@
+package com.gamegoo.gamegoo_v2.utils;
+
+public class SortKeyUtil {
+
+    // 문자 하나를 나타내는 정렬 키의 길이 (문자 분류 1자리 + 유니코드 코드 4자리, 16진수)
+    private static final int CHAR_KEY_LENGTH = 5;
+
+    private static final int KOREAN = 0;
+    private static final int OTHER = 1;
+    private static final int DIGIT = 2;
+
+    /**
+     * 소환사명에 대한 정렬 키 생성
+     * 한글 -> 영문자 및 기타 문자 -> 숫자 순으로 정렬되도록 각 문자를 고정 길이의 16진수 문자열로 변환한다
+     * 앞부분이 같은 경우 길이가 짧은 이름이 먼저 오며, db collation과 무관하게 문자열 비교만으로 정렬 순서가 결정된다
+     *
+     * @param gameName 소환사명
+     * @return 정렬 키
+     */
+    public static String gameNameSortKey(String gameName) {
+        if (gameName == null) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder(gameName.length() * CHAR_KEY_LENGTH);
+        for (int i = 0; i < gameName.length(); i++) {
+            char c = gameName.charAt(i);
+            int key = (charClass(c) << 16) | c;
+            String hex = Integer.toHexString(key);
+
+            sb.append("0".repeat(CHAR_KEY_LENGTH - hex.length())).append(hex);
+        }
+
+        return sb.toString();
+    }
+
+    private static int charClass(char c) {
+        if (isKorean(c)) {
+            return KOREAN;
+        }
+        if (Character.isDigit(c)) {
+            return DIGIT;
+        }
+        return OTHER;
+    }
+
+    /**
+     * 한글 여부를 판별
+     *
+     * @param c 문자
+     * @return 한글 여부
+     */
+    private static boolean isKorean(char c) {
+        return (c >= 0x1100 && c <= 0x11FF) || // 한글 자모
+                (c >= 0xAC00 && c <= 0xD7AF) || // 한글 음절
+                (c >= 0x3130 && c <= 0x318F);   // 한글 호환 자모
+    }
+
+}
@@ -0,0 +1,287 @@
+package com.gamegoo.gamegoo_v2.benchmark;
+
+import com.gamegoo.gamegoo_v2.core.migration.SchemaMigrationSupport;
+import com.gamegoo.gamegoo_v2.core.migration.V2__AddHotQueryIndexes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * V2__AddHotQueryIndexes 적용 전후의 H2 실행 계획 및 실행 시간 비교
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class HotQueryIndexBenchmarkTest {
+
+    private static final int MEMBER_COUNT = 2_000;
+    private static final int CHATROOM_COUNT = 1_000;
+    private static final int CHAT_COUNT = 200_000;
+    private static final int FRIEND_PER_MEMBER = 20;
+    private static final int FRIEND_REQUEST_PER_MEMBER = 5;
+    private static final int BLOCK_PER_MEMBER = 5;
+    private static final int NOTIFICATION_PER_MEMBER = 50;
+    private static final int ITERATIONS = 50;
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    // QueryDSL 조건과 동일한 형태의 주요 조회 쿼리
+    private static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    static {
+        QUERIES.put("chat.findRecentChats", """
+                SELECT * FROM chat
+                WHERE chatroom_id = 500 AND created_at >= TIMESTAMP '2024-01-02 00:00:00'
+                AND (to_member_id IS NULL OR to_member_id = 1)
+                ORDER BY created_at DESC LIMIT 101""");
+        QUERIES.put("chat.findChatsByCursor", """
+                SELECT * FROM chat
+                WHERE chatroom_id = 500 AND timestamp < 1704153600000
+                ORDER BY created_at DESC LIMIT 21""");
+        QUERIES.put("memberChatroom.findByMemberIdAndChatroomId", """
+                SELECT * FROM member_chatroom WHERE member_id = 1000 AND chatroom_id = 500""");
+        QUERIES.put("friend.isFriend", """
+                SELECT * FROM friend WHERE from_member_id = 1000 AND to_member_id = 1001""");
+        QUERIES.put("friendRequest.findByFromMemberAndToMemberAndStatus", """
+                SELECT * FROM friend_request WHERE from_member_id = 1000 AND to_member_id = 1001
+                AND status = 'PENDING'""");
+        QUERIES.put("block.existsByBlockerMemberAndBlockedMemberAndDeleted", """
+                SELECT * FROM block WHERE blocker_id = 1000 AND blocked_id = 1001 AND deleted = FALSE""");
+        QUERIES.put("block.findBlockerIdsByBlockedMember", """
+                SELECT blocker_id FROM block WHERE blocker_id IN (1, 2, 3, 4, 5) AND blocked_id = 1000
+                AND deleted = FALSE""");
+        QUERIES.put("notification.findNotificationsByCursor", """
+                SELECT * FROM notification WHERE member_id = 1000 ORDER BY created_at DESC LIMIT 11""");
+    }
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:hot_query_index_benchmark;DB_CLOSE_DELAY=-1", "sa",
+                "");
+        createTables();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        execute("DROP ALL OBJECTS");
+        connection.close();
+    }
+
+    @DisplayName("인덱스 추가 전에는 full scan, 추가 후에는 인덱스를 사용한다.")
+    @Test
+    void compareQueryPlans() throws SQLException {
+        // given
+        insertData();
+
+        Map<String, String> beforePlans = new LinkedHashMap<>();
+        Map<String, Double> beforeMicros = new LinkedHashMap<>();
+        for (Map.Entry<String, String> query : QUERIES.entrySet()) {
+            beforePlans.put(query.getKey(), explain(query.getValue()));
+            beforeMicros.put(query.getKey(), measureMicros(query.getValue()));
+        }
+
+        // when
+        int created = SchemaMigrationSupport.createIndexes(connection, V2__AddHotQueryIndexes.INDEXES);
+
+        // then
+        assertThat(created).isEqualTo(V2__AddHotQueryIndexes.INDEXES.size());
+
+        for (Map.Entry<String, String> query : QUERIES.entrySet()) {
+            String afterPlan = explain(query.getValue());
+            double afterMicros = measureMicros(query.getValue());
+
+            System.out.printf("%n[%s] %.1fus -> %.1fus%n  before: %s%n  after : %s%n", query.getKey(),
+                    beforeMicros.get(query.getKey()), afterMicros, beforePlans.get(query.getKey()), afterPlan);
+
+            assertThat(beforePlans.get(query.getKey())).containsIgnoringCase("tableScan");
+            assertThat(afterPlan).doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    @DisplayName("이미 생성된 인덱스와 존재하지 않는 테이블은 건너뛴다.")
+    @Test
+    void createIndexesIsIdempotent() throws SQLException {
+        // given
+        execute("DROP TABLE notification");
+        int created = SchemaMigrationSupport.createIndexes(connection, V2__AddHotQueryIndexes.INDEXES);
+
+        // when
+        int createdAgain = SchemaMigrationSupport.createIndexes(connection, V2__AddHotQueryIndexes.INDEXES);
+
+        // then
+        assertThat(created).isEqualTo(V2__AddHotQueryIndexes.INDEXES.size() - 1);
+        assertThat(createdAgain).isEqualTo(0);
+    }
+
+    private void createTables() throws SQLException {
+        execute("""
+                CREATE TABLE chat (
+                    chat_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    contents VARCHAR(1000) NOT NULL,
+                    timestamp BIGINT NOT NULL,
+                    chatroom_id BIGINT NOT NULL,
+                    from_member_id BIGINT NOT NULL,
+                    to_member_id BIGINT,
+                    created_at TIMESTAMP
+                )""");
+        execute("""
+                CREATE TABLE member_chatroom (
+                    member_chatroom_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    member_id BIGINT NOT NULL,
+                    chatroom_id BIGINT NOT NULL,
+                    last_view_date TIMESTAMP,
+                    last_join_date TIMESTAMP
+                )""");
+        execute("""
+                CREATE TABLE friend (
+                    friend_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    from_member_id BIGINT NOT NULL,
+                    to_member_id BIGINT NOT NULL
+                )""");
+        execute("""
+                CREATE TABLE friend_request (
+                    friend_request_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    from_member_id BIGINT NOT NULL,
+                    to_member_id BIGINT NOT NULL,
+                    status VARCHAR(20) NOT NULL
+                )""");
+        execute("""
+                CREATE TABLE block (
+                    block_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    blocker_id BIGINT NOT NULL,
+                    blocked_id BIGINT NOT NULL,
+                    deleted BOOLEAN NOT NULL
+                )""");
+        execute("""
+                CREATE TABLE notification (
+                    notification_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    member_id BIGINT NOT NULL,
+                    content VARCHAR(500) NOT NULL,
+                    is_read BOOLEAN NOT NULL,
+                    created_at TIMESTAMP
+                )""");
+    }
+
+    private void insertData() throws SQLException {
+        long baseMillis = 1704067200000L; // 2024-01-01T00:00:00Z
+
+        batchInsert("INSERT INTO chat (contents, timestamp, chatroom_id, from_member_id, created_at) "
+                + "VALUES (?, ?, ?, ?, ?)", CHAT_COUNT, (ps, i) -> {
+            ps.setString(1, "message " + i);
+            ps.setLong(2, baseMillis + i * 1000L);
+            ps.setLong(3, i % CHATROOM_COUNT + 1);
+            ps.setLong(4, i % MEMBER_COUNT + 1);
+            ps.setTimestamp(5, Timestamp.valueOf(BASE_TIME.plusSeconds(i)));
+        });
+
+        batchInsert("INSERT INTO member_chatroom (member_id, chatroom_id) VALUES (?, ?)", CHATROOM_COUNT * 2,
+                (ps, i) -> {
+                    ps.setLong(1, i % MEMBER_COUNT + 1);
+                    ps.setLong(2, i / 2 + 1);
+                });
+
+        batchInsert("INSERT INTO friend (from_member_id, to_member_id) VALUES (?, ?)",
+                MEMBER_COUNT * FRIEND_PER_MEMBER, (ps, i) -> {
+                    ps.setLong(1, i / FRIEND_PER_MEMBER + 1);
+                    ps.setLong(2, (i / FRIEND_PER_MEMBER + i % FRIEND_PER_MEMBER + 1) % MEMBER_COUNT + 1);
+                });
+
+        batchInsert("INSERT INTO friend_request (from_member_id, to_member_id, status) VALUES (?, ?, ?)",
+                MEMBER_COUNT * FRIEND_REQUEST_PER_MEMBER, (ps, i) -> {
+                    ps.setLong(1, i / FRIEND_REQUEST_PER_MEMBER + 1);
+                    ps.setLong(2, (i / FRIEND_REQUEST_PER_MEMBER + i % FRIEND_REQUEST_PER_MEMBER + 100)
+                            % MEMBER_COUNT + 1);
+                    ps.setString(3, i % 3 == 0 ? "PENDING" : "ACCEPTED");
+                });
+
+        batchInsert("INSERT INTO block (blocker_id, blocked_id, deleted) VALUES (?, ?, ?)",
+                MEMBER_COUNT * BLOCK_PER_MEMBER, (ps, i) -> {
+                    ps.setLong(1, i / BLOCK_PER_MEMBER + 1);
+                    ps.setLong(2, (i / BLOCK_PER_MEMBER + i % BLOCK_PER_MEMBER + 500) % MEMBER_COUNT + 1);
+                    ps.setBoolean(3, i % 4 == 0);
+                });
+
+        batchInsert("INSERT INTO notification (member_id, content, is_read, created_at) VALUES (?, ?, ?, ?)",
+                MEMBER_COUNT * NOTIFICATION_PER_MEMBER, (ps, i) -> {
+                    ps.setLong(1, i % MEMBER_COUNT + 1);
+                    ps.setString(2, "notification " + i);
+                    ps.setBoolean(3, i % 2 == 0);
+                    ps.setTimestamp(4, Timestamp.valueOf(BASE_TIME.plusSeconds(i)));
+                });
+
+        execute("ANALYZE");
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            rs.next();
+            return rs.getString(1).replaceAll("\\s+", " ");
+        }
+    }
+
+    private double measureMicros(String sql) throws SQLException {
+        // warm up
+        for (int i = 0; i < 5; i++) {
+            runQuery(sql);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runQuery(sql);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    private void runQuery(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                rs.getObject(1);
+            }
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private void batchInsert(String sql, int count, RowBinder binder) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                binder.bind(ps, i);
+                ps.addBatch();
+                if (i % 1_000 == 999) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+
+        void bind(PreparedStatement ps, int i) throws SQLException;
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.gamegoo.gamegoo_v2.benchmark;
+
+import com.gamegoo.gamegoo_v2.account.auth.jwt.JwtInterceptor;
+import com.gamegoo.gamegoo_v2.account.auth.jwt.JwtProvider;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtInterceptor 처리량 측정
+ * 토큰 검증과 memberId 추출을 각각 파싱하던 기존 방식과 한 번만 파싱하는 방식을 비교한다
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class JwtInterceptorBenchmarkTest {
+
+    private static final String SECRET = "secretjwttestjwtsecretsecretjwttestjwtsecretsecretjwttestjwtsecret";
+    private static final long ACCESS_EXPIRATION_TIME = 600_000;
+    private static final Long MEMBER_ID = 1L;
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private SecretKey key;
+    private JwtProvider jwtProvider;
+    private JwtInterceptor jwtInterceptor;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        key = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtProvider = new JwtProvider(SECRET, ACCESS_EXPIRATION_TIME);
+        jwtInterceptor = new JwtInterceptor(jwtProvider);
+        accessToken = jwtProvider.createAccessToken(MEMBER_ID);
+    }
+
+    @DisplayName("토큰을 한 번만 파싱하는 interceptor의 처리량이 기존 방식보다 높아야 한다.")
+    @Test
+    void interceptorThroughput() throws Exception {
+        // warm up
+        runTwoPass(WARMUP_ITERATIONS);
+        runInterceptor(WARMUP_ITERATIONS);
+
+        long twoPassNanos = runTwoPass(ITERATIONS);
+        long interceptorNanos = runInterceptor(ITERATIONS);
+
+        System.out.printf("%-28s %,12d ops/s%n", "validate + getMemberId", opsPerSecond(twoPassNanos));
+        System.out.printf("%-28s %,12d ops/s%n", "JwtInterceptor.preHandle", opsPerSecond(interceptorNanos));
+
+        assertThat(interceptorNanos).isLessThan(twoPassNanos);
+    }
+
+    // 기존 JwtProvider와 동일하게 검증과 claim 추출마다 parser를 새로 생성해 각각 파싱
+    private long runTwoPass(int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            Jwts.parser()
+                    .verifyWith(key)
+                    .build()
+                    .parse(accessToken);
+            Long memberId = Jwts.parser()
+                    .verifyWith(key)
+                    .build()
+                    .parseSignedClaims(accessToken)
+                    .getPayload()
+                    .get("memberId", Long.class);
+            assertThat(memberId).isEqualTo(MEMBER_ID);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long runInterceptor(int iterations) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader("Authorization", JwtProvider.BEARER_PREFIX + accessToken);
+
+            boolean result = jwtInterceptor.preHandle(request, response, null);
+            assertThat(result).isTrue();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long opsPerSecond(long nanos) {
+        return ITERATIONS * 1_000_000_000L / nanos;
+    }
+
+}
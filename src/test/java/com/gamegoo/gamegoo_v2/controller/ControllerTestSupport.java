@@ -1,7 +1,9 @@
 package com.gamegoo.gamegoo_v2.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamegoo.gamegoo_v2.account.auth.annotation.AuthMemberId;
 import com.gamegoo.gamegoo_v2.account.auth.annotation.resolver.AuthMemberArgumentResolver;
+import com.gamegoo.gamegoo_v2.account.auth.annotation.resolver.AuthMemberIdArgumentResolver;
 import com.gamegoo.gamegoo_v2.account.auth.jwt.JwtInterceptor;
 import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
@@ -9,6 +11,7 @@ import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.core.MethodParameter;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -29,11 +32,15 @@ public abstract class ControllerTestSupport {
     @MockitoBean
     protected AuthMemberArgumentResolver authMemberArgumentResolver;
 
+    @MockitoBean
+    protected AuthMemberIdArgumentResolver authMemberIdArgumentResolver;
+
     @Autowired
     protected ObjectMapper objectMapper;
 
     protected Member mockMember;
 
+    protected static final Long MOCK_MEMBER_ID = 1L;
     protected static final String MOCK_EMAIL = "test@gmail.com";
     protected static final String MOCK_PASSWORD = "mockpassword";
     protected static final int MOCK_PROFILE_IMG = 1;
@@ -66,6 +73,12 @@ public abstract class ControllerTestSupport {
                 .isAgree(MOCK_IS_AGREE)
                 .build();
         given(authMemberArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(mockMember);
+
+        // authMemberIdArgumentResolver가 MOCK_MEMBER_ID를 반환하도록 Mock 설정
+        given(authMemberIdArgumentResolver.supportsParameter(any())).willAnswer(
+                invocation -> invocation.getArgument(0, MethodParameter.class)
+                        .hasParameterAnnotation(AuthMemberId.class));
+        given(authMemberIdArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(MOCK_MEMBER_ID);
     }
 
 }
@@ -412,7 +412,7 @@ class ChatControllerTest extends ControllerTestSupport {
         // given
         List<String> response = List.of();
 
-        given(chatFacadeService.getUnreadChatroomUuids(any(Member.class))).willReturn(response);
+        given(chatFacadeService.getUnreadChatroomUuids(any(Long.class))).willReturn(response);
 
         // when // then
         mockMvc.perform(get(API_URL_PREFIX + "/chat/unread"))
@@ -483,16 +483,18 @@ class ChatControllerTest extends ControllerTestSupport {
         ChatroomListResponse response = ChatroomListResponse.builder()
                 .chatroomResponseList(chatroomResponseList)
                 .listSize(0)
+                .hasNext(false)
                 .build();
 
-        given(chatFacadeService.getChatrooms(any(Member.class))).willReturn(response);
+        given(chatFacadeService.getChatrooms(any(Member.class), any())).willReturn(response);
 
         // when // then
         mockMvc.perform(get(API_URL_PREFIX + "/chatroom"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("OK"))
                 .andExpect(jsonPath("$.data.chatroomResponseList").isArray())
-                .andExpect(jsonPath("$.data.listSize").isNumber());
+                .andExpect(jsonPath("$.data.listSize").isNumber())
+                .andExpect(jsonPath("$.data.hasNext").isBoolean());
     }
 
 }
@@ -462,7 +462,7 @@ class FriendControllerTest extends ControllerTestSupport {
             // given
             List<Long> response = new ArrayList<>();
 
-            given(friendFacadeService.getFriendIdList(any(Member.class))).willReturn(response);
+            given(friendFacadeService.getFriendIdList(any(Long.class))).willReturn(response);
 
             // when // then
             mockMvc.perform(get(API_URL_PREFIX + "/ids"))
@@ -485,7 +485,7 @@ class FriendControllerTest extends ControllerTestSupport {
             Slice<Friend> friendSlice = new SliceImpl<>(friends, Pageable.unpaged(), false);
             FriendListResponse response = FriendListResponse.of(friendSlice);
 
-            given(friendFacadeService.getFriends(any(Member.class), any())).willReturn(response);
+            given(friendFacadeService.getFriends(any(Long.class), any())).willReturn(response);
 
             // when // then
             mockMvc.perform(get(API_URL_PREFIX))
@@ -504,7 +504,7 @@ class FriendControllerTest extends ControllerTestSupport {
             Slice<Friend> friendSlice = new SliceImpl<>(friends, Pageable.unpaged(), false);
             FriendListResponse response = FriendListResponse.of(friendSlice);
 
-            given(friendFacadeService.getFriends(any(Member.class), any(Long.class))).willReturn(response);
+            given(friendFacadeService.getFriends(any(Long.class), any(Long.class))).willReturn(response);
 
             // when // then
             mockMvc.perform(get(API_URL_PREFIX)
@@ -538,7 +538,7 @@ class FriendControllerTest extends ControllerTestSupport {
             // given
             List<FriendInfoResponse> response = new ArrayList<>();
 
-            given(friendFacadeService.searchFriend(any(Member.class), any(String.class))).willReturn(response);
+            given(friendFacadeService.searchFriend(any(Long.class), any(String.class))).willReturn(response);
 
             // when // then
             mockMvc.perform(get(API_URL_PREFIX + "/search")
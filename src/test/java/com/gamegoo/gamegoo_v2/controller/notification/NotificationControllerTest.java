@@ -9,6 +9,8 @@ import com.gamegoo.gamegoo_v2.notification.domain.Notification;
 import com.gamegoo.gamegoo_v2.notification.dto.NotificationCursorListResponse;
 import com.gamegoo.gamegoo_v2.notification.dto.NotificationPageListResponse;
 import com.gamegoo.gamegoo_v2.notification.dto.ReadNotificationResponse;
+import com.gamegoo.gamegoo_v2.notification.dto.ReadNotificationsRequest;
+import com.gamegoo.gamegoo_v2.notification.dto.ReadNotificationsResponse;
 import com.gamegoo.gamegoo_v2.notification.service.NotificationFacadeService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +19,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.util.ArrayList;
@@ -75,6 +78,34 @@ class NotificationControllerTest extends ControllerTestSupport {
 
     }
 
+    @Nested
+    @DisplayName("알림 일괄 읽음 처리")
+    class ReadNotificationsTest {
+
+        @DisplayName("알림 일괄 읽음 처리 성공")
+        @Test
+        void readNotificationsSucceeds() throws Exception {
+            // given
+            ReadNotificationsRequest request = ReadNotificationsRequest.builder()
+                    .notificationIdList(List.of(1L, 2L, 3L))
+                    .build();
+            ReadNotificationsResponse response = ReadNotificationsResponse.of(3, 2);
+
+            given(notificationFacadeService.readNotifications(any(Long.class), any(ReadNotificationsRequest.class)))
+                    .willReturn(response);
+
+            // when // then
+            mockMvc.perform(patch(API_URL_PREFIX + "/read")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("OK"))
+                    .andExpect(jsonPath("$.data.readCount").value(3))
+                    .andExpect(jsonPath("$.data.unreadCount").value(2));
+        }
+
+    }
+
     @Nested
     @DisplayName("안읽은 알림 개수 조회")
     class countUnreadNotificationTest {
@@ -83,7 +114,7 @@ class NotificationControllerTest extends ControllerTestSupport {
         @Test
         void countUnreadNotificationSucceeds() throws Exception {
             // given
-            given(notificationFacadeService.countUnreadNotification(any(Member.class))).willReturn(5);
+            given(notificationFacadeService.countUnreadNotification(any(Long.class))).willReturn(5);
 
             // when // then
             mockMvc.perform(get(API_URL_PREFIX + "/unread/count"))
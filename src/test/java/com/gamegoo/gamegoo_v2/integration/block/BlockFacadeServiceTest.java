@@ -4,6 +4,7 @@ import com.gamegoo.gamegoo_v2.social.block.domain.Block;
 import com.gamegoo.gamegoo_v2.social.block.dto.BlockListResponse;
 import com.gamegoo.gamegoo_v2.social.block.repository.BlockRepository;
 import com.gamegoo.gamegoo_v2.social.block.service.BlockFacadeService;
+import com.gamegoo.gamegoo_v2.social.block.service.BlockGraphCache;
 import com.gamegoo.gamegoo_v2.core.exception.BlockException;
 import com.gamegoo.gamegoo_v2.core.exception.MemberException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
@@ -43,6 +44,9 @@ class BlockFacadeServiceTest {
     @Autowired
     private BlockRepository blockRepository;
 
+    @Autowired
+    private BlockGraphCache blockGraphCache;
+
     @Autowired
     private FriendRepository friendRepository;
 
@@ -189,6 +193,7 @@ class BlockFacadeServiceTest {
 
             // 내가 상대를 차단 처리
             blockRepository.save(Block.create(member, targetMember));
+            assertThat(blockGraphCache.isBlocked(member.getId(), targetMember.getId())).isTrue();
 
             // when
             blockFacadeService.unBlockMember(member, targetMember.getId());
@@ -197,6 +202,9 @@ class BlockFacadeServiceTest {
             // 차단 기록 엔티티의 delete 상태가 정상적으로 변경되었는지 검증
             Block block = blockRepository.findByBlockerMemberAndBlockedMember(member, targetMember).get();
             assertThat(block.isDeleted()).isTrue();
+
+            // 차단 캐시가 갱신되었는지 검증
+            assertThat(blockGraphCache.isBlocked(member.getId(), targetMember.getId())).isFalse();
         }
 
         @DisplayName("회원 차단 해제 실패: 대상 회원이 탈퇴한 경우 예외가 발생한다.")
@@ -7,6 +7,7 @@ import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
 import com.gamegoo.gamegoo_v2.account.member.service.MemberService;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomMembership;
 import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
 import com.gamegoo.gamegoo_v2.chat.dto.request.ChatCreateRequest;
 import com.gamegoo.gamegoo_v2.chat.dto.request.SystemFlagRequest;
@@ -19,6 +20,8 @@ import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.MemberChatroomRepository;
 import com.gamegoo.gamegoo_v2.chat.service.ChatFacadeService;
 import com.gamegoo.gamegoo_v2.chat.service.ChatQueryService;
+import com.gamegoo.gamegoo_v2.chat.service.ChatroomMembershipCache;
+import com.gamegoo.gamegoo_v2.chat.service.SystemMemberProvider;
 import com.gamegoo.gamegoo_v2.content.board.domain.Board;
 import com.gamegoo.gamegoo_v2.content.board.repository.BoardRepository;
 import com.gamegoo.gamegoo_v2.core.exception.BoardException;
@@ -47,11 +50,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -93,12 +96,21 @@ class ChatFacadeServiceTest {
     @MockitoSpyBean
     private MemberRepository memberRepository;
 
+    @MockitoSpyBean
+    private SystemMemberProvider systemMemberProvider;
+
     @MockitoSpyBean
     private MemberService memberService;
 
     @MockitoSpyBean
     private ChatQueryService chatQueryService;
 
+    @Autowired
+    private ChatroomMembershipCache chatroomMembershipCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @MockitoBean
     private SocketService socketService;
 
@@ -472,7 +484,7 @@ class ChatFacadeServiceTest {
         @BeforeEach
         void setUp() {
             systemMember = createMember("systemMember@gmail.com", "systemMember");
-            given(memberRepository.findById(0L)).willReturn(Optional.of(systemMember));
+            given(systemMemberProvider.getSystemMember()).willReturn(systemMember);
         }
 
         @DisplayName("실패: 해당 채팅방을 찾을 수 없는 경우 예외가 발생한다.")
@@ -621,6 +633,9 @@ class ChatFacadeServiceTest {
             chatFacadeService.createChat(request, member, chatroom.getUuid());
 
             // then
+            // 채팅방, MemberChatroom, 차단 여부를 한 번에 조회했는지 검증
+            verify(chatQueryService, Mockito.times(1)).getChatSendContext(member.getId(), chatroom.getUuid());
+
             // member의 lastViewDate 업데이트 검증
             memberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(),
                     chatroom.getId()).orElseThrow();
@@ -658,6 +673,12 @@ class ChatFacadeServiceTest {
                         chatroom.getId()).orElseThrow();
                 assertThat(targetMemberChatroom.getLastJoinDate()).isAfter(now);
             }
+
+            // 안읽은 메시지 개수 업데이트 검증
+            targetMemberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(targetMember.getId(),
+                    chatroom.getId()).orElseThrow();
+            assertThat(targetMemberChatroom.getUnreadCount()).isEqualTo(systemMessage ? 2 : 1);
+            assertThat(memberChatroom.getUnreadCount()).isEqualTo(0);
         }
 
     }
@@ -691,6 +712,29 @@ class ChatFacadeServiceTest {
                     .hasMessage(ErrorCode.CHATROOM_ACCESS_DENIED.getMessage());
         }
 
+        @DisplayName("성공: 조회한 채팅방의 참여 회원 정보는 캐시되어 다음 요청에서 재사용되어야 한다.")
+        @Test
+        void getChatMessagesByCursorCachesChatroomMembership() {
+            // given
+            Chatroom chatroom = createChatroom();
+            createMemberChatroom(member, chatroom, null);
+            createMemberChatroom(targetMember, chatroom, null);
+
+            // when
+            chatFacadeService.getChatMessagesByCursor(member, chatroom.getUuid(), null);
+
+            // then
+            ChatroomMembership membership = chatroomMembershipCache.get(chatroom.getUuid()).orElseThrow();
+            assertThat(membership.chatroomId()).isEqualTo(chatroom.getId());
+            assertThat(membership.memberIds()).containsExactlyInAnyOrder(member.getId(), targetMember.getId());
+
+            // 상대 회원은 캐시된 정보로도 접근할 수 없어야 함
+            Member otherMember = createMember("other@gmail.com", "otherMember");
+            assertThatThrownBy(() -> chatFacadeService.getChatMessagesByCursor(otherMember, chatroom.getUuid(), null))
+                    .isInstanceOf(ChatException.class)
+                    .hasMessage(ErrorCode.CHATROOM_ACCESS_DENIED.getMessage());
+        }
+
         @DisplayName("성공: cursor가 null인 경우")
         @Test
         void getChatMessagesByCursorSucceedsWhenCursorIsNull() {
@@ -750,13 +794,13 @@ class ChatFacadeServiceTest {
             createMemberChatroom(targetMember, chatroom, null);
 
             // when
-            List<String> result = chatFacadeService.getUnreadChatroomUuids(member);
+            List<String> result = chatFacadeService.getUnreadChatroomUuids(member.getId());
 
             // then
             assertThat(result).isEmpty();
         }
 
-        @DisplayName("성공: 입장 상태인 채팅방이 있는 경우 해당 채팅방의 안읽은 메시지 조회 메소드를 호출해야 한다.")
+        @DisplayName("성공: 입장 상태인 채팅방 중 안읽은 메시지가 있는 채팅방의 uuid만 반환한다.")
         @Test
         void getUnreadChatroomUuidsSucceeds() {
             // given
@@ -764,14 +808,20 @@ class ChatFacadeServiceTest {
             createMemberChatroom(member, chatroom, LocalDateTime.now());
             createMemberChatroom(targetMember, chatroom, null);
 
+            Member targetMember2 = createMember("target2@gmail.com", "targetMember2");
+            Chatroom unreadChatroom = createChatroom();
+            createMemberChatroom(member, unreadChatroom, LocalDateTime.now());
+            createMemberChatroom(targetMember2, unreadChatroom, null);
+            increaseUnreadCount(unreadChatroom, targetMember2);
+
             // when
-            List<String> result = chatFacadeService.getUnreadChatroomUuids(member);
+            List<String> result = chatFacadeService.getUnreadChatroomUuids(member.getId());
 
             // then
-            verify(chatQueryService, Mockito.times(1))
+            verify(chatQueryService, Mockito.never())
                     .countUnreadChats(any(Member.class), any(Chatroom.class));
 
-            assertThat(result).isEmpty();
+            assertThat(result).containsExactly(unreadChatroom.getUuid());
         }
 
     }
@@ -936,7 +986,7 @@ class ChatFacadeServiceTest {
         @Test
         void getChatroomsSucceedsWhenNoActiveChatroom() {
             // when
-            ChatroomListResponse response = chatFacadeService.getChatrooms(member);
+            ChatroomListResponse response = chatFacadeService.getChatrooms(member, null);
 
             // then
             assertThat(response.getChatroomResponseList()).isEmpty();
@@ -956,6 +1006,7 @@ class ChatFacadeServiceTest {
             createMemberChatroom(member, chatroom1, now, now);
             Chat chat1 = createChat(targetMember1, "message 1", chatroom1);
             updateLastChat(chatroom1, chat1);
+            increaseUnreadCount(chatroom1, targetMember1);
 
             friendRepository.save(Friend.create(member, targetMember1));
             friendRepository.save(Friend.create(targetMember1, member));
@@ -977,6 +1028,7 @@ class ChatFacadeServiceTest {
             createMemberChatroom(targetMember3, chatroom3, now, now);
             Chat chat3 = createChat(targetMember3, "message 3", chatroom3);
             updateLastChat(chatroom3, chat3);
+            increaseUnreadCount(chatroom3, targetMember3);
 
             blockMember(targetMember3, member);
 
@@ -987,11 +1039,13 @@ class ChatFacadeServiceTest {
             createMemberChatroom(targetMember4, chatroom4, now);
 
             // when
-            ChatroomListResponse response = chatFacadeService.getChatrooms(member);
+            ChatroomListResponse response = chatFacadeService.getChatrooms(member, null);
 
             // then
             assertThat(response.getChatroomResponseList()).hasSize(3);
             assertThat(response.getListSize()).isEqualTo(3);
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
 
             ChatroomResponse chatroomResponse1 = response.getChatroomResponseList().get(0);
             ChatroomResponse chatroomResponse2 = response.getChatroomResponseList().get(1);
@@ -1016,6 +1070,15 @@ class ChatFacadeServiceTest {
             assertThat(chatroomResponse3.isFriend()).isTrue();
         }
 
+        @DisplayName("실패: 올바르지 않은 cursor인 경우 예외가 발생한다.")
+        @Test
+        void getChatroomsFailedWhenInvalidCursor() {
+            // when // then
+            assertThatThrownBy(() -> chatFacadeService.getChatrooms(member, "invalid"))
+                    .isInstanceOf(ChatException.class)
+                    .hasMessage(ErrorCode.CHATROOM_CURSOR_BAD_REQUEST.getMessage());
+        }
+
     }
 
     private void assertEnterChatroomResponse(EnterChatroomResponse response, Chatroom chatroom, Member targetMember) {
@@ -1105,10 +1168,17 @@ class ChatFacadeServiceTest {
         memberRepository.save(member);
     }
 
+    private void increaseUnreadCount(Chatroom chatroom, Member sender) {
+        transactionTemplate.executeWithoutResult(status ->
+                memberChatroomRepository.increaseTargetUnreadCount(chatroom.getId(), sender.getId(), 1));
+    }
+
     private void updateLastChat(Chatroom chatroom, Chat chat) {
         chatroom.updateLastChatId(chat.getId());
         chatroom.updateLastChatAt(chat.getCreatedAt());
         chatroomRepository.save(chatroom);
+        transactionTemplate.executeWithoutResult(status ->
+                memberChatroomRepository.updateLastActivityAt(chatroom.getId(), chat.getCreatedAt()));
     }
 
 }
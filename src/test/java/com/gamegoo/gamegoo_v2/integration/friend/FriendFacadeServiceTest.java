@@ -220,7 +220,7 @@ class FriendFacadeServiceTest {
             }
 
             // when
-            List<Long> friendIdList = friendFacadeService.getFriendIdList(member);
+            List<Long> friendIdList = friendFacadeService.getFriendIdList(member.getId());
 
             // then
             assertThat(friendIdList).hasSize(5);
@@ -230,7 +230,7 @@ class FriendFacadeServiceTest {
         @Test
         void getFriendIdListSucceedsWhenNoFriend() {
             // when
-            List<Long> friendIdList = friendFacadeService.getFriendIdList(member);
+            List<Long> friendIdList = friendFacadeService.getFriendIdList(member.getId());
 
             // then
             assertThat(friendIdList).hasSize(0);
@@ -246,7 +246,7 @@ class FriendFacadeServiceTest {
         @Test
         void getFriendListSucceedsWhenNoFriend() {
             // when
-            FriendListResponse friends = friendFacadeService.getFriends(member, null);
+            FriendListResponse friends = friendFacadeService.getFriends(member.getId(), null);
 
             // then
             assertThat(friends.getFriendInfoList()).isEmpty();
@@ -268,7 +268,7 @@ class FriendFacadeServiceTest {
             }
 
             // when
-            FriendListResponse friends = friendFacadeService.getFriends(member, null);
+            FriendListResponse friends = friendFacadeService.getFriends(member.getId(), null);
 
             // then
             assertThat(friends.getFriendInfoList()).hasSize(5);
@@ -295,7 +295,7 @@ class FriendFacadeServiceTest {
             Long cursor = targetMembers.get(3).getId();
 
             // when
-            FriendListResponse friends = friendFacadeService.getFriends(member, cursor);
+            FriendListResponse friends = friendFacadeService.getFriends(member.getId(), cursor);
 
             // then
             assertThat(friends.getFriendInfoList()).hasSize(5);
@@ -317,7 +317,7 @@ class FriendFacadeServiceTest {
             String query = "targetMember";
 
             // when
-            List<FriendInfoResponse> friendList = friendFacadeService.searchFriend(member, query);
+            List<FriendInfoResponse> friendList = friendFacadeService.searchFriend(member.getId(), query);
 
             // then
             assertThat(friendList).isEmpty();
@@ -336,12 +336,53 @@ class FriendFacadeServiceTest {
             friendRepository.save(Friend.create(targetMember, member));
 
             // when
-            List<FriendInfoResponse> friendList = friendFacadeService.searchFriend(member, query);
+            List<FriendInfoResponse> friendList = friendFacadeService.searchFriend(member.getId(), query);
 
             // then
             assertThat(friendList).hasSize(1);
         }
 
+        @DisplayName("소환사명으로 친구 검색 성공: 초성으로 검색하는 경우")
+        @Test
+        void searchFriendByGamenameSucceedsWithChosung() {
+            // given
+            Member targetMember1 = createMember("target1@gmail.com", "게임고");
+            Member targetMember2 = createMember("target2@gmail.com", "가마");
+            Member targetMember3 = createMember("target3@gmail.com", "나무");
+
+            friendRepository.save(Friend.create(member, targetMember1));
+            friendRepository.save(Friend.create(member, targetMember2));
+            friendRepository.save(Friend.create(member, targetMember3));
+
+            // when
+            List<FriendInfoResponse> chosungResult = friendFacadeService.searchFriend(member.getId(), "ㄱ");
+            List<FriendInfoResponse> chosungsResult = friendFacadeService.searchFriend(member.getId(), "ㄱㅁ");
+            List<FriendInfoResponse> mixedResult = friendFacadeService.searchFriend(member.getId(), "게ㅇ");
+
+            // then
+            assertThat(chosungResult).extracting(FriendInfoResponse::getName).containsExactly("가마", "게임고");
+            assertThat(chosungsResult).extracting(FriendInfoResponse::getName).containsExactly("가마");
+            assertThat(mixedResult).extracting(FriendInfoResponse::getName).containsExactly("게임고");
+        }
+
+        @DisplayName("소환사명으로 친구 검색 성공: 친구 삭제 후 검색 결과에 포함되지 않는다.")
+        @Test
+        void searchFriendByGamenameAfterDeleteFriend() {
+            // given
+            Member targetMember = createMember("targetMember@gmail.com", "targetMember");
+
+            friendRepository.save(Friend.create(member, targetMember));
+            friendRepository.save(Friend.create(targetMember, member));
+
+            assertThat(friendFacadeService.searchFriend(member.getId(), "target")).hasSize(1);
+
+            // when
+            friendFacadeService.deleteFriend(member, targetMember.getId());
+
+            // then
+            assertThat(friendFacadeService.searchFriend(member.getId(), "target")).isEmpty();
+        }
+
         @DisplayName("소환사명으로 친구 검색 실패: query 길이 제한을 초과한 경우 예외가 발생한다.")
         @Test
         void searchFriendByGamename_shouldThrowWhenQueryTooLong() {
@@ -349,7 +390,7 @@ class FriendFacadeServiceTest {
             String query = "a".repeat(101);
 
             // when // then
-            assertThatThrownBy(() -> friendFacadeService.searchFriend(member, query))
+            assertThatThrownBy(() -> friendFacadeService.searchFriend(member.getId(), query))
                     .isInstanceOf(FriendException.class)
                     .hasMessage(ErrorCode.FRIEND_SEARCH_QUERY_BAD_REQUEST.getMessage());
         }
@@ -17,11 +17,11 @@ import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
 import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
-import com.gamegoo.gamegoo_v2.notification.domain.Notification;
 import com.gamegoo.gamegoo_v2.notification.domain.NotificationType;
 import com.gamegoo.gamegoo_v2.notification.domain.NotificationTypeTitle;
 import com.gamegoo.gamegoo_v2.notification.repository.NotificationRepository;
 import com.gamegoo.gamegoo_v2.notification.repository.NotificationTypeRepository;
+import com.gamegoo.gamegoo_v2.notification.service.NotificationTypeCache;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,16 +31,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 
 @ActiveProfiles("test")
 @SpringBootTest
@@ -62,12 +58,15 @@ class FriendRequestFacadeServiceTest {
     @Autowired
     private FriendRequestRepository friendRequestRepository;
 
-    @MockitoSpyBean
+    @Autowired
     private NotificationRepository notificationRepository;
 
     @Autowired
     private NotificationTypeRepository notificationTypeRepository;
 
+    @Autowired
+    private NotificationTypeCache notificationTypeCache;
+
     private static final String TARGET_EMAIL = "target@naver.com";
     private static final String TARGET_GAMENAME = "target";
 
@@ -117,7 +116,7 @@ class FriendRequestFacadeServiceTest {
 
             // event로 인해 알림 2개가 저장되었는지 검증
             await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
-                verify(notificationRepository, times(2)).save(any(Notification.class));
+                assertThat(notificationRepository.count()).isEqualTo(2);
             });
         }
 
@@ -261,7 +260,7 @@ class FriendRequestFacadeServiceTest {
 
             // event로 인해 알림 1개가 저장되었는지 검증
             await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
-                verify(notificationRepository, times(1)).save(any(Notification.class));
+                assertThat(notificationRepository.count()).isEqualTo(1);
             });
         }
 
@@ -320,7 +319,7 @@ class FriendRequestFacadeServiceTest {
 
             // event로 인해 알림 1개가 저장되었는지 검증
             await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
-                verify(notificationRepository, times(1)).save(any(Notification.class));
+                assertThat(notificationRepository.count()).isEqualTo(1);
             });
         }
 
@@ -420,6 +419,7 @@ class FriendRequestFacadeServiceTest {
         notificationTypeRepository.save(NotificationType.create(NotificationTypeTitle.MANNER_LEVEL_UP));
         notificationTypeRepository.save(NotificationType.create(NotificationTypeTitle.MANNER_LEVEL_DOWN));
         notificationTypeRepository.save(NotificationType.create(NotificationTypeTitle.MANNER_KEYWORD_RATED));
+        notificationTypeCache.refresh();
     }
 
 }
@@ -0,0 +1,97 @@
+package com.gamegoo.gamegoo_v2.integration.notification;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.notification.domain.NotificationType;
+import com.gamegoo.gamegoo_v2.notification.domain.NotificationTypeTitle;
+import com.gamegoo.gamegoo_v2.notification.repository.NotificationRepository;
+import com.gamegoo.gamegoo_v2.notification.repository.NotificationTypeRepository;
+import com.gamegoo.gamegoo_v2.notification.service.NotificationTypeCache;
+import com.gamegoo.gamegoo_v2.social.friend.repository.FriendRequestRepository;
+import com.gamegoo.gamegoo_v2.social.friend.service.FriendFacadeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * queue를 사용하지 않도록 설정해 AFTER_COMMIT listener thread에서 바로 저장되는 경우를 검증
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "notification.dispatcher.queue-capacity=0")
+class NotificationDispatcherOverflowTest {
+
+    @Autowired
+    private FriendFacadeService friendFacadeService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private FriendRequestRepository friendRequestRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationTypeRepository notificationTypeRepository;
+
+    @Autowired
+    private NotificationTypeCache notificationTypeCache;
+
+    private Member member;
+    private Member targetMember;
+
+    @BeforeEach
+    void setUp() {
+        member = createMember("test@gmail.com", "member");
+        targetMember = createMember("target@naver.com", "target");
+        notificationTypeRepository.save(NotificationType.create(NotificationTypeTitle.FRIEND_REQUEST_SEND));
+        notificationTypeRepository.save(NotificationType.create(NotificationTypeTitle.FRIEND_REQUEST_RECEIVED));
+        notificationTypeCache.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        friendRequestRepository.deleteAllInBatch();
+        notificationRepository.deleteAllInBatch();
+        notificationTypeRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("queue에 넣지 못한 알림은 커밋 이후 요청 thread에서 새 transaction으로 저장되어야 한다.")
+    @Test
+    void overflowWriteIsCommitted() {
+        // when
+        friendFacadeService.sendFriendRequest(member, targetMember.getId());
+
+        // then
+        assertThat(notificationRepository.count()).isEqualTo(2);
+        assertThat(memberRepository.findUnreadNotificationCount(member.getId())).isEqualTo(1);
+        assertThat(memberRepository.findUnreadNotificationCount(targetMember.getId())).isEqualTo(1);
+    }
+
+    private Member createMember(String email, String gameName) {
+        return memberRepository.save(Member.builder()
+                .email(email)
+                .password("testPassword")
+                .profileImage(1)
+                .loginType(LoginType.GENERAL)
+                .gameName(gameName)
+                .tag("TAG")
+                .tier(Tier.IRON)
+                .gameRank(0)
+                .winRate(0.0)
+                .gameCount(0)
+                .isAgree(true)
+                .build());
+    }
+
+}
@@ -12,6 +12,8 @@ import com.gamegoo.gamegoo_v2.notification.domain.NotificationTypeTitle;
 import com.gamegoo.gamegoo_v2.notification.dto.NotificationCursorListResponse;
 import com.gamegoo.gamegoo_v2.notification.dto.NotificationPageListResponse;
 import com.gamegoo.gamegoo_v2.notification.dto.ReadNotificationResponse;
+import com.gamegoo.gamegoo_v2.notification.dto.ReadNotificationsRequest;
+import com.gamegoo.gamegoo_v2.notification.dto.ReadNotificationsResponse;
 import com.gamegoo.gamegoo_v2.notification.repository.NotificationRepository;
 import com.gamegoo.gamegoo_v2.notification.repository.NotificationTypeRepository;
 import com.gamegoo.gamegoo_v2.notification.service.NotificationFacadeService;
@@ -23,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,6 +49,9 @@ class NotificationFacadeServiceTest {
     @Autowired
     private NotificationTypeRepository notificationTypeRepository;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private Member member;
     private NotificationType testNotificationType;
 
@@ -97,6 +103,83 @@ class NotificationFacadeServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("알림 일괄 읽음 처리")
+    class ReadNotificationsTest {
+
+        @DisplayName("알림 일괄 읽음 처리 성공: id list에 해당하는 알림만 읽음 처리한다.")
+        @Test
+        void readNotificationsSucceedsWithIdList() {
+            // given
+            Notification notification1 = createTestNotification(member);
+            Notification notification2 = createTestNotification(member);
+            Notification notification3 = createTestNotification(member);
+
+            // 다른 회원의 알림은 읽음 처리되지 않아야 함
+            Member otherMember = createMember("other@gmail.com", "other");
+            Notification otherNotification = createTestNotification(otherMember);
+
+            ReadNotificationsRequest request = ReadNotificationsRequest.builder()
+                    .notificationIdList(List.of(notification1.getId(), notification2.getId(),
+                            otherNotification.getId()))
+                    .build();
+
+            // when
+            ReadNotificationsResponse response = notificationFacadeService.readNotifications(member.getId(),
+                    request);
+
+            // then
+            assertThat(response.getReadCount()).isEqualTo(2);
+            assertThat(response.getUnreadCount()).isEqualTo(1);
+            assertThat(notificationRepository.findById(notification3.getId()).get().isRead()).isFalse();
+            assertThat(notificationRepository.findById(otherNotification.getId()).get().isRead()).isFalse();
+
+            // bulk update로 읽음 처리된 알림도 updatedAt이 변경되어야 함
+            Notification readNotification = notificationRepository.findById(notification1.getId()).get();
+            assertThat(readNotification.isRead()).isTrue();
+            assertThat(readNotification.getUpdatedAt()).isAfter(notification1.getUpdatedAt());
+        }
+
+        @DisplayName("알림 일괄 읽음 처리 성공: cursor 이하의 알림을 모두 읽음 처리한다.")
+        @Test
+        void readNotificationsSucceedsWithCursor() {
+            // given
+            createTestNotification(member);
+            Notification cursorNotification = createTestNotification(member);
+            createTestNotification(member);
+
+            ReadNotificationsRequest request = ReadNotificationsRequest.builder()
+                    .cursor(cursorNotification.getId())
+                    .build();
+
+            // when
+            ReadNotificationsResponse response = notificationFacadeService.readNotifications(member.getId(),
+                    request);
+
+            // then
+            assertThat(response.getReadCount()).isEqualTo(2);
+            assertThat(response.getUnreadCount()).isEqualTo(1);
+        }
+
+        @DisplayName("알림 일괄 읽음 처리 성공: id list와 cursor가 없는 경우 전체 알림을 읽음 처리한다.")
+        @Test
+        void readNotificationsSucceedsWithoutCondition() {
+            // given
+            for (int i = 0; i < 5; i++) {
+                createTestNotification(member);
+            }
+
+            // when
+            ReadNotificationsResponse response = notificationFacadeService.readNotifications(member.getId(),
+                    ReadNotificationsRequest.builder().build());
+
+            // then
+            assertThat(response.getReadCount()).isEqualTo(5);
+            assertThat(response.getUnreadCount()).isZero();
+        }
+
+    }
+
     @Nested
     @DisplayName("안읽은 알림 개수 조회")
     class CountUnreadNotificationTest {
@@ -113,18 +196,35 @@ class NotificationFacadeServiceTest {
             createTestNotification(member);
 
             // 알림 2개 읽음 처리
-            notification1.updateIsRead(true);
-            notification2.updateIsRead(true);
-            notificationRepository.save(notification1);
-            notificationRepository.save(notification2);
+            notificationFacadeService.readNotification(member, notification1.getId());
+            notificationFacadeService.readNotification(member, notification2.getId());
 
             // when
-            int count = notificationFacadeService.countUnreadNotification(member);
+            int count = notificationFacadeService.countUnreadNotification(member.getId());
 
             // then
             assertThat(count).isEqualTo(3);
         }
 
+        @DisplayName("안읽은 알림 개수 조회 성공: 같은 알림을 여러 번 읽음 처리해도 한 번만 차감된다.")
+        @Test
+        void countUnreadNotificationSucceedsAfterReadNotification() {
+            // given
+            Notification notification = createTestNotification(member);
+            createTestNotification(member);
+
+            // 같은 알림을 두 번 읽음 처리
+            notificationFacadeService.readNotification(member, notification.getId());
+            notificationFacadeService.readNotification(member, notification.getId());
+
+            // when
+            int count = notificationFacadeService.countUnreadNotification(member.getId());
+
+            // then
+            assertThat(count).isEqualTo(1);
+            assertThat(memberRepository.findUnreadNotificationCount(member.getId())).isEqualTo(1);
+        }
+
     }
 
     @Nested
@@ -244,8 +344,13 @@ class NotificationFacadeServiceTest {
     }
 
     private Notification createTestNotification(Member member) {
-        return notificationRepository.save(Notification.create(member, null, testNotificationType,
-                testNotificationType.getContent()));
+        // 알림 생성 시와 동일하게 안읽은 알림 개수도 함께 증가
+        return transactionTemplate.execute(status -> {
+            Notification notification = notificationRepository.save(Notification.create(member, null,
+                    testNotificationType, testNotificationType.getContent()));
+            memberRepository.increaseUnreadNotificationCount(member.getId());
+            return notification;
+        });
     }
 
 }
@@ -12,9 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -117,34 +115,21 @@ class BlockRepositoryTest extends RepositoryTestSupport {
 
     }
 
-    @DisplayName("회원 차단 여부 배치 조회")
+    @DisplayName("차단한 회원 id 목록 조회 시 deleted 상태인 차단 내역은 제외해야 한다.")
     @Test
-    void isBlockedBatch() {
+    void findBlockedMemberIds() {
         // given
-        List<Long> targetMemberIds = new ArrayList<>();
-
-        // 회원 9명이 나를 차단
-        List<Member> blockerMembers = new ArrayList<>();
-        for (int i = 1; i <= 9; i++) {
-            Member blocker = createMember("member" + i + "@gmail.com", "member" + i);
-            blockMember(blocker, member);
-            targetMemberIds.add(blocker.getId());
-            blockerMembers.add(blocker);
-        }
-
-        // 회원 1명 나를 차단하지 않음
-        Member notBlocker = createMember("notBlocked@gmail.com", "notBlocked");
-        targetMemberIds.add(notBlocker.getId());
+        Member blocked = createMember("blocked@gmail.com", "blocked");
+        Member unblocked = createMember("unblocked@gmail.com", "unblocked");
+        blockMember(blocker, blocked);
+        blockMember(blocker, unblocked).updateDeleted(true);
+        blockMember(blocked, blocker);
 
         // when
-        Map<Long, Boolean> blockedMap = blockRepository.isBlockedByTargetMembersBatch(targetMemberIds, member.getId());
+        List<Long> blockedMemberIds = blockRepository.findBlockedMemberIds(blocker.getId());
 
         // then
-        assertThat(blockedMap).hasSize(targetMemberIds.size());
-        for (Member blocker : blockerMembers) {
-            assertThat(blockedMap.get(blocker.getId())).isTrue();
-        }
-        assertThat(blockedMap.get(notBlocker.getId())).isFalse();
+        assertThat(blockedMemberIds).containsExactly(blocked.getId());
     }
 
     private Block blockMember(Member blocker, Member blocked) {
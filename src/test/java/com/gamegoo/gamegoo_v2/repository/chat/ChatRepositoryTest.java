@@ -22,7 +22,6 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -91,6 +90,49 @@ public class ChatRepositoryTest extends RepositoryTestSupport {
             assertThat(chats.get(29).getContents()).isEqualTo("message 30");
         }
 
+        @DisplayName("읽지 않은 메시지가 최대 개수보다 많은 경우, 가장 최근의 안읽은 메시지를 최대 개수만큼 반환한다.")
+        @Test
+        void findRecentChatsWithUnreadMessagesOverMaxWindow() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime lastViewDate = now.minusMinutes(5);
+            LocalDateTime lastJoinDate = now.minusMinutes(10);
+            createMemberChatroom(member, chatroom, lastViewDate, lastJoinDate);
+            createMemberChatroom(targetMember, chatroom);
+
+            for (int i = 1; i <= 120; i++) {
+                createChat(member, "message " + i, chatroom);
+            }
+
+            // when
+            Slice<Chat> chatSlice = chatRepository.findRecentChats(chatroom.getId(), member.getId(), PAGE_SIZE);
+
+            // then
+            List<Chat> chats = chatSlice.getContent();
+            assertThat(chats).hasSize(100);
+            assertThat(chatSlice.hasNext()).isTrue();
+            assertThat(chats.get(0).getContents()).isEqualTo("message 21");
+            assertThat(chats.get(99).getContents()).isEqualTo("message 120");
+        }
+
+        @DisplayName("채팅방을 나간 상태인 경우 빈 Slice를 반환한다.")
+        @Test
+        void findRecentChatsWhenExited() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            createMemberChatroom(member, chatroom, now.minusMinutes(5), null);
+            createMemberChatroom(targetMember, chatroom);
+
+            createChat(member, "message", chatroom);
+
+            // when
+            Slice<Chat> chatSlice = chatRepository.findRecentChats(chatroom.getId(), member.getId(), PAGE_SIZE);
+
+            // then
+            assertThat(chatSlice).isEmpty();
+            assertThat(chatSlice.hasNext()).isFalse();
+        }
+
         @DisplayName("읽지 않은 메시지가 pageSize 보다 적은 경우, 최근 메시지가 pageSize 만큼 정렬되어 반환한다.")
         @Test
         void findRecentChats() {
@@ -361,39 +403,6 @@ public class ChatRepositoryTest extends RepositoryTestSupport {
 
     }
 
-    @DisplayName("안읽은 메시지 개수 배치 조회")
-    @Test
-    void countUnreadChatsBatch() {
-        // given
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime lastJoinDate = now.minusDays(1);
-
-        // chatroom1 및 메시지 생성
-        Chatroom chatroom1 = createChatroom();
-        createMemberChatroom(member, chatroom1, now, lastJoinDate);
-        createMemberChatroom(targetMember, chatroom1, now, lastJoinDate);
-
-        createChatWithCreatedAt(targetMember, "old message", chatroom1, now.plusMinutes(20));
-        createChatWithCreatedAt(targetMember, "old message", chatroom1, now.plusMinutes(20).plusSeconds(1));
-        createChatWithCreatedAt(targetMember, "old message", chatroom1, now.plusMinutes(20).plusSeconds(2));
-
-        // chatroom2 생성
-        Member targetMember2 = createMember("targetMember2@gmail.com", "targetMember2");
-        Chatroom chatroom2 = createChatroom();
-        createMemberChatroom(member, chatroom2);
-        createMemberChatroom(targetMember2, chatroom2);
-
-        List<Long> chatroomIds = List.of(chatroom1.getId(), chatroom2.getId());
-
-        // when
-        Map<Long, Integer> unreadCountMap = chatRepository.countUnreadChatsBatch(chatroomIds, member.getId());
-
-        // then
-        assertThat(unreadCountMap).hasSize(2);
-        assertThat(unreadCountMap.get(chatroom1.getId())).isEqualTo(3);
-        assertThat(unreadCountMap.get(chatroom2.getId())).isEqualTo(0);
-    }
-
     private Chatroom createChatroom() {
         return em.persist(Chatroom.builder()
                 .uuid(UUID.randomUUID().toString())
@@ -2,8 +2,12 @@ package com.gamegoo.gamegoo_v2.repository.chat;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.chat.domain.Chat;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomCursor;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomSummary;
 import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
+import com.gamegoo.gamegoo_v2.chat.repository.ChatRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.MemberChatroomRepository;
 import com.gamegoo.gamegoo_v2.repository.RepositoryTestSupport;
@@ -13,8 +17,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,6 +29,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class ChatroomRepositoryTest extends RepositoryTestSupport {
 
+    @Autowired
+    private ChatRepository chatRepository;
+
     @Autowired
     private ChatroomRepository chatroomRepository;
 
@@ -41,6 +50,7 @@ public class ChatroomRepositoryTest extends RepositoryTestSupport {
 
     @AfterEach
     void tearDown() {
+        chatRepository.deleteAllInBatch();
         memberChatroomRepository.deleteAllInBatch();
         chatroomRepository.deleteAllInBatch();
         memberRepository.deleteAllInBatch();
@@ -117,6 +127,122 @@ public class ChatroomRepositoryTest extends RepositoryTestSupport {
 
     }
 
+    @Nested
+    @DisplayName("채팅방 목록 projection 조회")
+    class FindChatroomSummariesTest {
+
+        @DisplayName("입장한 채팅방만 마지막 메시지 시각, 없는 경우 입장 시각 기준 최신순으로 반환한다.")
+        @Test
+        void findChatroomSummariesSucceeds() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+
+            // 마지막 메시지가 있는 채팅방
+            Chatroom chatroomWithChat = createChatroom();
+            createMemberChatroom(member, chatroomWithChat, now.minusHours(2));
+            createMemberChatroom(targetMember, chatroomWithChat, now.minusHours(2));
+            memberChatroomRepository.increaseTargetUnreadCount(chatroomWithChat.getId(), targetMember.getId(), 3);
+            Chat chat = em.persist(Chat.builder()
+                    .contents("message")
+                    .chatroom(chatroomWithChat)
+                    .fromMember(targetMember)
+                    .timestamp(1000L)
+                    .build());
+            chatroomWithChat.updateLastChatId(chat.getId());
+            chatroomWithChat.updateLastChatAt(now.minusHours(1));
+            memberChatroomRepository.updateLastActivityAt(chatroomWithChat.getId(), now.minusHours(1));
+
+            // 메시지 없이 더 최근에 입장한 채팅방
+            Chatroom chatroomWithoutChat = createChatroom();
+            createMemberChatroom(member, chatroomWithoutChat, now);
+            createMemberChatroom(targetMember, chatroomWithoutChat, null);
+
+            // 나간 채팅방
+            Chatroom exitedChatroom = createChatroom();
+            createMemberChatroom(member, exitedChatroom, null);
+            createMemberChatroom(targetMember, exitedChatroom, now);
+
+            // when
+            List<ChatroomSummary> result = chatroomRepository.findChatroomSummariesByCursor(member.getId(), null, 20)
+                    .getContent();
+
+            // then
+            assertThat(result).extracting(ChatroomSummary::chatroomId)
+                    .containsExactly(chatroomWithoutChat.getId(), chatroomWithChat.getId());
+
+            ChatroomSummary withoutChat = result.get(0);
+            assertThat(withoutChat.targetMemberId()).isEqualTo(targetMember.getId());
+            assertThat(withoutChat.lastChatContents()).isNull();
+            assertThat(withoutChat.lastChatTimestamp()).isNull();
+
+            ChatroomSummary withChat = result.get(1);
+            assertThat(withChat.uuid()).isEqualTo(chatroomWithChat.getUuid());
+            assertThat(withChat.unreadCount()).isEqualTo(3);
+            assertThat(withChat.targetMemberName()).isEqualTo(targetMember.getGameName());
+            assertThat(withChat.lastChatContents()).isEqualTo("message");
+            assertThat(withChat.lastChatTimestamp()).isEqualTo(1000L);
+        }
+
+        @DisplayName("cursor 이후의 채팅방을 pageSize 만큼 반환한다.")
+        @Test
+        void findChatroomSummariesByCursorSucceeds() {
+            // given
+            List<Long> chatroomIds = createChatroomsWithLastChat(5);
+
+            // when
+            Slice<ChatroomSummary> firstPage = chatroomRepository.findChatroomSummariesByCursor(member.getId(),
+                    null, 3);
+            Slice<ChatroomSummary> secondPage = chatroomRepository.findChatroomSummariesByCursor(member.getId(),
+                    ChatroomCursor.from(firstPage.getContent().get(2)), 3);
+
+            // then
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(firstPage.getContent()).extracting(ChatroomSummary::chatroomId)
+                    .containsExactlyElementsOf(chatroomIds.subList(0, 3));
+
+            assertThat(secondPage.hasNext()).isFalse();
+            assertThat(secondPage.getContent()).extracting(ChatroomSummary::chatroomId)
+                    .containsExactlyElementsOf(chatroomIds.subList(3, 5));
+        }
+
+        @DisplayName("cursor 채팅방에 새 메시지가 와도 다음 페이지는 cursor의 정렬 키 기준으로 반환한다.")
+        @Test
+        void findChatroomSummariesByCursorWhenCursorChatroomUpdated() {
+            // given
+            List<Long> chatroomIds = createChatroomsWithLastChat(5);
+            Slice<ChatroomSummary> firstPage = chatroomRepository.findChatroomSummariesByCursor(member.getId(),
+                    null, 3);
+            ChatroomCursor cursor = ChatroomCursor.from(firstPage.getContent().get(2));
+
+            // 첫 페이지 조회 이후 cursor 채팅방에 새 메시지 전송
+            memberChatroomRepository.updateLastActivityAt(cursor.chatroomId(), LocalDateTime.now().plusMinutes(1));
+
+            // when
+            Slice<ChatroomSummary> secondPage = chatroomRepository.findChatroomSummariesByCursor(member.getId(),
+                    cursor, 3);
+
+            // then
+            assertThat(secondPage.hasNext()).isFalse();
+            assertThat(secondPage.getContent()).extracting(ChatroomSummary::chatroomId)
+                    .containsExactlyElementsOf(chatroomIds.subList(3, 5));
+        }
+
+    }
+
+    private List<Long> createChatroomsWithLastChat(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> chatroomIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Chatroom chatroom = createChatroom();
+            createMemberChatroom(member, chatroom, now.minusDays(1));
+            createMemberChatroom(targetMember, chatroom, now.minusDays(1));
+            chatroom.updateLastChatAt(now.minusMinutes(i));
+            memberChatroomRepository.updateLastActivityAt(chatroom.getId(), now.minusMinutes(i));
+            chatroomIds.add(chatroom.getId());
+        }
+        return chatroomIds;
+    }
+
     private Chatroom createChatroom() {
         return em.persist(Chatroom.builder()
                 .uuid(UUID.randomUUID().toString())
@@ -2,18 +2,22 @@ package com.gamegoo.gamegoo_v2.repository.chat;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.chat.domain.Chat;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
 import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
+import com.gamegoo.gamegoo_v2.chat.repository.ChatRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.MemberChatroomRepository;
 import com.gamegoo.gamegoo_v2.repository.RepositoryTestSupport;
+import com.gamegoo.gamegoo_v2.social.block.domain.Block;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -21,6 +25,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class MemberChatroomRepositoryTest extends RepositoryTestSupport {
 
+    @Autowired
+    private ChatRepository chatRepository;
+
     @Autowired
     private ChatroomRepository chatroomRepository;
 
@@ -32,36 +39,93 @@ public class MemberChatroomRepositoryTest extends RepositoryTestSupport {
 
     @AfterEach
     void tearDown() {
+        chatRepository.deleteAllInBatch();
         memberChatroomRepository.deleteAllInBatch();
         chatroomRepository.deleteAllInBatch();
         memberRepository.deleteAllInBatch();
     }
 
-    @DisplayName("채팅 상대 회원 배치 조회")
+    @DisplayName("채팅방 uuid로 두 회원의 MemberChatroom과 차단 여부 조회")
     @Test
-    void findTargetMembersBatch() {
+    void findMemberChatroomsWithBlockedByUuid() {
         // given
-        List<Long> chatroomIds = new ArrayList<>();
-        List<Member> targetMembers = new ArrayList<>();
-
-        for (int i = 0; i < 3; i++) {
-            Member targetMember = createMember("targetMember" + i + "@gmail.com", "targetMember" + i);
-            Chatroom chatroom = createChatroom();
-            createMemberChatroom(member, chatroom);
-            createMemberChatroom(targetMember, chatroom);
-            chatroomIds.add(chatroom.getId());
-            targetMembers.add(targetMember);
-        }
+        Member targetMember = createMember("targetMember@gmail.com", "targetMember");
+        Chatroom chatroom = createChatroom();
+        MemberChatroom memberChatroom = createMemberChatroom(member, chatroom);
+        MemberChatroom targetMemberChatroom = createMemberChatroom(targetMember, chatroom);
+
+        // 상대 회원만 회원을 차단, 회원이 상대 회원을 차단했다가 해제
+        em.persist(Block.create(targetMember, member));
+        Block deletedBlock = em.persist(Block.create(member, targetMember));
+        deletedBlock.updateDeleted(true);
+
+        // 다른 채팅방의 회원 차단은 포함되지 않음
+        Member otherMember = createMember("otherMember@gmail.com", "otherMember");
+        em.persist(Block.create(member, otherMember));
+        em.flush();
+        em.clear();
 
         // when
-        Map<Long, Member> targetMemberMap = memberChatroomRepository.findTargetMembersBatch(chatroomIds,
-                member.getId());
+        Map<MemberChatroom, Boolean> result =
+                memberChatroomRepository.findMemberChatroomsWithBlockedByUuid(chatroom.getUuid());
 
         // then
-        assertThat(targetMemberMap).hasSize(chatroomIds.size());
-        for (Member targetMember : targetMembers) {
-            assertThat(targetMember).isIn(targetMemberMap.values());
+        assertThat(result).hasSize(2);
+        Map<Long, Boolean> blockedById = new HashMap<>();
+        result.forEach((mc, blocked) -> blockedById.put(mc.getId(), blocked));
+        assertThat(blockedById.get(memberChatroom.getId())).isFalse();
+        assertThat(blockedById.get(targetMemberChatroom.getId())).isTrue();
+    }
+
+    @DisplayName("안읽은 메시지 개수 재계산")
+    @Test
+    void rebuildUnreadCounts() {
+        // given
+        Member targetMember = createMember("targetMember@gmail.com", "targetMember");
+        Chatroom chatroom = createChatroom();
+        MemberChatroom memberChatroom = createMemberChatroom(member, chatroom, null,
+                LocalDateTime.now().minusDays(1));
+        MemberChatroom targetMemberChatroom = createMemberChatroom(targetMember, chatroom);
+
+        for (int i = 1; i <= 3; i++) {
+            createChat(targetMember, "message " + i, chatroom);
         }
+
+        // when
+        int updated = memberChatroomRepository.rebuildUnreadCounts(memberChatroom.getId(),
+                targetMemberChatroom.getId());
+        em.clear();
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(memberChatroomRepository.findById(memberChatroom.getId()).orElseThrow().getUnreadCount())
+                .isEqualTo(3);
+        assertThat(memberChatroomRepository.findById(targetMemberChatroom.getId()).orElseThrow().getUnreadCount())
+                .isEqualTo(0);
+    }
+
+    @DisplayName("상대 회원의 안읽은 메시지 개수 증가 및 회원의 안읽은 메시지 개수 초기화")
+    @Test
+    void increaseTargetUnreadCountAndResetUnreadCount() {
+        // given
+        Member targetMember = createMember("targetMember@gmail.com", "targetMember");
+        Chatroom chatroom = createChatroom();
+        MemberChatroom memberChatroom = createMemberChatroom(member, chatroom);
+        MemberChatroom targetMemberChatroom = createMemberChatroom(targetMember, chatroom);
+
+        // when
+        int increased = memberChatroomRepository.increaseTargetUnreadCount(chatroom.getId(), member.getId(), 2);
+        memberChatroomRepository.increaseTargetUnreadCount(chatroom.getId(), targetMember.getId(), 1);
+        int reset = memberChatroomRepository.resetUnreadCount(chatroom.getId(), targetMember.getId());
+        em.clear();
+
+        // then
+        assertThat(increased).isEqualTo(1);
+        assertThat(reset).isEqualTo(1);
+        assertThat(memberChatroomRepository.findById(memberChatroom.getId()).orElseThrow().getUnreadCount())
+                .isEqualTo(1);
+        assertThat(memberChatroomRepository.findById(targetMemberChatroom.getId()).orElseThrow().getUnreadCount())
+                .isEqualTo(0);
     }
 
     private Chatroom createChatroom() {
@@ -71,11 +135,28 @@ public class MemberChatroomRepositoryTest extends RepositoryTestSupport {
     }
 
     private MemberChatroom createMemberChatroom(Member member, Chatroom chatroom) {
+        return createMemberChatroom(member, chatroom, null, null);
+    }
+
+    private MemberChatroom createMemberChatroom(Member member, Chatroom chatroom, LocalDateTime lastViewDate,
+                                                LocalDateTime lastJoinDate) {
         return em.persist(MemberChatroom.builder()
                 .chatroom(chatroom)
                 .member(member)
-                .lastViewDate(null)
-                .lastJoinDate(null)
+                .lastViewDate(lastViewDate)
+                .lastJoinDate(lastJoinDate)
+                .build());
+    }
+
+    private Chat createChat(Member fromMember, String contents, Chatroom chatroom) {
+        return em.persist(Chat.builder()
+                .contents(contents)
+                .systemType(null)
+                .chatroom(chatroom)
+                .fromMember(fromMember)
+                .toMember(null)
+                .sourceBoard(null)
+                .timestamp(Instant.now().toEpochMilli())
                 .build());
     }
 
@@ -2,7 +2,10 @@ package com.gamegoo.gamegoo_v2.repository.friend;
 
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.repository.RepositoryTestSupport;
+import com.gamegoo.gamegoo_v2.social.block.domain.Block;
 import com.gamegoo.gamegoo_v2.social.friend.domain.Friend;
+import com.gamegoo.gamegoo_v2.social.friend.domain.FriendRequest;
+import com.gamegoo.gamegoo_v2.social.friend.domain.RelationshipStatus;
 import com.gamegoo.gamegoo_v2.social.friend.repository.FriendRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -150,78 +153,53 @@ class FriendRepositoryTest extends RepositoryTestSupport {
 
     }
 
-    @Nested
-    @DisplayName("소환사명으로 친구 검색")
-    class FindFriendsByQueryStringTest {
-
-        @DisplayName("소환사명으로 친구 검색: 검색 결과가 없는 경우 빈 리스트를 반환해야 한다.")
-        @Test
-        void findFriendsByQueryStringSucceedsNoResult() {
-            // given
-            String query = "targetMember";
-
-            // when
-            List<Friend> friendList = friendRepository.findFriendsByQueryString(member.getId(), query);
+    @DisplayName("친구, 친구 요청, 차단 관계 배치 조회")
+    @Test
+    void findRelationshipStatuses() {
+        // given
+        Member friend = createMember("friend@gmail.com", "friend");
+        createFriend(member, friend);
 
-            // then
-            assertThat(friendList).isEmpty();
-        }
+        // 내가 친구 요청을 보내고 상대를 차단한 회원
+        Member requested = createMember("requested@gmail.com", "requested");
+        em.persist(FriendRequest.create(member, requested));
+        em.persist(Block.create(member, requested));
 
-        @DisplayName("소환사명으로 친구 검색 성공: 검색한 결과가 있는 경우 결과 리스트를 반환해야 한다.")
-        @Test
-        void findFriendsByQueryStringSucceeds() {
-            // given
-            Member targetMember1 = createMember("targetMember1@gmail.com", "targetMember");
-            Member targetMember2 = createMember("targetMember2@gmail.com", "target");
-            Member targetMember3 = createMember("targetMember@gmail.com", "target3");
-            Member targetMember4 = createMember("targetMember@gmail.com", "t");
-            Member targetMember5 = createMember("targetMember@gmail.com", "TARGET");
+        // 나에게 친구 요청을 보내고 나를 차단한 회원
+        Member requester = createMember("requester@gmail.com", "requester");
+        em.persist(FriendRequest.create(requester, member));
+        em.persist(Block.create(requester, member));
 
-            createFriend(member, targetMember1);
-            createFriend(member, targetMember2);
-            createFriend(member, targetMember3);
-            createFriend(member, targetMember4);
-            createFriend(member, targetMember5);
+        // 관계가 없는 회원
+        Member stranger = createMember("stranger@gmail.com", "stranger");
 
-            String query = "target";
+        List<Long> targetMemberIds = List.of(friend.getId(), requested.getId(), requester.getId(),
+                stranger.getId());
 
-            // when
-            List<Friend> friendList = friendRepository.findFriendsByQueryString(member.getId(), query);
-
-            // then
-            assertThat(friendList).hasSize(3);
-        }
+        // when
+        Map<Long, RelationshipStatus> statusMap = friendRepository.findRelationshipStatuses(member.getId(),
+                targetMemberIds);
 
-    }
+        // then
+        assertThat(statusMap).hasSize(targetMemberIds.size());
 
-    @DisplayName("친구 여부 배치 조회")
-    @Test
-    void isFriendBatch() {
-        // given
-        List<Long> targetMemberIds = new ArrayList<>();
-
-        // 친구 회원 9명 생성
-        List<Member> friendMembers = new ArrayList<>();
-        for (int i = 1; i <= 9; i++) {
-            Member toMember = createMember("member" + i + "@gmail.com", "member" + i);
-            createFriend(member, toMember);
-            friendMembers.add(toMember);
-            targetMemberIds.add(toMember.getId());
-        }
+        RelationshipStatus friendStatus = statusMap.get(friend.getId());
+        assertThat(friendStatus.isFriend()).isTrue();
+        assertThat(friendStatus.getFriendRequestMemberId()).isNull();
+        assertThat(friendStatus.isBlocked()).isFalse();
 
-        // 친구가 아닌 회원 1명 생성
-        Member notFriend = createMember("member10@gmail.com", "member10");
-        targetMemberIds.add(notFriend.getId());
+        RelationshipStatus requestedStatus = statusMap.get(requested.getId());
+        assertThat(requestedStatus.isFriend()).isFalse();
+        assertThat(requestedStatus.getFriendRequestMemberId()).isEqualTo(member.getId());
+        assertThat(requestedStatus.isBlocked()).isTrue();
+        assertThat(requestedStatus.isBlockedByTarget()).isFalse();
 
-        // when
-        Map<Long, Boolean> friendMap = friendRepository.isFriendBatch(member.getId(), targetMemberIds);
+        RelationshipStatus requesterStatus = statusMap.get(requester.getId());
+        assertThat(requesterStatus.getFriendRequestMemberId()).isEqualTo(requester.getId());
+        assertThat(requesterStatus.isBlocked()).isFalse();
+        assertThat(requesterStatus.isBlockedByTarget()).isTrue();
 
-        // then
-        assertThat(friendMap).hasSize(targetMemberIds.size());
-        for (Member friend : friendMembers) {
-            assertThat(friendMap.get(friend.getId())).isTrue();
-        }
-        assertThat(friendMap.get(notFriend.getId())).isFalse();
+        assertThat(statusMap.get(stranger.getId()).flags()).isZero();
     }
 
     private Friend createFriend(Member fromMember, Member toMember) {
@@ -0,0 +1,89 @@
+package com.gamegoo.gamegoo_v2.repository.riot;
+
+import com.gamegoo.gamegoo_v2.external.riot.domain.MatchParticipant;
+import com.gamegoo.gamegoo_v2.external.riot.domain.RiotMatchSummary;
+import com.gamegoo.gamegoo_v2.external.riot.repository.RiotMatchSummaryJdbcRepository;
+import com.gamegoo.gamegoo_v2.external.riot.repository.RiotMatchSummaryRepository;
+import com.gamegoo.gamegoo_v2.repository.RepositoryTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(RiotMatchSummaryJdbcRepository.class)
+class RiotMatchSummaryRepositoryTest extends RepositoryTestSupport {
+
+    @Autowired
+    private RiotMatchSummaryRepository riotMatchSummaryRepository;
+
+    @Autowired
+    private RiotMatchSummaryJdbcRepository riotMatchSummaryJdbcRepository;
+
+    @DisplayName("매칭 ID 목록으로 저장된 매칭 요약 정보를 참가자 정보와 함께 조회할 수 있다.")
+    @Test
+    void findAllByMatchIdIn() {
+        // given
+        riotMatchSummaryRepository.save(RiotMatchSummary.create("KR_1", List.of(
+                new MatchParticipant("puuid1", "member1", 1L),
+                new MatchParticipant("puuid2", "member2", 2L))));
+        riotMatchSummaryRepository.save(RiotMatchSummary.create("KR_2", List.of(
+                new MatchParticipant("puuid1", "member1", 3L))));
+        em.flush();
+        em.clear();
+
+        // when
+        List<RiotMatchSummary> result = riotMatchSummaryRepository.findAllByMatchIdIn(List.of("KR_1", "KR_3"));
+
+        // then
+        assertThat(result).hasSize(1);
+        RiotMatchSummary summary = result.get(0);
+        assertThat(summary.getParticipants()).hasSize(2);
+        assertThat(summary.findChampionId("puuid2", "other")).contains(2L);
+        assertThat(summary.findChampionId(null, "member1")).contains(1L);
+        assertThat(summary.findChampionId("unknown", "unknown")).isEmpty();
+    }
+
+    @DisplayName("기준 id 이하의 매칭 요약 정보를 삭제할 수 있다.")
+    @Test
+    void deleteAllByIdLessThanEqual() {
+        // given
+        RiotMatchSummary oldSummary = riotMatchSummaryRepository.save(RiotMatchSummary.create("KR_1", List.of()));
+        riotMatchSummaryRepository.save(RiotMatchSummary.create("KR_2", List.of()));
+
+        // when
+        int deleted = riotMatchSummaryRepository.deleteAllByIdLessThanEqual(oldSummary.getId());
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(riotMatchSummaryRepository.findAll())
+                .extracting(RiotMatchSummary::getMatchId)
+                .containsExactly("KR_2");
+    }
+
+    @DisplayName("매칭 요약 정보 목록을 한 번에 저장하고, 이미 저장된 매칭은 건너뛴다.")
+    @Test
+    void saveAllIgnoringDuplicates() {
+        // given
+        riotMatchSummaryRepository.save(RiotMatchSummary.create("KR_1", List.of()));
+        em.flush();
+        em.clear();
+
+        // when
+        int saved = riotMatchSummaryJdbcRepository.saveAllIgnoringDuplicates(List.of(
+                RiotMatchSummary.create("KR_1", List.of()),
+                RiotMatchSummary.create("KR_2", List.of(new MatchParticipant("puuid1", "member1", 1L)))));
+
+        // then
+        assertThat(saved).isEqualTo(1);
+        List<RiotMatchSummary> result = riotMatchSummaryRepository.findAllByMatchIdIn(List.of("KR_1", "KR_2"));
+        assertThat(result).extracting(RiotMatchSummary::getMatchId).containsExactlyInAnyOrder("KR_1", "KR_2");
+        assertThat(result).filteredOn(summary -> summary.getMatchId().equals("KR_2"))
+                .singleElement()
+                .satisfies(summary -> assertThat(summary.findChampionId("puuid1", "member1")).contains(1L));
+    }
+
+}
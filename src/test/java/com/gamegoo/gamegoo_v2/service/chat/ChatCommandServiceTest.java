@@ -5,20 +5,26 @@ import com.gamegoo.gamegoo_v2.account.member.domain.Member;
 import com.gamegoo.gamegoo_v2.account.member.domain.Tier;
 import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
+import com.gamegoo.gamegoo_v2.chat.domain.ChatSendContext;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
 import com.gamegoo.gamegoo_v2.chat.domain.MemberChatroom;
 import com.gamegoo.gamegoo_v2.chat.domain.SystemMessageType;
+import com.gamegoo.gamegoo_v2.chat.dto.request.ChatCreateRequest;
 import com.gamegoo.gamegoo_v2.chat.dto.request.SystemFlagRequest;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.ChatroomRepository;
 import com.gamegoo.gamegoo_v2.chat.repository.MemberChatroomRepository;
 import com.gamegoo.gamegoo_v2.chat.service.ChatCommandService;
+import com.gamegoo.gamegoo_v2.chat.service.SystemMemberProvider;
 import com.gamegoo.gamegoo_v2.content.board.domain.Board;
 import com.gamegoo.gamegoo_v2.content.board.repository.BoardRepository;
 import com.gamegoo.gamegoo_v2.core.config.AsyncConfig;
 import com.gamegoo.gamegoo_v2.core.exception.ChatException;
 import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
 import com.gamegoo.gamegoo_v2.external.socket.SocketService;
+import com.gamegoo.gamegoo_v2.external.socket.dto.SocketJoinRequest;
+import com.gamegoo.gamegoo_v2.external.socket.repository.SocketJoinOutboxRepository;
+import com.gamegoo.gamegoo_v2.external.socket.scheduler.SocketJoinOutboxRelay;
 import com.gamegoo.gamegoo_v2.social.block.domain.Block;
 import com.gamegoo.gamegoo_v2.social.block.repository.BlockRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -26,27 +32,25 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
-import static org.awaitility.Awaitility.await;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 
 @ActiveProfiles("test")
@@ -75,9 +79,21 @@ class ChatCommandServiceTest {
     @MockitoSpyBean
     private MemberRepository memberRepository;
 
+    @MockitoSpyBean
+    private SystemMemberProvider systemMemberProvider;
+
+    @Autowired
+    private SocketJoinOutboxRepository socketJoinOutboxRepository;
+
+    @Autowired
+    private SocketJoinOutboxRelay socketJoinOutboxRelay;
+
     @MockitoBean
     private SocketService socketService;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private Member member;
     private Member targetMember;
 
@@ -95,6 +111,7 @@ class ChatCommandServiceTest {
         blockRepository.deleteAllInBatch();
         boardRepository.deleteAllInBatch();
         memberRepository.deleteAllInBatch();
+        socketJoinOutboxRepository.deleteAllInBatch();
     }
 
     @Nested
@@ -226,193 +243,87 @@ class ChatCommandServiceTest {
     }
 
     @Nested
-    @DisplayName("시스템 메시지 생성")
-    class CreateSystemChatTest {
+    @DisplayName("채팅 전송")
+    class CreateChatTest {
 
         @DisplayName("실패: 해당 게시글을 찾을 수 없는 경우 예외가 발생한다.")
         @Test
-        void createSystemChat_shouldThrownWhenBoardNotFound() {
+        void createChat_shouldThrownWhenBoardNotFound() {
             // given
             Chatroom chatroom = createChatroom();
             createMemberChatroom(member, chatroom, null);
             createMemberChatroom(targetMember, chatroom, null);
 
-            SystemFlagRequest request = SystemFlagRequest.builder()
-                    .boardId(10000L)
-                    .flag(1)
-                    .build();
+            ChatCreateRequest request = createChatRequest(10000L);
 
             // when // then
-            assertThatThrownBy(() -> chatCommandService.createSystemChat(request, member, targetMember, chatroom))
+            assertThatThrownBy(() -> sendChat(chatroom, request))
                     .isInstanceOf(ChatException.class)
                     .hasMessage(ErrorCode.ADD_BOARD_SYSTEM_CHAT_FAILED.getMessage());
         }
 
         @DisplayName("실패: system member를 찾을 수 없는 경우 예외가 발생한다.")
         @Test
-        void createSystemChat_shouldThrownWhenSystemMemberIsNotFound() {
+        void createChat_shouldThrownWhenSystemMemberIsNotFound() {
             // given
             Chatroom chatroom = createChatroom();
             createMemberChatroom(member, chatroom, null);
             createMemberChatroom(targetMember, chatroom, null);
 
             Board board = createBoard(targetMember);
-
-            SystemFlagRequest request = SystemFlagRequest.builder()
-                    .boardId(board.getId())
-                    .flag(1)
-                    .build();
+            ChatCreateRequest request = createChatRequest(board.getId());
 
             // when // then
-            assertThatThrownBy(() -> chatCommandService.createSystemChat(request, member, targetMember, chatroom))
+            assertThatThrownBy(() -> sendChat(chatroom, request))
                     .isInstanceOf(ChatException.class)
                     .hasMessage(ErrorCode.SYSTEM_MEMBER_NOT_FOUND.getMessage());
         }
 
-        @DisplayName("성공: 새로운 시스템 메시지가 생성 및 저장되어야 한다.")
+        @DisplayName("성공: 시스템 메시지가 저장되고, 상대 회원의 안읽은 메시지 개수만 증가해야 한다.")
         @Test
-        void createSystemChatSucceeds() {
+        void createChatSucceedsWithSystemChat() {
             // given
             Member systemMember = createMember("sytemMember@gmail.com", "systemMember");
-            given(memberRepository.findById(0L)).willReturn(Optional.of(systemMember));
+            given(systemMemberProvider.getSystemMember()).willReturn(systemMember);
 
             Chatroom chatroom = createChatroom();
             createMemberChatroom(member, chatroom, null);
             createMemberChatroom(targetMember, chatroom, null);
 
             Board board = createBoard(targetMember);
-
-            SystemFlagRequest request = SystemFlagRequest.builder()
-                    .boardId(board.getId())
-                    .flag(1)
-                    .build();
+            ChatCreateRequest request = createChatRequest(board.getId());
 
             // when
-            List<Chat> chats = chatCommandService.createSystemChat(request, member, targetMember, chatroom);
+            sendChat(chatroom, request);
 
             // then
             // 시스템 메시지가 저장 되었는지 검증
             List<Chat> systemMessages = chatRepository.findByChatroomIdAndFromMemberId(chatroom.getId(),
                     systemMember.getId());
-            assertThat(systemMessages).hasSize(2);
-
-            Chat memberSystemMessage = chats.get(0);
-            Chat targetSystemMessage = chats.get(1);
-            assertThat(memberSystemMessage.getContents()).isEqualTo(SystemMessageType.of(1).getMessage());
-            assertThat(targetSystemMessage.getContents()).isEqualTo(SystemMessageType.of(3).getMessage());
-        }
-
-    }
-
-    @Nested
-    @DisplayName("lastViewDate 업데이트")
-    class UpdateLastViewDateTest {
-
-        @DisplayName("성공: lastViewDate가 변경되어야 한다.")
-        @Test
-        void updateLastViewDateSucceeds() {
-            // given
-            Chatroom chatroom = createChatroom();
-            LocalDateTime lastJoinDate = LocalDateTime.now().minusMinutes(10);
-            createMemberChatroom(member, chatroom, lastJoinDate);
-            createMemberChatroom(targetMember, chatroom, lastJoinDate);
-
-            Chat chat = createChat(member, "message", chatroom);
-
-            // when
-            MemberChatroom memberChatroom = chatCommandService.updateLastViewDate(member, chatroom,
-                    chat.getCreatedAt());
-
-            // then
-            assertThat(memberChatroom.getLastViewDate()).isNotNull();
-            assertThat(memberChatroom.getLastViewDate()).isCloseTo(chat.getCreatedAt(), within(1, ChronoUnit.SECONDS));
-            assertThat(memberChatroom.getLastJoinDate()).isCloseTo(lastJoinDate, within(1, ChronoUnit.SECONDS));
-        }
-
-    }
-
-    @Nested
-    @DisplayName("두 회원의 lastJoinDate 업데이트")
-    class UpdateLastJoinDatesTest {
-
-        @DisplayName("성공: member와 targetMember의 기존 lastJoinDate가 null인 경우, 두 lastJoinDate 모두 업데이트 되어야 한다.")
-        @Test
-        void updateLastJoinDatesSucceedsWhenLastJoinDatesAreNull() {
-            // given
-            Chatroom chatroom = createChatroom();
-            createMemberChatroom(member, chatroom, null);
-            createMemberChatroom(targetMember, chatroom, null);
-
-            LocalDateTime updateDate = LocalDateTime.now().plusMinutes(10);
-
-            // when
-            chatCommandService.updateLastJoinDates(member, targetMember, updateDate, updateDate, chatroom);
-
-            // then
-            // lastJoinDate 업데이트 검증
-            MemberChatroom memberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(),
-                    chatroom.getId()).orElseThrow();
-            MemberChatroom targetMemberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(
-                    targetMember.getId(), chatroom.getId()).orElseThrow();
-            assertThat(memberChatroom.getLastJoinDate()).isNotNull();
-            assertThat(memberChatroom.getLastJoinDate()).isCloseTo(updateDate, within(1, ChronoUnit.SECONDS));
-            assertThat(targetMemberChatroom.getLastJoinDate()).isNotNull();
-            assertThat(targetMemberChatroom.getLastJoinDate()).isCloseTo(updateDate, within(1, ChronoUnit.SECONDS));
-
-            // event 발생 여부 검증
-            await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
-                verify(socketService, times(2)).joinSocketToChatroom(any(Long.class), any(String.class));
-            });
-        }
-
-        @DisplayName("성공: member의 lastJoinDate만 null인 경우, member의 lastJoinDate만 업데이트 되어야 한다.")
-        @Test
-        void updateLastJoinDatesSucceedsWhenMemberLastJoinDateIsNull() {
-            // given
-            LocalDateTime now = LocalDateTime.now();
-            Chatroom chatroom = createChatroom();
-            createMemberChatroom(member, chatroom, null);
-            createMemberChatroom(targetMember, chatroom, now);
-
-            LocalDateTime updateDate = now.plusMinutes(10);
+            assertThat(systemMessages).extracting(Chat::getContents)
+                    .containsExactlyInAnyOrder(SystemMessageType.of(1).getMessage(),
+                            SystemMessageType.of(3).getMessage());
 
-            // when
-            chatCommandService.updateLastJoinDates(member, targetMember, updateDate, updateDate, chatroom);
-
-            // then
-            // lastJoinDate 업데이트 검증
+            // 상대 회원은 채팅과 시스템 메시지만큼 증가하고, 회원은 읽음 처리 되었는지 검증
             MemberChatroom memberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(),
                     chatroom.getId()).orElseThrow();
             MemberChatroom targetMemberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(
                     targetMember.getId(), chatroom.getId()).orElseThrow();
-            assertThat(memberChatroom.getLastJoinDate()).isNotNull();
-            assertThat(memberChatroom.getLastJoinDate()).isCloseTo(updateDate, within(1, ChronoUnit.SECONDS));
-            assertThat(targetMemberChatroom.getLastJoinDate()).isCloseTo(now, within(1, ChronoUnit.SECONDS));
-
-            // event 발생 여부 검증
-            await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
-                verify(socketService, times(1)).joinSocketToChatroom(any(Long.class), any(String.class));
-            });
+            assertThat(memberChatroom.getUnreadCount()).isZero();
+            assertThat(targetMemberChatroom.getUnreadCount()).isEqualTo(2);
         }
 
-    }
-
-    @Nested
-    @DisplayName("새로운 채팅 등록 시 lastJoinDate, lastViewDate 업데이트")
-    class UpdateMemberChatroomDatesByAddChatTest {
-
         @DisplayName("성공: 두 회원의 lastJoinDate가 null인 경우 member의 lastViewDate가 업데이트 되어야 하고, 두 회원의 lastJoinDate가 업데이트 " +
                 "되어야 한다.")
         @Test
-        void updateMemberChatroomDatesByAddChatSucceedsWhenLastJoinDatesAreNull() {
+        void createChatSucceedsWhenLastJoinDatesAreNull() {
             // given
             Chatroom chatroom = createChatroom();
             createMemberChatroom(member, chatroom, null);
             createMemberChatroom(targetMember, chatroom, null);
-            Chat chat = createChat(member, "message", chatroom);
 
             // when
-            chatCommandService.updateMemberChatroomDatesByAddChat(member, targetMember, chat);
+            Chat chat = sendChat(chatroom, createChatRequest(null));
 
             // then
             MemberChatroom memberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(),
@@ -432,25 +343,27 @@ class ChatCommandServiceTest {
             assertThat(targetMemberChatroom.getLastJoinDate()).isNotNull();
             assertThat(targetMemberChatroom.getLastJoinDate()).isCloseTo(createdAt, within(1, ChronoUnit.SECONDS));
 
-            // event 발생 여부 검증
-            await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
-                verify(socketService, times(2)).joinSocketToChatroom(any(Long.class), any(String.class));
-            });
+            // 채팅방 목록 정렬 키 업데이트 검증
+            assertThat(memberChatroom.getLastActivityAt()).isCloseTo(createdAt, within(1, ChronoUnit.SECONDS));
+            assertThat(targetMemberChatroom.getLastActivityAt()).isCloseTo(createdAt, within(1, ChronoUnit.SECONDS));
+
+            // event로 저장된 socket join 요청이 socket 서버로 전송되는지 검증
+            socketJoinOutboxRelay.relay();
+            assertThat(relayedJoins(chatroom)).containsExactlyInAnyOrder(member.getId(), targetMember.getId());
         }
 
         @DisplayName("성공: targetMember의 lastJoinDate만 null인 경우, member의 lastViewDate와 targetMember의 lastJoinDate만 " +
                 "업데이트 되어야 한다.")
         @Test
-        void updateMemberChatroomDatesByAddChatSucceedsWhenTargetMemberLastJoinDateIsNull() {
+        void createChatSucceedsWhenTargetMemberLastJoinDateIsNull() {
             // given
             LocalDateTime now = LocalDateTime.now();
             Chatroom chatroom = createChatroom();
             createMemberChatroom(member, chatroom, now);
             createMemberChatroom(targetMember, chatroom, null);
-            Chat chat = createChat(member, "message", chatroom);
 
             // when
-            chatCommandService.updateMemberChatroomDatesByAddChat(member, targetMember, chat);
+            Chat chat = sendChat(chatroom, createChatRequest(null));
 
             // then
             MemberChatroom memberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(),
@@ -468,14 +381,104 @@ class ChatCommandServiceTest {
                     within(1, ChronoUnit.SECONDS));
             assertThat(memberChatroom.getLastJoinDate()).isCloseTo(now, within(1, ChronoUnit.SECONDS));
 
-            // event 발생 여부 검증
-            await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
-                verify(socketService, times(1)).joinSocketToChatroom(any(Long.class), any(String.class));
-            });
+            // event로 저장된 socket join 요청이 socket 서버로 전송되는지 검증
+            socketJoinOutboxRelay.relay();
+            assertThat(relayedJoins(chatroom)).containsExactly(targetMember.getId());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("lastViewDate 업데이트")
+    class UpdateLastViewDateTest {
+
+        @DisplayName("성공: lastViewDate가 변경되어야 한다.")
+        @Test
+        void updateLastViewDateSucceeds() {
+            // given
+            Chatroom chatroom = createChatroom();
+            LocalDateTime lastJoinDate = LocalDateTime.now().minusMinutes(10);
+            createMemberChatroom(member, chatroom, lastJoinDate);
+            createMemberChatroom(targetMember, chatroom, lastJoinDate);
+
+            Chat chat = createChat(member, "message", chatroom);
+
+            // when
+            MemberChatroom memberChatroom = chatCommandService.updateLastViewDate(member, chatroom,
+                    chat.getCreatedAt());
+
+            // then
+            assertThat(memberChatroom.getLastViewDate()).isNotNull();
+            assertThat(memberChatroom.getLastViewDate()).isCloseTo(chat.getCreatedAt(), within(1, ChronoUnit.SECONDS));
+            assertThat(memberChatroom.getLastJoinDate()).isCloseTo(lastJoinDate, within(1, ChronoUnit.SECONDS));
+        }
+
+        @DisplayName("성공: lastViewDate가 마지막 메시지 이전인 경우 이후 메시지 개수로 안읽은 메시지 개수가 다시 계산되어야 한다.")
+        @Test
+        void updateLastViewDateRecountsUnreadCount() {
+            // given
+            LocalDateTime lastJoinDate = LocalDateTime.now().minusMinutes(10);
+            Chatroom chatroom = createChatroom();
+            createMemberChatroom(member, chatroom, lastJoinDate);
+            createMemberChatroom(targetMember, chatroom, lastJoinDate);
+
+            Chat readChat = createChat(targetMember, "message1", chatroom);
+            createChat(targetMember, "message2", chatroom);
+            Chat lastChat = createChat(targetMember, "message3", chatroom);
+            chatroom.updateLastChatId(lastChat.getId());
+            chatroom.updateLastChatAt(lastChat.getCreatedAt());
+            chatroomRepository.save(chatroom);
+
+            // when
+            chatCommandService.updateLastViewDate(member, chatroom, readChat.getCreatedAt());
+
+            // then
+            MemberChatroom memberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(),
+                    chatroom.getId()).orElseThrow();
+            assertThat(memberChatroom.getUnreadCount()).isEqualTo(2);
         }
 
     }
 
+    /**
+     * relay가 socket 서버로 bulk 전송한 요청 중 해당 채팅방에 join 요청된 회원 id 목록
+     */
+    private List<Long> relayedJoins(Chatroom chatroom) {
+        ArgumentCaptor<List<SocketJoinRequest>> captor = ArgumentCaptor.captor();
+        verify(socketService, atLeastOnce()).joinSocketsToChatrooms(captor.capture());
+        return captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .filter(request -> request.getChatroomUuid().equals(chatroom.getUuid()))
+                .map(SocketJoinRequest::getMemberId)
+                .toList();
+    }
+
+    /**
+     * 채팅방의 두 MemberChatroom을 조회해 채팅 전송, 퍼사드와 같이 하나의 트랜잭션에서 실행한다
+     */
+    private Chat sendChat(Chatroom chatroom, ChatCreateRequest request) {
+        return transactionTemplate.execute(status -> {
+            MemberChatroom memberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(member.getId(),
+                    chatroom.getId()).orElseThrow();
+            MemberChatroom targetMemberChatroom = memberChatroomRepository.findByMemberIdAndChatroomId(
+                    targetMember.getId(), chatroom.getId()).orElseThrow();
+            return chatCommandService.createChat(
+                    ChatSendContext.of(memberChatroom, targetMemberChatroom, false, false), request);
+        });
+    }
+
+    private ChatCreateRequest createChatRequest(Long boardId) {
+        SystemFlagRequest systemFlagRequest = boardId == null ? null : SystemFlagRequest.builder()
+                .boardId(boardId)
+                .flag(1)
+                .build();
+
+        return ChatCreateRequest.builder()
+                .message("message")
+                .system(systemFlagRequest)
+                .build();
+    }
+
     private Member createMember(String email, String gameName) {
         return memberRepository.save(Member.builder()
                 .email(email)
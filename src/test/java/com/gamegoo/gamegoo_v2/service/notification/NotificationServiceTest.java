@@ -12,6 +12,7 @@ import com.gamegoo.gamegoo_v2.notification.domain.NotificationTypeTitle;
 import com.gamegoo.gamegoo_v2.notification.repository.NotificationRepository;
 import com.gamegoo.gamegoo_v2.notification.repository.NotificationTypeRepository;
 import com.gamegoo.gamegoo_v2.notification.service.NotificationService;
+import com.gamegoo.gamegoo_v2.notification.service.NotificationTypeCache;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +21,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -38,15 +40,15 @@ class NotificationServiceTest {
     @Autowired
     private NotificationTypeRepository notificationTypeRepository;
 
+    @Autowired
+    private NotificationTypeCache notificationTypeCache;
+
     @Autowired
     private NotificationRepository notificationRepository;
 
     @Autowired
     private MannerKeywordRepository mannerKeywordRepository;
 
-    private static final String TARGET_EMAIL = "target@naver.com";
-    private static final String TARGET_GAMENAME = "target";
-
     private Member member;
 
     @BeforeEach
@@ -63,78 +65,6 @@ class NotificationServiceTest {
         memberRepository.deleteAllInBatch();
     }
 
-    @DisplayName("친구 요청 전송됨 알림 생성 성공")
-    @Test
-    void createSendFriendRequestNotificationSucceeds() {
-        // given
-        Member sourceMember = createMember(TARGET_EMAIL, TARGET_GAMENAME);
-
-        // when
-        Notification notification = notificationService.createSendFriendRequestNotification(member, sourceMember);
-
-        // then
-        assertThat(notification.getNotificationType().getTitle()).isEqualTo(NotificationTypeTitle.FRIEND_REQUEST_SEND);
-        assertThat(notification.isRead()).isFalse();
-        assertThat(notification.getMember().getId()).isEqualTo(member.getId());
-        assertThat(notification.getSourceMember().getId()).isEqualTo(sourceMember.getId());
-
-        assertThat(member.getNotificationList()).hasSize(1);
-    }
-
-    @DisplayName("친구 요청 받음 알림 생성 성공")
-    @Test
-    void createReceivedFriendRequestNotificationSucceeds() {
-        // given
-        Member sourceMember = createMember(TARGET_EMAIL, TARGET_GAMENAME);
-
-        // when
-        Notification notification = notificationService.createReceivedFriendRequestNotification(sourceMember, member);
-
-        // then
-        assertThat(notification.getNotificationType().getTitle()).isEqualTo(NotificationTypeTitle.FRIEND_REQUEST_RECEIVED);
-        assertThat(notification.isRead()).isFalse();
-        assertThat(notification.getMember().getId()).isEqualTo(sourceMember.getId());
-        assertThat(notification.getSourceMember().getId()).isEqualTo(member.getId());
-
-        assertThat(sourceMember.getNotificationList()).hasSize(1);
-    }
-
-    @DisplayName("친구 요청 수락 알림 생성 성공")
-    @Test
-    void createAcceptFriendRequestNotificationSucceeds() {
-        // given
-        Member targetMember = createMember(TARGET_EMAIL, TARGET_GAMENAME);
-
-        // when
-        Notification notification = notificationService.createAcceptFriendRequestNotification(targetMember, member);
-
-        // then
-        assertThat(notification.getNotificationType().getTitle()).isEqualTo(NotificationTypeTitle.FRIEND_REQUEST_ACCEPTED);
-        assertThat(notification.isRead()).isFalse();
-        assertThat(notification.getMember().getId()).isEqualTo(targetMember.getId());
-        assertThat(notification.getSourceMember().getId()).isEqualTo(member.getId());
-
-        assertThat(targetMember.getNotificationList()).hasSize(1);
-    }
-
-    @DisplayName("친구 요청 거절 알림 생성 성공")
-    @Test
-    void createRejectFriendRequestNotificationSucceeds() {
-        // given
-        Member targetMember = createMember(TARGET_EMAIL, TARGET_GAMENAME);
-
-        // when
-        Notification notification = notificationService.createRejectFriendRequestNotification(targetMember, member);
-
-        // then
-        assertThat(notification.getNotificationType().getTitle()).isEqualTo(NotificationTypeTitle.FRIEND_REQUEST_REJECTED);
-        assertThat(notification.isRead()).isFalse();
-        assertThat(notification.getMember().getId()).isEqualTo(targetMember.getId());
-        assertThat(notification.getSourceMember().getId()).isEqualTo(member.getId());
-
-        assertThat(targetMember.getNotificationList()).hasSize(1);
-    }
-
     @DisplayName("매너 레벨 상승 알림 생성 성공")
     @Test
     void createMannerLevelUpNotificationSucceeds() {
@@ -217,6 +147,38 @@ class NotificationServiceTest {
         assertThat(member.getNotificationList()).hasSize(1);
     }
 
+    @DisplayName("보관 기간이 지난 알림 삭제 성공: batchSize개만 삭제하고 삭제된 개수만큼 안읽은 알림 개수를 차감한다.")
+    @Test
+    void deleteExpiredNotificationsSucceeds() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            notificationService.createMannerLevelNotification(NotificationTypeTitle.MANNER_LEVEL_UP, member, 2);
+        }
+        assertThat(notificationService.countUnreadNotification(member.getId())).isEqualTo(3);
+
+        // when
+        int deleted = notificationService.deleteExpiredNotifications(LocalDateTime.now().plusMinutes(1), 2);
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(notificationRepository.count()).isEqualTo(1);
+        assertThat(notificationService.countUnreadNotification(member.getId())).isEqualTo(1);
+    }
+
+    @DisplayName("보관 기간이 지난 알림 삭제 성공: 기준 시각 이후에 생성된 알림은 삭제하지 않는다.")
+    @Test
+    void deleteExpiredNotificationsSkipsRecentNotifications() {
+        // given
+        notificationService.createMannerLevelNotification(NotificationTypeTitle.MANNER_LEVEL_UP, member, 2);
+
+        // when
+        int deleted = notificationService.deleteExpiredNotifications(LocalDateTime.now().minusDays(1), 100);
+
+        // then
+        assertThat(deleted).isZero();
+        assertThat(notificationRepository.count()).isEqualTo(1);
+    }
+
     private Member createMember(String email, String gameName) {
         return memberRepository.save(Member.builder()
                 .email(email)
@@ -241,6 +203,7 @@ class NotificationServiceTest {
         notificationTypeRepository.save(NotificationType.create(NotificationTypeTitle.MANNER_LEVEL_UP));
         notificationTypeRepository.save(NotificationType.create(NotificationTypeTitle.MANNER_LEVEL_DOWN));
         notificationTypeRepository.save(NotificationType.create(NotificationTypeTitle.MANNER_KEYWORD_RATED));
+        notificationTypeCache.refresh();
     }
 
 }
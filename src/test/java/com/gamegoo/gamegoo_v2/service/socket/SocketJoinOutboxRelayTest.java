@@ -0,0 +1,179 @@
+package com.gamegoo.gamegoo_v2.service.socket;
+
+import com.gamegoo.gamegoo_v2.core.exception.SocketException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import com.gamegoo.gamegoo_v2.external.socket.SocketJoinOutboxService;
+import com.gamegoo.gamegoo_v2.external.socket.SocketService;
+import com.gamegoo.gamegoo_v2.external.socket.domain.SocketJoinOutbox;
+import com.gamegoo.gamegoo_v2.external.socket.domain.SocketJoinOutboxStatus;
+import com.gamegoo.gamegoo_v2.external.socket.dto.SocketJoinRequest;
+import com.gamegoo.gamegoo_v2.external.socket.repository.SocketJoinOutboxRepository;
+import com.gamegoo.gamegoo_v2.external.socket.scheduler.SocketJoinOutboxRelay;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class SocketJoinOutboxRelayTest {
+
+    @Autowired
+    private SocketJoinOutboxRelay socketJoinOutboxRelay;
+
+    @Autowired
+    private SocketJoinOutboxService socketJoinOutboxService;
+
+    @Autowired
+    private SocketJoinOutboxRepository socketJoinOutboxRepository;
+
+    @MockitoBean
+    private SocketService socketService;
+
+    private static final String CHATROOM_UUID = "test-uuid";
+    private static final String FAILED_CHATROOM_UUID = "failed-uuid";
+
+    @BeforeEach
+    void setUp() {
+        socketJoinOutboxRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        socketJoinOutboxRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("전송에 성공한 join 요청은 한 번의 bulk 요청으로 전송된 뒤 outbox에서 삭제되어야 한다.")
+    @Test
+    void relaySucceeds() {
+        // given
+        socketJoinOutboxService.saveJoin(1L, CHATROOM_UUID);
+        socketJoinOutboxService.saveJoin(2L, CHATROOM_UUID);
+
+        // when
+        socketJoinOutboxRelay.relay();
+
+        // then
+        ArgumentCaptor<List<SocketJoinRequest>> captor = ArgumentCaptor.captor();
+        verify(socketService, times(1)).joinSocketsToChatrooms(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(SocketJoinRequest::getMemberId, SocketJoinRequest::getChatroomUuid)
+                .containsExactly(tuple(1L, CHATROOM_UUID), tuple(2L, CHATROOM_UUID));
+        verify(socketService, never()).joinSocketToChatroom(anyLong(), anyString());
+        assertThat(socketJoinOutboxRepository.count()).isZero();
+    }
+
+    @DisplayName("bulk 전송이 거부되면 하나씩 다시 전송하고, 실패한 join 요청은 다음 시도 시각까지 재전송되지 않아야 한다.")
+    @Test
+    void relayBacksOffWhenSocketServerRejects() {
+        // given
+        willThrow(new SocketException(ErrorCode.SOCKET_API_REQUEST_REJECTED))
+                .given(socketService).joinSocketsToChatrooms(anyList());
+        willThrow(new SocketException(ErrorCode.SOCKET_API_RESPONSE_ERROR))
+                .given(socketService).joinSocketToChatroom(1L, FAILED_CHATROOM_UUID);
+        socketJoinOutboxService.saveJoin(1L, FAILED_CHATROOM_UUID);
+        socketJoinOutboxService.saveJoin(2L, CHATROOM_UUID);
+
+        // when
+        socketJoinOutboxRelay.relay();
+        socketJoinOutboxRelay.relay();
+
+        // then
+        List<SocketJoinOutbox> remaining = socketJoinOutboxRepository.findAll();
+        assertThat(remaining).hasSize(1);
+
+        SocketJoinOutbox failed = remaining.get(0);
+        assertThat(failed.getChatroomUuid()).isEqualTo(FAILED_CHATROOM_UUID);
+        assertThat(failed.getStatus()).isEqualTo(SocketJoinOutboxStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+        // backoff 시간 전에는 재전송하지 않음
+        verify(socketService, times(1)).joinSocketsToChatrooms(anyList());
+        verify(socketService, times(1)).joinSocketToChatroom(1L, FAILED_CHATROOM_UUID);
+        verify(socketService, times(1)).joinSocketToChatroom(2L, CHATROOM_UUID);
+    }
+
+    @DisplayName("socket 서버 오류로 bulk 전송에 실패하면 하나씩 다시 전송하지 않고 batch 전체를 재시도 대상으로 남겨야 한다.")
+    @Test
+    void relayBacksOffWithoutSingleJoinWhenSocketServerFails() {
+        // given
+        willThrow(new SocketException(ErrorCode.SOCKET_API_RESPONSE_ERROR))
+                .given(socketService).joinSocketsToChatrooms(anyList());
+        socketJoinOutboxService.saveJoin(1L, FAILED_CHATROOM_UUID);
+        socketJoinOutboxService.saveJoin(2L, CHATROOM_UUID);
+
+        // when
+        socketJoinOutboxRelay.relay();
+
+        // then
+        List<SocketJoinOutbox> remaining = socketJoinOutboxRepository.findAll();
+        assertThat(remaining).hasSize(2)
+                .allSatisfy(join -> {
+                    assertThat(join.getStatus()).isEqualTo(SocketJoinOutboxStatus.PENDING);
+                    assertThat(join.getAttempts()).isEqualTo(1);
+                    assertThat(join.getNextAttemptAt()).isAfter(LocalDateTime.now());
+                });
+        verify(socketService, never()).joinSocketToChatroom(anyLong(), anyString());
+    }
+
+    @DisplayName("이미 선점된 join 요청은 선점이 만료되기 전까지 다른 relay에서 선점되지 않아야 한다.")
+    @Test
+    void claimDueJoinsSkipsClaimedJoins() {
+        // given
+        socketJoinOutboxService.saveJoin(1L, CHATROOM_UUID);
+        socketJoinOutboxService.saveJoin(2L, CHATROOM_UUID);
+
+        // when
+        List<SocketJoinOutbox> claimed = socketJoinOutboxService.claimDueJoins(100);
+        List<SocketJoinOutbox> claimedAgain = socketJoinOutboxService.claimDueJoins(100);
+
+        // then
+        assertThat(claimed).extracting(SocketJoinOutbox::getMemberId).containsExactly(1L, 2L);
+        assertThat(claimed).extracting(SocketJoinOutbox::getNextAttemptAt)
+                .allMatch(nextAttemptAt -> nextAttemptAt.isAfter(LocalDateTime.now()));
+        assertThat(claimedAgain).isEmpty();
+    }
+
+    @DisplayName("보관 기간이 지난 FAILED 상태 join 요청만 삭제되어야 한다.")
+    @Test
+    void purgeFailedJoinsSucceeds() {
+        // given
+        socketJoinOutboxService.saveJoin(1L, CHATROOM_UUID);
+        socketJoinOutboxRepository.save(SocketJoinOutbox.builder()
+                .memberId(2L)
+                .chatroomUuid(FAILED_CHATROOM_UUID)
+                .status(SocketJoinOutboxStatus.FAILED)
+                .attempts(8)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+
+        // when
+        int deleted = socketJoinOutboxService.purgeFailedJoins(LocalDateTime.now().plusMinutes(1));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(socketJoinOutboxRepository.findAll())
+                .extracting(SocketJoinOutbox::getStatus)
+                .containsExactly(SocketJoinOutboxStatus.PENDING);
+    }
+
+}
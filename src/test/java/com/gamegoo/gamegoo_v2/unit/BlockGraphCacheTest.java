@@ -0,0 +1,108 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.social.block.repository.BlockRepository;
+import com.gamegoo.gamegoo_v2.social.block.service.BlockGraphCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class BlockGraphCacheTest {
+
+    private final BlockRepository blockRepository = mock(BlockRepository.class);
+    private final BlockGraphCache blockGraphCache = new BlockGraphCache(blockRepository);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @DisplayName("차단 목록은 회원별로 한 번만 로딩하고 이후에는 메모리에서 판단해야 한다.")
+    @Test
+    void isBlockedLoadsOnce() {
+        // given
+        List<Long> blockedIds = LongStream.rangeClosed(1, 100).map(id -> id * 7).boxed().toList();
+        given(blockRepository.findBlockedMemberIds(1L)).willReturn(blockedIds);
+
+        // when // then
+        for (Long blockedId : blockedIds) {
+            assertThat(blockGraphCache.isBlocked(1L, blockedId)).isTrue();
+        }
+        assertThat(blockGraphCache.isBlocked(1L, 8L)).isFalse();
+        assertThat(blockGraphCache.isBlocked(1L, 0L)).isFalse();
+        verify(blockRepository, times(1)).findBlockedMemberIds(1L);
+    }
+
+    @DisplayName("두 회원 중 한 명이라도 상대를 차단한 경우 true를 반환해야 한다.")
+    @Test
+    void isBlockedEitherWay() {
+        // given
+        given(blockRepository.findBlockedMemberIds(1L)).willReturn(List.of());
+        given(blockRepository.findBlockedMemberIds(2L)).willReturn(List.of(1L));
+        given(blockRepository.findBlockedMemberIds(3L)).willReturn(List.of());
+
+        // when // then
+        assertThat(blockGraphCache.isBlockedEitherWay(1L, 2L)).isTrue();
+        assertThat(blockGraphCache.isBlockedEitherWay(2L, 1L)).isTrue();
+        assertThat(blockGraphCache.isBlockedEitherWay(1L, 3L)).isFalse();
+    }
+
+    @DisplayName("캐시를 제거하면 다음 조회 시 변경된 차단 목록을 다시 로딩해야 한다.")
+    @Test
+    void evictReloads() {
+        // given
+        given(blockRepository.findBlockedMemberIds(1L)).willReturn(List.of(), List.of(2L));
+        assertThat(blockGraphCache.isBlocked(1L, 2L)).isFalse();
+
+        // when
+        blockGraphCache.evict(1L);
+
+        // then
+        assertThat(blockGraphCache.isBlocked(1L, 2L)).isTrue();
+        verify(blockRepository, times(2)).findBlockedMemberIds(1L);
+    }
+
+    @DisplayName("로딩 중 캐시가 제거된 경우 로딩한 차단 목록은 캐시에 저장하지 않아야 한다.")
+    @Test
+    void evictDuringLoadSkipsCaching() {
+        // given
+        given(blockRepository.findBlockedMemberIds(1L)).willAnswer(invocation -> {
+            // 로딩 중 다른 트랜잭션의 차단이 커밋되어 캐시가 제거됨
+            blockGraphCache.evict(1L);
+            return List.of();
+        }).willReturn(List.of(2L));
+
+        // when
+        assertThat(blockGraphCache.isBlocked(1L, 2L)).isFalse();
+
+        // then
+        assertThat(blockGraphCache.isBlocked(1L, 2L)).isTrue();
+        verify(blockRepository, times(2)).findBlockedMemberIds(1L);
+    }
+
+    @DisplayName("최근 캐시가 제거된 회원을 트랜잭션 안에서 로딩한 경우 로딩한 차단 목록은 캐시에 저장하지 않아야 한다.")
+    @Test
+    void loadInTransactionAfterRecentEvictSkipsCaching() {
+        // given
+        given(blockRepository.findBlockedMemberIds(1L)).willReturn(List.of());
+        blockGraphCache.evict(1L);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // when
+        blockGraphCache.isBlocked(1L, 2L);
+        blockGraphCache.isBlocked(1L, 2L);
+
+        // then
+        verify(blockRepository, times(2)).findBlockedMemberIds(1L);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.external.client.BulkheadInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BulkheadInterceptorTest {
+
+    private final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/test"));
+
+    @DisplayName("동시 요청 수 제한 이내이면 요청이 실행되고 permit이 반환되어야 한다.")
+    @Test
+    void interceptWithinLimit() throws Exception {
+        // given
+        BulkheadInterceptor bulkhead = new BulkheadInterceptor("test", 1, Duration.ofMillis(10));
+        ClientHttpRequestExecution execution = (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+
+        // when
+        bulkhead.intercept(request, new byte[0], execution);
+
+        // then
+        assertThat(bulkhead.getAvailablePermits()).isEqualTo(1);
+        assertThat(bulkhead.getRejectedCount()).isZero();
+    }
+
+    @DisplayName("동시 요청 수 제한을 초과하면 대기 시간 이후 예외가 발생해야 한다.")
+    @Test
+    void interceptOverLimit() {
+        // given
+        BulkheadInterceptor bulkhead = new BulkheadInterceptor("test", 1, Duration.ofMillis(10));
+
+        // 첫 번째 요청이 permit을 점유한 상태에서 두 번째 요청 실행
+        ClientHttpRequestExecution execution = (req, body) -> bulkhead.intercept(req, body,
+                (innerReq, innerBody) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        // when // then
+        assertThatThrownBy(() -> bulkhead.intercept(request, new byte[0], execution))
+                .isInstanceOf(IOException.class);
+        assertThat(bulkhead.getRejectedCount()).isEqualTo(1);
+        assertThat(bulkhead.getAvailablePermits()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.chat.domain.ChatroomCursor;
+import com.gamegoo.gamegoo_v2.core.exception.ChatException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ChatroomCursorTest {
+
+    @DisplayName("encode한 커서 문자열을 decode하면 같은 정렬 키와 채팅방 id를 반환해야 한다.")
+    @Test
+    void encodeAndDecode() {
+        // given
+        ChatroomCursor cursor = ChatroomCursor.of(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123456000), 10L);
+
+        // when
+        ChatroomCursor decoded = ChatroomCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @DisplayName("커서 문자열이 null인 경우 null을 반환해야 한다.")
+    @Test
+    void decodeNull() {
+        assertThat(ChatroomCursor.decode(null)).isNull();
+    }
+
+    @DisplayName("올바르지 않은 커서 문자열인 경우 예외가 발생해야 한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"", "10", "2025-01-02T03:04:05_", "invalid_10", "2025-01-02T03:04:05_a",
+            "2025-01-02T03:04:05_10_1"})
+    void decodeInvalidCursor(String cursor) {
+        assertThatThrownBy(() -> ChatroomCursor.decode(cursor))
+                .isInstanceOf(ChatException.class)
+                .hasMessage(ErrorCode.CHATROOM_CURSOR_BAD_REQUEST.getMessage());
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.social.friend.domain.Friend;
+import com.gamegoo.gamegoo_v2.social.friend.repository.FriendRepository;
+import com.gamegoo.gamegoo_v2.social.friend.service.FriendSearchIndex;
+import com.gamegoo.gamegoo_v2.utils.SortKeyUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class FriendSearchIndexTest {
+
+    private final FriendRepository friendRepository = mock(FriendRepository.class);
+    private final FriendSearchIndex friendSearchIndex = new FriendSearchIndex(friendRepository);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @DisplayName("친구 목록은 회원별로 한 번만 로딩하고 이후에는 메모리에서 검색해야 한다.")
+    @Test
+    void searchLoadsOnce() {
+        // given
+        List<Friend> friends = List.of(friend(2L, "target"));
+        given(friendRepository.findAllFriendsWithMember(1L)).willReturn(friends);
+
+        // when // then
+        assertThat(friendSearchIndex.search(1L, "tar")).containsExactly(2L);
+        assertThat(friendSearchIndex.search(1L, "x")).isEmpty();
+        verify(friendRepository, times(1)).findAllFriendsWithMember(1L);
+    }
+
+    @DisplayName("로딩 중 친구가 추가된 경우 로딩한 인덱스는 저장하지 않아야 한다.")
+    @Test
+    void addFriendDuringLoadSkipsCaching() {
+        // given
+        Member newFriend = member(2L, "target");
+        List<Friend> friends = List.of(friend(2L, "target"));
+        given(friendRepository.findAllFriendsWithMember(1L)).willAnswer(invocation -> {
+            // 로딩 중 다른 트랜잭션의 친구 수락이 커밋되어 인덱스에 반영됨
+            friendSearchIndex.addFriend(1L, newFriend);
+            return List.of();
+        }).willReturn(friends);
+
+        // when
+        assertThat(friendSearchIndex.search(1L, "tar")).isEmpty();
+
+        // then
+        assertThat(friendSearchIndex.search(1L, "tar")).containsExactly(2L);
+        verify(friendRepository, times(2)).findAllFriendsWithMember(1L);
+    }
+
+    @DisplayName("트랜잭션 안에서 최근 변경된 회원의 인덱스를 로딩한 경우 로딩한 인덱스는 저장하지 않아야 한다.")
+    @Test
+    void loadInTransactionAfterRecentChangeSkipsCaching() {
+        // given
+        given(friendRepository.findAllFriendsWithMember(1L)).willReturn(List.of());
+        friendSearchIndex.removeFriend(1L, 2L);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // when
+        friendSearchIndex.search(1L, "tar");
+        friendSearchIndex.search(1L, "tar");
+
+        // then
+        verify(friendRepository, times(2)).findAllFriendsWithMember(1L);
+    }
+
+    private Friend friend(Long memberId, String gameName) {
+        Friend friend = mock(Friend.class);
+        Member member = member(memberId, gameName);
+        given(friend.getToMember()).willReturn(member);
+        return friend;
+    }
+
+    private Member member(Long memberId, String gameName) {
+        Member member = mock(Member.class);
+        given(member.getId()).willReturn(memberId);
+        given(member.getGameName()).willReturn(gameName);
+        given(member.getGameNameSortKey()).willReturn(SortKeyUtil.gameNameSortKey(gameName));
+        return member;
+    }
+
+}
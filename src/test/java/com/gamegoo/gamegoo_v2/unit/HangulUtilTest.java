@@ -0,0 +1,39 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.utils.HangulUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HangulUtilTest {
+
+    @DisplayName("한글 음절의 초성을 반환하고, 한글 음절이 아니면 입력 문자를 그대로 반환해야 한다.")
+    @Test
+    void getChosung() {
+        assertThat(HangulUtil.getChosung('가')).isEqualTo('ㄱ');
+        assertThat(HangulUtil.getChosung('힣')).isEqualTo('ㅎ');
+        assertThat(HangulUtil.getChosung('쌀')).isEqualTo('ㅆ');
+        assertThat(HangulUtil.getChosung('a')).isEqualTo('a');
+    }
+
+    @DisplayName("초성 문자는 같은 초성을 갖는 음절과 일치하는 prefix로 판단해야 한다.")
+    @Test
+    void startsWithChosung() {
+        assertThat(HangulUtil.startsWithChosung("게임고", "ㄱㅇ")).isTrue();
+        assertThat(HangulUtil.startsWithChosung("게임고", "게ㅇ")).isTrue();
+        assertThat(HangulUtil.startsWithChosung("게임고", "게임")).isTrue();
+        assertThat(HangulUtil.startsWithChosung("게임고", "ㄴ")).isFalse();
+        assertThat(HangulUtil.startsWithChosung("게임고", "ㄱㅇㄱㄱ")).isFalse();
+        assertThat(HangulUtil.startsWithChosung("ㄱ123", "ㄱ")).isTrue();
+    }
+
+    @DisplayName("겹받침 자모는 초성으로 판단하지 않아야 한다.")
+    @Test
+    void isChosung() {
+        assertThat(HangulUtil.isChosung('ㄱ')).isTrue();
+        assertThat(HangulUtil.isChosung('ㄳ')).isFalse();
+        assertThat(HangulUtil.isChosung('가')).isFalse();
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.account.member.service.MemberExistenceCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class MemberExistenceCacheTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final MemberExistenceCache memberExistenceCache = new MemberExistenceCache(memberRepository);
+
+    @DisplayName("존재하는 회원은 한 번만 db에서 확인하고 이후에는 메모리에서 판단해야 한다.")
+    @Test
+    void existsChecksOnce() {
+        // given
+        given(memberRepository.existsById(1L)).willReturn(true);
+
+        // when // then
+        assertThat(memberExistenceCache.exists(1L)).isTrue();
+        assertThat(memberExistenceCache.exists(1L)).isTrue();
+        verify(memberRepository, times(1)).existsById(1L);
+    }
+
+    @DisplayName("존재하지 않는 회원은 캐시하지 않아야 한다.")
+    @Test
+    void notExistsIsNotCached() {
+        // given
+        given(memberRepository.existsById(1L)).willReturn(false, true);
+
+        // when // then
+        assertThat(memberExistenceCache.exists(1L)).isFalse();
+        assertThat(memberExistenceCache.exists(1L)).isTrue();
+        verify(memberRepository, times(2)).existsById(1L);
+    }
+
+    @DisplayName("캐시를 제거하면 다음 조회 시 db에서 다시 확인해야 한다.")
+    @Test
+    void evictRechecks() {
+        // given
+        given(memberRepository.existsById(1L)).willReturn(true, false);
+        assertThat(memberExistenceCache.exists(1L)).isTrue();
+
+        // when
+        memberExistenceCache.evict(1L);
+
+        // then
+        assertThat(memberExistenceCache.exists(1L)).isFalse();
+        verify(memberRepository, times(2)).existsById(1L);
+    }
+
+}
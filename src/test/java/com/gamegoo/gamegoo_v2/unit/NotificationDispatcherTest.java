@@ -0,0 +1,109 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.notification.domain.NotificationCommand;
+import com.gamegoo.gamegoo_v2.notification.repository.NotificationJdbcRepository;
+import com.gamegoo.gamegoo_v2.notification.service.NotificationDispatcher;
+import com.gamegoo.gamegoo_v2.notification.service.NotificationTypeCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+public class NotificationDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<NotificationCommand>> savedBatches = Collections.synchronizedList(new ArrayList<>());
+
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        // memberId가 음수인 요청이 포함된 batch는 저장에 실패하는 repository
+        NotificationJdbcRepository repository = new NotificationJdbcRepository(null) {
+            @Override
+            public int saveAll(List<NotificationCommand> commands) {
+                if (commands.stream().anyMatch(command -> command.memberId() < 0)) {
+                    throw new IllegalStateException("invalid member");
+                }
+                savedBatches.add(List.copyOf(commands));
+                return commands.size();
+            }
+        };
+
+        dispatcher = new NotificationDispatcher(mock(NotificationTypeCache.class), repository, meterRegistry,
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 100);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(dispatcher, "flushIntervalMs", 10L);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.stop();
+    }
+
+    @DisplayName("queue에 넣은 알림 생성 요청은 모두 저장되어야 한다.")
+    @Test
+    void dispatchSavesAllCommands() {
+        // when
+        for (long i = 1; i <= 5; i++) {
+            dispatcher.dispatch(new NotificationCommand(i, null, 1L, "content"));
+        }
+
+        // then
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(savedCommands()).hasSize(5));
+        assertThat(meterRegistry.get("notification.queue.lag").timer().count()).isEqualTo(5);
+    }
+
+    @DisplayName("batch 저장에 실패하면 하나씩 다시 저장해 실패한 요청만 제외되어야 한다.")
+    @Test
+    void dispatchRetriesOneByOneWhenBatchFails() {
+        // given
+        NotificationCommand valid = new NotificationCommand(1L, 2L, 1L, "content");
+        NotificationCommand invalid = new NotificationCommand(-1L, 2L, 1L, "content");
+
+        // when
+        dispatcher.dispatch(invalid);
+        dispatcher.dispatch(valid);
+
+        // then
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(savedCommands()).containsExactly(valid);
+            assertThat(meterRegistry.get("notification.write.failed").counter().count()).isEqualTo(1);
+        });
+    }
+
+    @DisplayName("종료 시 queue에 남아있는 요청을 저장해야 한다.")
+    @Test
+    void stopFlushesRemainingCommands() throws InterruptedException {
+        // given
+        dispatcher.dispatch(new NotificationCommand(1L, null, 1L, "content"));
+
+        // when
+        dispatcher.stop();
+
+        // then
+        assertThat(savedCommands()).hasSize(1);
+    }
+
+    private List<NotificationCommand> savedCommands() {
+        synchronized (savedBatches) {
+            return savedBatches.stream().flatMap(List::stream).toList();
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.external.client.RateLimitInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RateLimitInterceptorTest {
+
+    private final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/test"));
+    private final ClientHttpRequestExecution execution =
+            (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+
+    @DisplayName("burst 개수까지는 대기 없이 요청이 실행되고, 이후 token이 없으면 예외가 발생해야 한다.")
+    @Test
+    void interceptOverBurst() throws Exception {
+        // given
+        RateLimitInterceptor rateLimit = new RateLimitInterceptor("test", 1, 2, Duration.ZERO);
+
+        // when
+        rateLimit.intercept(request, new byte[0], execution);
+        rateLimit.intercept(request, new byte[0], execution);
+
+        // then
+        assertThatThrownBy(() -> rateLimit.intercept(request, new byte[0], execution))
+                .isInstanceOf(IOException.class);
+        assertThat(rateLimit.getRejectedCount()).isEqualTo(1);
+    }
+
+    @DisplayName("token이 없으면 timeout 이내에서 다음 token이 채워질 때까지 대기 후 실행되어야 한다.")
+    @Test
+    void interceptWaitsForToken() throws Exception {
+        // given
+        RateLimitInterceptor rateLimit = new RateLimitInterceptor("test", 20, 1, Duration.ofSeconds(1));
+        rateLimit.intercept(request, new byte[0], execution);
+
+        // when
+        long start = System.nanoTime();
+        rateLimit.intercept(request, new byte[0], execution);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(40);
+        assertThat(rateLimit.getRejectedCount()).isZero();
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.core.config.HttpClientProperties;
+import com.gamegoo.gamegoo_v2.external.client.HttpClientFactory;
+import com.gamegoo.gamegoo_v2.external.socket.SocketService;
+import com.gamegoo.gamegoo_v2.external.socket.dto.SocketJoinRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SocketServiceTest {
+
+    private final HttpClientFactory httpClientFactory =
+            new HttpClientFactory(new RestTemplateBuilder(), new SimpleMeterRegistry());
+
+    private StubSocketServer stubSocketServer;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        stubSocketServer.close();
+        httpClientFactory.destroy();
+    }
+
+    @DisplayName("여러 join 요청은 한 번의 bulk 요청으로 전송되어야 한다.")
+    @Test
+    void joinSocketsToChatroomsSendsOneRequest() throws IOException {
+        // given
+        SocketService socketService = createSocketService(true);
+
+        // when
+        socketService.joinSocketsToChatrooms(List.of(
+                SocketJoinRequest.of(1L, "uuid-1"),
+                SocketJoinRequest.of(2L, "uuid-1")));
+
+        // then
+        List<StubSocketServer.RecordedRequest> requests = stubSocketServer.getRequests();
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).path()).isEqualTo("/socket/room/join/bulk");
+        assertThat(requests.get(0).body())
+                .contains("\"memberId\":1", "\"memberId\":2", "\"chatroomUuid\":\"uuid-1\"");
+    }
+
+    @DisplayName("socket 서버가 bulk join API를 지원하지 않으면 단건 API로 나누어 전송하고, 재확인 시각 전까지는 bulk API를 호출하지 않아야 한다.")
+    @Test
+    void joinSocketsToChatroomsFallsBackToSingleJoin() throws IOException {
+        // given
+        SocketService socketService = createSocketService(false);
+        List<SocketJoinRequest> joinRequests = List.of(
+                SocketJoinRequest.of(1L, "uuid-1"),
+                SocketJoinRequest.of(2L, "uuid-1"));
+
+        // when
+        socketService.joinSocketsToChatrooms(joinRequests);
+        socketService.joinSocketsToChatrooms(joinRequests);
+
+        // then
+        assertThat(stubSocketServer.getRequests())
+                .extracting(StubSocketServer.RecordedRequest::path)
+                .containsExactly("/socket/room/join/bulk",
+                        "/socket/room/join", "/socket/room/join",
+                        "/socket/room/join", "/socket/room/join");
+    }
+
+    @DisplayName("bulk join API 재확인 시각이 지나면 bulk API를 다시 호출해야 한다.")
+    @Test
+    void joinSocketsToChatroomsReprobesBulkJoin() throws IOException {
+        // given
+        SocketService socketService = createSocketService(false);
+        List<SocketJoinRequest> joinRequests = List.of(SocketJoinRequest.of(1L, "uuid-1"));
+        socketService.joinSocketsToChatrooms(joinRequests);
+
+        // when
+        ReflectionTestUtils.setField(socketService, "bulkJoinReprobeAt", 0L);
+        socketService.joinSocketsToChatrooms(joinRequests);
+
+        // then
+        assertThat(stubSocketServer.getRequests())
+                .extracting(StubSocketServer.RecordedRequest::path)
+                .containsExactly("/socket/room/join/bulk", "/socket/room/join",
+                        "/socket/room/join/bulk", "/socket/room/join");
+    }
+
+    @DisplayName("연속된 요청은 같은 connection을 재사용해야 한다.")
+    @Test
+    void joinSocketToChatroomReusesConnection() throws IOException {
+        // given
+        SocketService socketService = createSocketService(true);
+
+        // when
+        socketService.joinSocketToChatroom(1L, "uuid-1");
+        socketService.joinSocketToChatroom(2L, "uuid-2");
+
+        // then
+        assertThat(stubSocketServer.getRequests())
+                .extracting(StubSocketServer.RecordedRequest::clientPort)
+                .containsOnly(stubSocketServer.getRequests().get(0).clientPort());
+    }
+
+    private SocketService createSocketService(boolean bulkJoinSupported) throws IOException {
+        stubSocketServer = StubSocketServer.start(bulkJoinSupported);
+        SocketService socketService =
+                new SocketService(httpClientFactory.create("socket", new HttpClientProperties.Destination()));
+        ReflectionTestUtils.setField(socketService, "SOCKET_SERVER_URL", stubSocketServer.getUrl());
+        return socketService;
+    }
+
+}
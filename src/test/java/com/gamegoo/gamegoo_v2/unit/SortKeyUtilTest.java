@@ -0,0 +1,41 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.utils.SortKeyUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SortKeyUtilTest {
+
+    @DisplayName("소환사명 정렬 키의 문자열 순서는 한글 -> 영문자 -> 숫자 순이어야 한다.")
+    @Test
+    void gameNameSortKeyOrder() {
+        // given
+        List<String> gameNames = Arrays.asList("가", "가1", "가2", "가10", "가a", "가가", "a", "가a1", "가aa", "123");
+
+        // when
+        List<String> sorted = gameNames.stream()
+                .sorted(Comparator.comparing(SortKeyUtil::gameNameSortKey))
+                .toList();
+
+        // then
+        assertThat(sorted).containsExactly("가", "가가", "가a", "가aa", "가a1", "가1", "가10", "가2", "a", "123");
+    }
+
+    @DisplayName("정렬 키는 문자 하나당 5자리의 소문자 16진수 문자열이어야 한다.")
+    @Test
+    void gameNameSortKeyFormat() {
+        // when
+        String sortKey = SortKeyUtil.gameNameSortKey("가a1");
+
+        // then
+        assertThat(sortKey).hasSize(15);
+        assertThat(sortKey).matches("[0-9a-f]+");
+    }
+
+}
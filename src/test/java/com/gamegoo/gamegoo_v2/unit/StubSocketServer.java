@@ -0,0 +1,72 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 socket 서버
+ * 임의의 포트에서 join API 요청을 받아 기록하고, 요청한 client의 포트로 connection 재사용 여부를 확인할 수 있다
+ */
+public class StubSocketServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private final boolean bulkJoinSupported;
+
+    private StubSocketServer(boolean bulkJoinSupported) throws IOException {
+        this.bulkJoinSupported = bulkJoinSupported;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/socket/room/join", this::handle);
+    }
+
+    /**
+     * 테스트용 socket 서버 실행
+     *
+     * @param bulkJoinSupported false인 경우 bulk join API 요청에 404로 응답
+     * @return 실행된 서버
+     */
+    public static StubSocketServer start(boolean bulkJoinSupported) throws IOException {
+        StubSocketServer stubSocketServer = new StubSocketServer(bulkJoinSupported);
+        stubSocketServer.server.start();
+        return stubSocketServer;
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public List<RecordedRequest> getRequests() {
+        return List.copyOf(requests);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        requests.add(new RecordedRequest(path, body, exchange.getRemoteAddress().getPort()));
+
+        boolean found = path.equals("/socket/room/join") || (bulkJoinSupported && path.equals("/socket/room/join/bulk"));
+        byte[] response = (found ? "ok" : "not found").getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(found ? 200 : 404, response.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+
+    public record RecordedRequest(String path, String body, int clientPort) {
+
+    }
+
+}
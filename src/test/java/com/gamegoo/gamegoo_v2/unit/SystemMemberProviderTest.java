@@ -0,0 +1,57 @@
+package com.gamegoo.gamegoo_v2.unit;
+
+import com.gamegoo.gamegoo_v2.account.member.domain.Member;
+import com.gamegoo.gamegoo_v2.account.member.repository.MemberRepository;
+import com.gamegoo.gamegoo_v2.chat.service.SystemMemberProvider;
+import com.gamegoo.gamegoo_v2.core.exception.ChatException;
+import com.gamegoo.gamegoo_v2.core.exception.common.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class SystemMemberProviderTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final SystemMemberProvider systemMemberProvider = new SystemMemberProvider(memberRepository);
+
+    @DisplayName("system member 존재가 확인된 후에는 조회 쿼리 없이 reference를 반환해야 한다.")
+    @Test
+    void getSystemMemberReturnsReference() {
+        // given
+        Member systemMember = mock(Member.class);
+        given(memberRepository.existsById(SystemMemberProvider.SYSTEM_MEMBER_ID)).willReturn(true);
+        given(memberRepository.getReferenceById(SystemMemberProvider.SYSTEM_MEMBER_ID)).willReturn(systemMember);
+        systemMemberProvider.init();
+
+        // when
+        Member first = systemMemberProvider.getSystemMember();
+        Member second = systemMemberProvider.getSystemMember();
+
+        // then
+        assertThat(first).isSameAs(systemMember);
+        assertThat(second).isSameAs(systemMember);
+        verify(memberRepository, times(1)).existsById(SystemMemberProvider.SYSTEM_MEMBER_ID);
+    }
+
+    @DisplayName("system member가 없는 경우 예외가 발생하고, 이후 생성되면 reference를 반환해야 한다.")
+    @Test
+    void getSystemMemberRechecksWhenNotFound() {
+        // given
+        Member systemMember = mock(Member.class);
+        given(memberRepository.existsById(SystemMemberProvider.SYSTEM_MEMBER_ID)).willReturn(false, true);
+        given(memberRepository.getReferenceById(SystemMemberProvider.SYSTEM_MEMBER_ID)).willReturn(systemMember);
+
+        // when // then
+        assertThatThrownBy(systemMemberProvider::getSystemMember)
+                .isInstanceOf(ChatException.class)
+                .hasMessage(ErrorCode.SYSTEM_MEMBER_NOT_FOUND.getMessage());
+        assertThat(systemMemberProvider.getSystemMember()).isSameAs(systemMember);
+    }
+
+}
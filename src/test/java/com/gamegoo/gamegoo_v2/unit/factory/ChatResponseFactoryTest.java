@@ -1,11 +1,11 @@
 package com.gamegoo.gamegoo_v2.unit.factory;
 
-import com.gamegoo.gamegoo_v2.social.block.service.BlockService;
 import com.gamegoo.gamegoo_v2.chat.domain.Chat;
 import com.gamegoo.gamegoo_v2.chat.domain.Chatroom;
 import com.gamegoo.gamegoo_v2.chat.dto.ChatResponseFactory;
 import com.gamegoo.gamegoo_v2.chat.dto.response.ChatMessageListResponse;
 import com.gamegoo.gamegoo_v2.chat.dto.response.EnterChatroomResponse;
+import com.gamegoo.gamegoo_v2.social.friend.domain.RelationshipStatus;
 import com.gamegoo.gamegoo_v2.social.friend.service.FriendService;
 import com.gamegoo.gamegoo_v2.account.member.domain.LoginType;
 import com.gamegoo.gamegoo_v2.account.member.domain.Member;
@@ -37,9 +37,6 @@ class ChatResponseFactoryTest {
     @Mock
     private FriendService friendService;
 
-    @Mock
-    private BlockService blockService;
-
     @InjectMocks
     private ChatResponseFactory chatResponseFactory;
 
@@ -174,9 +171,9 @@ class ChatResponseFactoryTest {
         @DisplayName("성공: 정상적으로 EnterChatroomResponse를 생성한다")
         void toEnterChatroomResponse_Success() {
             // given
-            when(friendService.isFriend(member, targetMember)).thenReturn(true);
-            when(blockService.isBlocked(member, targetMember)).thenReturn(false);
-            when(friendService.getFriendRequestMemberId(member, targetMember)).thenReturn(null);
+            when(friendService.getRelationshipStatus(member, targetMember)).thenReturn(
+                    RelationshipStatus.of(member.getId(), targetMember.getId(),
+                            RelationshipStatus.FRIEND | RelationshipStatus.FRIEND_OF_TARGET));
 
             // when
             EnterChatroomResponse response = chatResponseFactory.toEnterChatroomResponse(member, targetMember,
@@ -200,9 +197,8 @@ class ChatResponseFactoryTest {
             // given
             targetMember.updateBlind(true);
 
-            when(friendService.isFriend(member, targetMember)).thenReturn(false);
-            when(blockService.isBlocked(member, targetMember)).thenReturn(false);
-            when(friendService.getFriendRequestMemberId(member, targetMember)).thenReturn(null);
+            when(friendService.getRelationshipStatus(member, targetMember)).thenReturn(
+                    RelationshipStatus.none(member.getId(), targetMember.getId()));
 
             // when
             EnterChatroomResponse response = chatResponseFactory.toEnterChatroomResponse(member, targetMember,